@@ -2,8 +2,10 @@ package com.bootgussy.dancecenterservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class DanceCenterServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(DanceCenterServiceApplication.class, args);
@@ -0,0 +1,77 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.api.dto.response.CacheStatsResponseDto;
+import com.bootgussy.dancecenterservice.core.config.CacheConfig;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "API for inspecting and managing cache regions")
+public class CacheController {
+    private final CacheConfig cacheConfig;
+
+    public CacheController(CacheConfig cacheConfig) {
+        this.cacheConfig = cacheConfig;
+    }
+
+    @Operation(summary = "Get statistics for all cache regions")
+    @GetMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<CacheStatsResponseDto>> getStats() {
+        return ResponseEntity.ok(cacheConfig.getStats());
+    }
+
+    @Operation(summary = "Get statistics for a cache region")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found")
+    })
+    @GetMapping("/{region}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CacheStatsResponseDto> getRegionStats(
+            @Parameter(description = "Cache region", example = "group") @PathVariable String region) {
+        return ResponseEntity.ok(cacheConfig.getStats(region));
+    }
+
+    @Operation(summary = "Clear a cache region on every node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cache region cleared"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found")
+    })
+    @DeleteMapping("/{region}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<Void> clearRegion(
+            @Parameter(description = "Cache region", example = "group") @PathVariable String region) {
+        cacheConfig.clear(region);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Change the capacity of a cache region on this node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache region resized"),
+            @ApiResponse(responseCode = "400", description = "Invalid capacity or region can not be resized"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found")
+    })
+    @PutMapping("/{region}/capacity")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<CacheStatsResponseDto> resizeRegion(
+            @Parameter(description = "Cache region", example = "group") @PathVariable String region,
+            @Parameter(description = "Maximum number of entries", example = "5000") @RequestParam long capacity) {
+        cacheConfig.resize(region, capacity);
+        return ResponseEntity.ok(cacheConfig.getStats(region));
+    }
+}
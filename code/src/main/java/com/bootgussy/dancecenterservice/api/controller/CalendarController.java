@@ -0,0 +1,71 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.core.model.CalendarFeed;
+import com.bootgussy.dancecenterservice.core.service.CalendarService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/calendar")
+@Tag(name = "Calendar", description = "API for iCalendar schedule subscriptions")
+@RequiredArgsConstructor
+public class CalendarController {
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarService calendarService;
+
+    @Operation(summary = "Get trainer calendar",
+            description = "Retrieves the trainer's weekly sessions as an iCalendar feed; " +
+                    "answers 304 when If-None-Match carries the current ETag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Calendar not modified"),
+            @ApiResponse(responseCode = "404", description = "Trainer not found")
+    })
+    @GetMapping("/trainer/{trainerId}.ics")
+    public ResponseEntity<byte[]> findTrainerCalendar(
+            @Parameter(description = "Trainer's ID", example = "1") @PathVariable Long trainerId,
+            WebRequest webRequest) {
+        return toResponse(calendarService.findTrainerCalendar(trainerId), webRequest);
+    }
+
+    @Operation(summary = "Get student calendar",
+            description = "Retrieves the student's weekly sessions as an iCalendar feed; " +
+                    "answers 304 when If-None-Match carries the current ETag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Calendar not modified"),
+            @ApiResponse(responseCode = "404", description = "Student not found")
+    })
+    @GetMapping("/student/{studentId}.ics")
+    public ResponseEntity<byte[]> findStudentCalendar(
+            @Parameter(description = "Student's ID", example = "1") @PathVariable Long studentId,
+            WebRequest webRequest) {
+        return toResponse(calendarService.findStudentCalendar(studentId), webRequest);
+    }
+
+    private static ResponseEntity<byte[]> toResponse(CalendarFeed feed, WebRequest webRequest) {
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(TEXT_CALENDAR)
+                .body(feed.body());
+    }
+}
@@ -2,9 +2,13 @@ package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.GroupCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.GroupResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.GroupMapper;
 import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
 import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +18,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,7 +28,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/group")
@@ -32,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupController {
     private final GroupService groupService;
     private final GroupMapper groupMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get group by ID", description = "Retrieves a group by its ID")
     @ApiResponses(value = {
@@ -41,16 +49,53 @@ public class GroupController {
     @GetMapping("/{id}")
     public ResponseEntity<GroupResponseDto> findGroupById(
             @Parameter(description = "Group's ID", example = "1") @PathVariable Long id) {
-        Group group = groupService.findGroupById(id);
+        GroupSnapshot group = groupService.findGroupById(id);
         return ResponseEntity.ok(groupMapper.toResponseDto(group));
     }
 
+    @Operation(summary = "Get groups by IDs",
+            description = "Retrieves groups by their IDs in request order, skipping IDs that do not exist")
+    @ApiResponse(responseCode = "200", description = "Groups retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<GroupResponseDto>> findGroupsByIds(
+            @Parameter(description = "Comma-separated IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<GroupSnapshot> groups = groupService.findGroupsByIds(ids);
+        return ResponseEntity.ok(groupMapper.toSnapshotResponseDtoList(groups));
+    }
+
     @Operation(summary = "Get all groups", description = "Retrieves all groups")
     @ApiResponse(responseCode = "200", description = "Groups retrieved successfully")
     @GetMapping
     public ResponseEntity<List<GroupResponseDto>> findAllGroups() {
-        List<Group> groups = groupService.findAllGroups();
-        return ResponseEntity.ok(groupMapper.toResponseDtoList(groups));
+        List<GroupSnapshot> groups = groupService.findAllGroups();
+        return ResponseEntity.ok(groupMapper.toSnapshotResponseDtoList(groups));
+    }
+
+    @Operation(summary = "Get a page of groups",
+            description = "Retrieves groups in ID order, continuing after the cursor of the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Groups retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<GroupResponseDto>> findGroupsPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<GroupSnapshot> page = groupService.findGroupsPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<GroupResponseDto>builder()
+                .items(groupMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all groups",
+            description = "Streams every group in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Groups streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamGroups() {
+        return NdjsonResponses.stream(objectMapper, groupService::findGroupsPage,
+                groupMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Get groups by dance style",
@@ -59,8 +104,8 @@ public class GroupController {
     @GetMapping("/dance_style/{danceStyle}")
     public ResponseEntity<List<GroupResponseDto>> findAllGroupsByDanceStyle(
             @Parameter(description = "Dance style", example = "Ballet") @PathVariable String danceStyle) {
-        List<Group> groups = groupService.findAllGroupsByDanceStyle(danceStyle);
-        return ResponseEntity.ok(groupMapper.toResponseDtoList(groups));
+        List<GroupSnapshot> groups = groupService.findAllGroupsByDanceStyle(danceStyle);
+        return ResponseEntity.ok(groupMapper.toSnapshotResponseDtoList(groups));
     }
 
     @Operation(summary = "Create a new group", description = "Creates a new group")
@@ -2,9 +2,13 @@ package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.HallCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.HallResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.HallMapper;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
 import com.bootgussy.dancecenterservice.core.service.HallService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,6 +18,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,7 +28,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/hall")
@@ -32,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class HallController {
     private final HallService hallService;
     private final HallMapper hallMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get hall by ID", description = "Retrieves a hall by its ID")
     @ApiResponses(value = {
@@ -41,16 +49,52 @@ public class HallController {
     @GetMapping("/{id}")
     public ResponseEntity<HallResponseDto> findHallById(
             @Parameter(description = "Hall's ID", example = "1") @PathVariable Long id) {
-        Hall hall = hallService.findHallById(id);
+        HallSnapshot hall = hallService.findHallById(id);
         return ResponseEntity.ok(hallMapper.toResponseDto(hall));
     }
 
+    @Operation(summary = "Get halls by IDs",
+            description = "Retrieves halls by their IDs in request order, skipping IDs that do not exist")
+    @ApiResponse(responseCode = "200", description = "Halls retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<HallResponseDto>> findHallsByIds(
+            @Parameter(description = "Comma-separated IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<HallSnapshot> halls = hallService.findHallsByIds(ids);
+        return ResponseEntity.ok(hallMapper.toSnapshotResponseDtoList(halls));
+    }
+
     @Operation(summary = "Get all halls", description = "Retrieves all halls")
     @ApiResponse(responseCode = "200", description = "Halls retrieved successfully")
     @GetMapping
     public ResponseEntity<List<HallResponseDto>> findAllHalls() {
-        List<Hall> halls = hallService.findAllHalls();
-        return ResponseEntity.ok(hallMapper.toResponseDtoList(halls));
+        List<HallSnapshot> halls = hallService.findAllHalls();
+        return ResponseEntity.ok(hallMapper.toSnapshotResponseDtoList(halls));
+    }
+
+    @Operation(summary = "Get a page of halls",
+            description = "Retrieves halls in ID order, continuing after the cursor of the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Halls retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<HallResponseDto>> findHallsPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<HallSnapshot> page = hallService.findHallsPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<HallResponseDto>builder()
+                .items(hallMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all halls",
+            description = "Streams every hall in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Halls streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamHalls() {
+        return NdjsonResponses.stream(objectMapper, hallService::findHallsPage, hallMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Create a new hall", description = "Creates a new hall")
@@ -0,0 +1,45 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Streams a keyset listing as JSON lines. Each batch is read in its own short
+// transaction and flushed before the next one, so neither the heap nor a
+// database connection is held for the length of a slow download.
+final class NdjsonResponses {
+    static final int BATCH_SIZE = KeysetPage.MAX_LIMIT;
+
+    private NdjsonResponses() {
+    }
+
+    static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper,
+                                                           BiFunction<Integer, String, KeysetPage<T>> pages,
+                                                           Function<List<T>, ? extends List<?>> toResponseDtos) {
+        StreamingResponseBody body = output -> {
+            String cursor = null;
+            do {
+                KeysetPage<T> page = pages.apply(BATCH_SIZE, cursor);
+                for (Object responseDto : toResponseDtos.apply(page.items())) {
+                    writeLine(objectMapper, output, responseDto);
+                }
+                output.flush();
+                cursor = page.nextCursor();
+            } while (cursor != null);
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    static void writeLine(ObjectMapper objectMapper, OutputStream output, Object value) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write('\n');
+    }
+}
@@ -0,0 +1,53 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.api.dto.response.ReconciliationStatsResponseDto;
+import com.bootgussy.dancecenterservice.core.service.impl.ProfileReconciliationJob;
+import com.bootgussy.dancecenterservice.core.service.impl.ReconciliationStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reconciliation")
+@Tag(name = "Reconciliation", description = "API for the user role and profile reconciliation job")
+public class ReconciliationController {
+    private final ProfileReconciliationJob profileReconciliationJob;
+
+    public ReconciliationController(ProfileReconciliationJob profileReconciliationJob) {
+        this.profileReconciliationJob = profileReconciliationJob;
+    }
+
+    @Operation(summary = "Get reconciliation statistics of this node")
+    @GetMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ReconciliationStatsResponseDto> getStats() {
+        return ResponseEntity.ok(toResponseDto(profileReconciliationJob.getStats()));
+    }
+
+    @Operation(summary = "Run reconciliation now on this node")
+    @PostMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ReconciliationStatsResponseDto> reconcile() {
+        profileReconciliationJob.reconcile();
+        return ResponseEntity.ok(toResponseDto(profileReconciliationJob.getStats()));
+    }
+
+    private static ReconciliationStatsResponseDto toResponseDto(ReconciliationStats stats) {
+        return ReconciliationStatsResponseDto.builder()
+                .runs(stats.getRuns())
+                .failures(stats.getFailures())
+                .studentsCreated(stats.getStudentsCreated())
+                .trainersCreated(stats.getTrainersCreated())
+                .studentsWithoutRole(stats.getStudentsWithoutRole())
+                .trainersWithoutRole(stats.getTrainersWithoutRole())
+                .lastRunAt(stats.getRuns() > 0 ? Instant.ofEpochMilli(stats.getLastRunEpochMillis()) : null)
+                .lastRunMillis(stats.getLastRunNanos() / 1_000_000.0)
+                .build();
+    }
+}
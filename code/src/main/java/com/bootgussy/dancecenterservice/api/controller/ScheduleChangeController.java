@@ -0,0 +1,40 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.core.service.ScheduleChangeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Changes", description = "API for following schedule, group and hall changes")
+@RequiredArgsConstructor
+public class ScheduleChangeController {
+    private final ScheduleChangeService scheduleChangeService;
+
+    @Operation(summary = "Follow schedule changes",
+            description = "Streams committed schedule item, group membership and hall changes as " +
+                    "Server-Sent Events. Every given filter must match; a user ID follows that " +
+                    "student's or trainer's groups")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Change stream opened"),
+            @ApiResponse(responseCode = "404", description = "User is neither a student nor a trainer")
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter followChanges(
+            @Parameter(description = "Hall ID", example = "1") @RequestParam(required = false) Long hallId,
+            @Parameter(description = "Group ID", example = "1") @RequestParam(required = false) Long groupId,
+            @Parameter(description = "Trainer ID", example = "1") @RequestParam(required = false) Long trainerId,
+            @Parameter(description = "User ID", example = "1") @RequestParam(required = false) Long userId) {
+        return scheduleChangeService.subscribe(hallId, groupId, trainerId, userId);
+    }
+}
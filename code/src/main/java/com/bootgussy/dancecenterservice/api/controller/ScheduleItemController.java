@@ -1,10 +1,20 @@
 package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.ScheduleItemCreateDto;
+import com.bootgussy.dancecenterservice.api.dto.response.FreeSlotResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.HallTimetableResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.ScheduleItemResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.ScheduleItemMapper;
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.FreeSlot;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.SessionOccurrence;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
 import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,7 +22,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,8 +34,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/schedule_item")
@@ -32,6 +51,7 @@ import java.util.List;
 public class ScheduleItemController {
     private final ScheduleItemService scheduleItemService;
     private final ScheduleItemMapper scheduleItemMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get schedule item by ID", description = "Retrieves a schedule item by its ID")
     @ApiResponses(value = {
@@ -41,16 +61,53 @@ public class ScheduleItemController {
     @GetMapping("/{id}")
     public ResponseEntity<ScheduleItemResponseDto> findScheduleItemById(
             @Parameter(description = "Schedule item's ID", example = "1") @PathVariable Long id) {
-        ScheduleItem scheduleItem = scheduleItemService.findScheduleItemById(id);
+        ScheduleItemSnapshot scheduleItem = scheduleItemService.findScheduleItemById(id);
         return ResponseEntity.ok(scheduleItemMapper.toResponseDto(scheduleItem));
     }
 
+    @Operation(summary = "Get schedule items by IDs",
+            description = "Retrieves schedule items by their IDs in request order, skipping IDs that do not exist")
+    @ApiResponse(responseCode = "200", description = "Schedule items retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ScheduleItemResponseDto>> findScheduleItemsByIds(
+            @Parameter(description = "Comma-separated IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<ScheduleItemSnapshot> scheduleItems = scheduleItemService.findScheduleItemsByIds(ids);
+        return ResponseEntity.ok(scheduleItemMapper.toSnapshotResponseDtoList(scheduleItems));
+    }
+
     @Operation(summary = "Get all schedule items", description = "Retrieves all schedule items")
     @ApiResponse(responseCode = "200", description = "Schedule items retrieved successfully")
     @GetMapping
     public ResponseEntity<List<ScheduleItemResponseDto>> findAllScheduleItems() {
-        List<ScheduleItem> scheduleItems = scheduleItemService.findAllScheduleItems();
-        return ResponseEntity.ok(scheduleItemMapper.toResponseDtoList(scheduleItems));
+        List<ScheduleItemSnapshot> scheduleItems = scheduleItemService.findAllScheduleItems();
+        return ResponseEntity.ok(scheduleItemMapper.toSnapshotResponseDtoList(scheduleItems));
+    }
+
+    @Operation(summary = "Get a page of schedule items",
+            description = "Retrieves schedule items in ID order, continuing after the cursor of the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Schedule items retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<ScheduleItemResponseDto>> findScheduleItemsPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<ScheduleItemSnapshot> page = scheduleItemService.findScheduleItemsPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<ScheduleItemResponseDto>builder()
+                .items(scheduleItemMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all schedule items",
+            description = "Streams every schedule item in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Schedule items streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamScheduleItems() {
+        return NdjsonResponses.stream(objectMapper, scheduleItemService::findScheduleItemsPage,
+                scheduleItemMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Get schedule items by group",
@@ -59,8 +116,76 @@ public class ScheduleItemController {
     @GetMapping("/group/{groupId}")
     public ResponseEntity<List<ScheduleItemResponseDto>> findAllScheduleItemsByGroup(
             @Parameter(description = "Group id", example = "0") @PathVariable Long groupId) {
-        List<ScheduleItem> scheduleItems = scheduleItemService.findAllScheduleItemsByGroup(groupId);
-        return ResponseEntity.ok(scheduleItemMapper.toResponseDtoList(scheduleItems));
+        List<ScheduleItemSnapshot> scheduleItems = scheduleItemService.findAllScheduleItemsByGroup(groupId);
+        return ResponseEntity.ok(scheduleItemMapper.toSnapshotResponseDtoList(scheduleItems));
+    }
+
+    @Operation(summary = "Find free hall slots",
+            description = "Lists free time ranges of at least the given duration for each hall and day")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Free slots retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid duration, time window or day of week")
+    })
+    @GetMapping("/free_slots")
+    public ResponseEntity<List<FreeSlotResponseDto>> findFreeSlots(
+            @Parameter(description = "Minimum slot length in minutes", example = "60")
+            @RequestParam int duration,
+            @Parameter(description = "Window start", example = "08:00")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @Parameter(description = "Window end", example = "22:00")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+            @Parameter(description = "Comma-separated days, all days if omitted", example = "Monday,Wednesday")
+            @RequestParam(required = false) List<String> days,
+            @Parameter(description = "Comma-separated hall IDs, all halls if omitted", example = "1,2")
+            @RequestParam(required = false) List<Long> hallIds) {
+        List<DayOfWeek> daysOfWeek = days != null
+                ? days.stream().map(DayOfWeekConverter::parse).toList()
+                : null;
+        List<FreeSlot> freeSlots = scheduleItemService.findFreeSlots(duration, from, to, daysOfWeek, hallIds);
+        return ResponseEntity.ok(scheduleItemMapper.toFreeSlotResponseDtoList(freeSlots));
+    }
+
+    @Operation(summary = "Get weekly timetable by hall",
+            description = "Retrieves each hall's weekly timetable, ordered by day and start time")
+    @ApiResponse(responseCode = "200", description = "Timetables retrieved successfully")
+    @GetMapping("/timetable")
+    public ResponseEntity<List<HallTimetableResponseDto>> findHallTimetables(
+            @Parameter(description = "Comma-separated hall IDs, all halls if omitted", example = "1,2")
+            @RequestParam(required = false) List<Long> hallIds) {
+        List<HallTimetable> timetables = scheduleItemService.findHallTimetables(hallIds);
+        return ResponseEntity.ok(scheduleItemMapper.toHallTimetableResponseDtoList(timetables));
+    }
+
+    @Operation(summary = "Expand sessions over a date range",
+            description = "Streams every dated session of the matching schedule items between the two dates, " +
+                    "inclusive, as JSON lines ordered by date and start time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    @GetMapping(value = "/occurrences", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> expandOccurrences(
+            @Parameter(description = "First date", example = "2025-09-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last date", example = "2026-05-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Hall ID", example = "1") @RequestParam(required = false) Long hallId,
+            @Parameter(description = "Group ID", example = "1") @RequestParam(required = false) Long groupId,
+            @Parameter(description = "Trainer ID", example = "1") @RequestParam(required = false) Long trainerId,
+            @Parameter(description = "Student ID", example = "1") @RequestParam(required = false) Long studentId) {
+        Stream<SessionOccurrence> occurrences = scheduleItemService.expandOccurrences(from, to,
+                hallId, groupId, trainerId, studentId);
+
+        StreamingResponseBody body = output -> {
+            try (occurrences) {
+                Iterator<SessionOccurrence> iterator = occurrences.iterator();
+                while (iterator.hasNext()) {
+                    NdjsonResponses.writeLine(objectMapper, output,
+                            scheduleItemMapper.toSessionOccurrenceResponseDto(iterator.next()));
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @Operation(summary = "Create a new schedule item", description = "Creates a new schedule item")
@@ -93,9 +218,7 @@ public class ScheduleItemController {
     public ResponseEntity<List<ScheduleItemResponseDto>> createMultipleScheduleItems(
             @Parameter(description = "Data to create multiple schedule items")
             @Valid @RequestBody List<ScheduleItemCreateDto> createDtos) {
-        List<ScheduleItem> scheduleItems = createDtos.stream()
-                .map(scheduleItemMapper::toEntity)
-                .toList();
+        List<ScheduleItem> scheduleItems = scheduleItemMapper.toEntityList(createDtos);
 
         List<ScheduleItem> createdScheduleItems = scheduleItemService
                 .createMultipleScheduleItems(scheduleItems);
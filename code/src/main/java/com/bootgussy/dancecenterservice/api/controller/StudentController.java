@@ -1,12 +1,16 @@
 package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.StudentCreateDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.StudentDashboardResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.StudentResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.StudentMapper;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Student;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
 import com.bootgussy.dancecenterservice.core.model.User;
 import com.bootgussy.dancecenterservice.core.service.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,7 +30,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/student")
@@ -34,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class StudentController {
     private final StudentService studentService;
     private final StudentMapper studentMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get student by ID", description = "Retrieves a student by their ID")
     @ApiResponses(value = {
@@ -43,16 +51,54 @@ public class StudentController {
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponseDto> findStudentById(
             @Parameter(description = "Student's ID", example = "1") @PathVariable Long id) {
-        Student student = studentService.findStudentById(id);
+        StudentSnapshot student = studentService.findStudentById(id);
         return ResponseEntity.ok(studentMapper.toResponseDto(student));
     }
 
+    @Operation(summary = "Get students by IDs",
+            description = "Retrieves students by their IDs in request order, skipping IDs that do not exist")
+    @ApiResponse(responseCode = "200", description = "Students retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<StudentResponseDto>> findStudentsByIds(
+            @Parameter(description = "Comma-separated IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<StudentSnapshot> students = studentService.findStudentsByIds(ids);
+        return ResponseEntity.ok(studentMapper.toSnapshotResponseDtoList(students));
+    }
+
     @Operation(summary = "Get all students", description = "Retrieves all students")
     @ApiResponse(responseCode = "200", description = "Students retrieved successfully")
     @GetMapping
     public ResponseEntity<List<StudentResponseDto>> findAllStudents() {
-        List<Student> students = studentService.findAllStudents();
-        return ResponseEntity.ok(studentMapper.toResponseDtoList(students));
+        List<StudentSnapshot> students = studentService.findAllStudents();
+        return ResponseEntity.ok(studentMapper.toSnapshotResponseDtoList(students));
+    }
+
+    @Operation(summary = "Get a page of students",
+            description = "Retrieves up to limit students ordered by ID, starting after the given cursor; " +
+                    "nextCursor is absent on the last page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Students retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<StudentResponseDto>> findStudentsPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<StudentSnapshot> page = studentService.findStudentsPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<StudentResponseDto>builder()
+                .items(studentMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all students",
+            description = "Streams every student in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Students streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStudents() {
+        return NdjsonResponses.stream(objectMapper, studentService::findStudentsPage,
+                studentMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Create a new student", description = "Creates a new student")
@@ -0,0 +1,60 @@
+package com.bootgussy.dancecenterservice.api.controller;
+
+import com.bootgussy.dancecenterservice.api.dto.create.TimetableRequestDto;
+import com.bootgussy.dancecenterservice.api.dto.response.TimetableResponseDto;
+import com.bootgussy.dancecenterservice.core.mapper.TimetableMapper;
+import com.bootgussy.dancecenterservice.core.model.Timetable;
+import com.bootgussy.dancecenterservice.core.service.TimetableService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/timetable")
+@Tag(name = "Timetable", description = "API for building the weekly timetable automatically")
+@RequiredArgsConstructor
+public class TimetableController {
+    private static final int DEFAULT_STEP = 30;
+    private static final long DEFAULT_TIME_BUDGET_MILLIS = 2000;
+
+    private final TimetableService timetableService;
+    private final TimetableMapper timetableMapper;
+
+    @Operation(summary = "Solve the weekly timetable",
+            description = "Places the requested weekly sessions of each group into the given time windows " +
+                    "without hall, trainer or student overlaps, and optionally saves the result")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Timetable solved, fully or partially"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "404", description = "Group or hall not found"),
+            @ApiResponse(responseCode = "409", description = "Schedule changed while the result was being saved")
+    })
+    @PostMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TimetableResponseDto> solveTimetable(
+            @Parameter(description = "Sessions, time windows and solver settings")
+            @Valid @RequestBody TimetableRequestDto requestDto) {
+        Timetable timetable = timetableService.solveTimetable(
+                timetableMapper.toSessionList(requestDto.getSessions()),
+                timetableMapper.toWindowList(requestDto.getWindows()),
+                Objects.requireNonNullElse(requestDto.getStep(), DEFAULT_STEP),
+                Duration.ofMillis(Objects.requireNonNullElse(requestDto.getTimeBudgetMillis(),
+                        DEFAULT_TIME_BUDGET_MILLIS)),
+                Objects.requireNonNullElse(requestDto.getParallelism(),
+                        Runtime.getRuntime().availableProcessors()),
+                requestDto.isCommit());
+        return ResponseEntity.ok(timetableMapper.toResponseDto(timetable));
+    }
+}
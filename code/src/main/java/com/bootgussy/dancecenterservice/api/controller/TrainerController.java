@@ -1,12 +1,16 @@
 package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.TrainerCreateDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.TrainerDashboardResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.TrainerResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.TrainerMapper;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
 import com.bootgussy.dancecenterservice.core.model.User;
 import com.bootgussy.dancecenterservice.core.service.TrainerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,7 +30,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/trainer")
@@ -34,6 +41,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TrainerController {
     private final TrainerService trainerService;
     private final TrainerMapper trainerMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get trainer by ID", description = "Retrieves a trainer by their ID")
     @ApiResponses(value = {
@@ -43,16 +51,54 @@ public class TrainerController {
     @GetMapping("/{id}")
     public ResponseEntity<TrainerResponseDto> findTrainerById(
             @Parameter(description = "Trainer's ID", example = "1") @PathVariable Long id) {
-        Trainer trainer = trainerService.findTrainerById(id);
+        TrainerSnapshot trainer = trainerService.findTrainerById(id);
         return ResponseEntity.ok(trainerMapper.toResponseDto(trainer));
     }
 
+    @Operation(summary = "Get trainers by IDs",
+            description = "Retrieves trainers by their IDs in request order, skipping IDs that do not exist")
+    @ApiResponse(responseCode = "200", description = "Trainers retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<TrainerResponseDto>> findTrainersByIds(
+            @Parameter(description = "Comma-separated IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<TrainerSnapshot> trainers = trainerService.findTrainersByIds(ids);
+        return ResponseEntity.ok(trainerMapper.toSnapshotResponseDtoList(trainers));
+    }
+
     @Operation(summary = "Get all trainers", description = "Retrieves all trainers")
     @ApiResponse(responseCode = "200", description = "Trainers retrieved successfully")
     @GetMapping
     public ResponseEntity<List<TrainerResponseDto>> findAllTrainers() {
-        List<Trainer> trainers = trainerService.findAllTrainers();
-        return ResponseEntity.ok(trainerMapper.toResponseDtoList(trainers));
+        List<TrainerSnapshot> trainers = trainerService.findAllTrainers();
+        return ResponseEntity.ok(trainerMapper.toSnapshotResponseDtoList(trainers));
+    }
+
+    @Operation(summary = "Get a page of trainers",
+            description = "Retrieves up to limit trainers ordered by ID, starting after the given cursor; " +
+                    "nextCursor is absent on the last page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Trainers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<TrainerResponseDto>> findTrainersPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<TrainerSnapshot> page = trainerService.findTrainersPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<TrainerResponseDto>builder()
+                .items(trainerMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all trainers",
+            description = "Streams every trainer in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Trainers streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTrainers() {
+        return NdjsonResponses.stream(objectMapper, trainerService::findTrainersPage,
+                trainerMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Create a new trainer", description = "Creates a new trainer")
@@ -1,10 +1,14 @@
 package com.bootgussy.dancecenterservice.api.controller;
 
 import com.bootgussy.dancecenterservice.api.dto.create.UserCreateDto;
+import com.bootgussy.dancecenterservice.api.dto.response.PageResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.UserResponseDto;
 import com.bootgussy.dancecenterservice.core.mapper.UserMapper;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.UserSnapshot;
 import com.bootgussy.dancecenterservice.core.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,7 +27,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,6 +40,7 @@ import java.util.List;
 public class UserController {
     private final UserService userService;
     private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Get user by ID", description = "Retrieves a user by its ID")
     @ApiResponses(value = {
@@ -42,7 +50,7 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<UserResponseDto> findGroupById(
             @Parameter(description = "User's ID", example = "1") @PathVariable Long id) {
-        User user = userService.findById(id);
+        UserSnapshot user = userService.findUserById(id);
         return ResponseEntity.ok(userMapper.toResponseDto(user));
     }
 
@@ -50,8 +58,34 @@ public class UserController {
     @ApiResponse(responseCode = "200", description = "Users retrieved successfully")
     @GetMapping
     public ResponseEntity<List<UserResponseDto>> findAllGroups() {
-        List<User> users = userService.findAllUsers();
-        return ResponseEntity.ok(userMapper.toResponseDtoList(users));
+        List<UserSnapshot> users = userService.findAllUsers();
+        return ResponseEntity.ok(userMapper.toSnapshotResponseDtoList(users));
+    }
+
+    @Operation(summary = "Get a page of users",
+            description = "Retrieves users in ID order, continuing after the cursor of the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor")
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponseDto<UserResponseDto>> findUsersPage(
+            @Parameter(description = "Page size, at most " + KeysetPage.MAX_LIMIT, example = "50")
+            @RequestParam int limit,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor) {
+        KeysetPage<UserSnapshot> page = userService.findUsersPage(limit, cursor);
+        return ResponseEntity.ok(PageResponseDto.<UserResponseDto>builder()
+                .items(userMapper.toSnapshotResponseDtoList(page.items()))
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    @Operation(summary = "Stream all users",
+            description = "Streams every user in ID order as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Users streamed successfully")
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return NdjsonResponses.stream(objectMapper, userService::findUsersPage, userMapper::toSnapshotResponseDtoList);
     }
 
     @Operation(summary = "Get user by phone number", description = "Retrieves a user by its phone number")
@@ -62,7 +96,7 @@ public class UserController {
     @GetMapping("/phone/{phoneNumber}")
     public ResponseEntity<UserResponseDto> getUserByPhoneNumber(
             @Parameter(description = "User's phone number", example = "+375295174041") @PathVariable String phoneNumber) {
-        User user = userService.findByPhoneNumber(phoneNumber);
+        UserSnapshot user = userService.findUserByPhoneNumber(phoneNumber);
         return ResponseEntity.ok(userMapper.toResponseDto(user));
     }
 
@@ -0,0 +1,27 @@
+package com.bootgussy.dancecenterservice.api.dto.create;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimetableRequestDto {
+    private List<TimetableSessionDto> sessions;
+
+    private List<TimetableWindowDto> windows;
+
+    private Integer step;
+
+    private Long timeBudgetMillis;
+
+    private Integer parallelism;
+
+    private boolean commit;
+}
@@ -0,0 +1,23 @@
+package com.bootgussy.dancecenterservice.api.dto.create;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimetableSessionDto {
+    private Long groupId;
+
+    private Integer sessionsPerWeek;
+
+    private Integer duration;
+
+    private List<Long> hallIds;
+}
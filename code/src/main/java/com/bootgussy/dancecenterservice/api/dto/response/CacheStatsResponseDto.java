@@ -0,0 +1,36 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsResponseDto {
+    private String region;
+
+    private String storage;
+
+    private Long hits;
+
+    private Long misses;
+
+    private Double hitRate;
+
+    private Long loads;
+
+    private Double averageLoadMillis;
+
+    private Long evictions;
+
+    private Long invalidations;
+
+    private Long size;
+
+    private Long capacity;
+}
@@ -0,0 +1,29 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HallTimetableEntryResponseDto {
+    private Long id;
+
+    private Long groupId;
+
+    private String groupDifficulty;
+
+    private Long trainerId;
+
+    private String dayOfWeek;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+}
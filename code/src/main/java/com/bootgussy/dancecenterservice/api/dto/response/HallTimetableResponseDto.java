@@ -0,0 +1,21 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HallTimetableResponseDto {
+    private Long hallId;
+
+    private String hallName;
+
+    private List<HallTimetableEntryResponseDto> entries;
+}
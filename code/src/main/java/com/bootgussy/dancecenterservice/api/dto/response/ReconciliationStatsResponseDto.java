@@ -0,0 +1,31 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReconciliationStatsResponseDto {
+    private Long runs;
+
+    private Long failures;
+
+    private Long studentsCreated;
+
+    private Long trainersCreated;
+
+    private Long studentsWithoutRole;
+
+    private Long trainersWithoutRole;
+
+    private Instant lastRunAt;
+
+    private Double lastRunMillis;
+}
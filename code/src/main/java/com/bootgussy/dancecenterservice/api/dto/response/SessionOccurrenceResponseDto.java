@@ -0,0 +1,32 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SessionOccurrenceResponseDto {
+    private Long scheduleItemId;
+
+    private Long hallId;
+
+    private Long groupId;
+
+    private Long trainerId;
+
+    private LocalDate date;
+
+    private String dayOfWeek;
+
+    private LocalTime startTime;
+
+    private LocalTime endTime;
+}
@@ -0,0 +1,29 @@
+package com.bootgussy.dancecenterservice.api.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimetableResponseDto {
+    private List<TimetableEntryResponseDto> entries;
+
+    private List<Long> unscheduledGroupIds;
+
+    private boolean complete;
+
+    private boolean committed;
+
+    private long solveMillis;
+
+    private int parallelism;
+
+    private long exploredStates;
+}
@@ -4,10 +4,12 @@ import java.util.concurrent.Executor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
@@ -19,4 +21,17 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // Each subscriber is drained by one task at a time, so a few threads serve
+    // every subscriber in order; a stuck client only ties up its own thread.
+    @Bean(name = "changeFeedExecutor")
+    public Executor changeFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("ChangeFeed-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,96 +1,360 @@
 package com.bootgussy.dancecenterservice.core.config;
 
-import com.bootgussy.dancecenterservice.core.model.Group;
-import com.bootgussy.dancecenterservice.core.model.Hall;
-import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
-import com.bootgussy.dancecenterservice.core.model.Student;
-import com.bootgussy.dancecenterservice.core.model.Trainer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.bootgussy.dancecenterservice.api.dto.response.CacheStatsResponseDto;
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CacheConfig {
-    private static final int MAX_GROUP_CACHE_SIZE = 100;
-    private static final int MAX_HALL_CACHE_SIZE = 100;
-    private static final int MAX_SCHEDULE_ITEM_CACHE_SIZE = 100;
-    private static final int MAX_STUDENT_CACHE_SIZE = 100;
-    private static final int MAX_TRAINER_CACHE_SIZE = 100;
-    private static final Logger LOGGER = LoggerFactory.getLogger(CacheConfig.class);
-
-    private final LruCache<Long, Group> groupCache =
-            new LruCache<>(MAX_GROUP_CACHE_SIZE);
-    private final LruCache<Long, Hall> hallCache =
-            new LruCache<>(MAX_HALL_CACHE_SIZE);
-    private final LruCache<Long, ScheduleItem> scheduleItemCache =
-            new LruCache<>(MAX_SCHEDULE_ITEM_CACHE_SIZE);
-    private final LruCache<Long, Student> studentCache =
-            new LruCache<>(MAX_STUDENT_CACHE_SIZE);
-    private final LruCache<Long, Trainer> trainerCache =
-            new LruCache<>(MAX_TRAINER_CACHE_SIZE);
-
-    public Group getGroup(Long id) {
-        LOGGER.info("Get group cache for {}", id);
+    private static final String GROUP_REGION = "group";
+    private static final String HALL_REGION = "hall";
+    private static final String SCHEDULE_ITEM_REGION = "schedule-item";
+    private static final String STUDENT_REGION = "student";
+    private static final String TRAINER_REGION = "trainer";
+    private static final String QUERY_REGION = "query";
+
+    private static final List<String> GROUP_LIST_REGIONS = List.of(
+            GROUP_REGION, TRAINER_REGION, STUDENT_REGION, SCHEDULE_ITEM_REGION);
+    private static final List<String> HALL_LIST_REGIONS = List.of(HALL_REGION, SCHEDULE_ITEM_REGION);
+    private static final List<String> SCHEDULE_ITEM_LIST_REGIONS = List.of(
+            SCHEDULE_ITEM_REGION, HALL_REGION, GROUP_REGION);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper;
+
+    private final TwoTierCache<GroupSnapshot> groupCache;
+    private final TwoTierCache<HallSnapshot> hallCache;
+    private final TwoTierCache<ScheduleItemSnapshot> scheduleItemCache;
+    private final TwoTierCache<StudentSnapshot> studentCache;
+    private final TwoTierCache<TrainerSnapshot> trainerCache;
+    private final Map<String, TwoTierCache<?>> regions;
+    private final QueryCache queryCache;
+    private final CacheDependencyGraph dependencies;
+
+    @Autowired
+    public CacheConfig(CacheProperties cacheProperties,
+                       SharedCacheTier sharedCacheTier,
+                       ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.groupCache = createCache(GROUP_REGION, GroupSnapshot.class, cacheProperties, sharedCacheTier);
+        this.hallCache = createCache(HALL_REGION, HallSnapshot.class, cacheProperties, sharedCacheTier);
+        this.scheduleItemCache = createCache(SCHEDULE_ITEM_REGION, ScheduleItemSnapshot.class,
+                cacheProperties, sharedCacheTier);
+        this.studentCache = createCache(STUDENT_REGION, StudentSnapshot.class,
+                cacheProperties, sharedCacheTier);
+        this.trainerCache = createCache(TRAINER_REGION, TrainerSnapshot.class,
+                cacheProperties, sharedCacheTier);
+        this.regions = Map.of(
+                groupCache.getRegion(), groupCache,
+                hallCache.getRegion(), hallCache,
+                scheduleItemCache.getRegion(), scheduleItemCache,
+                studentCache.getRegion(), studentCache,
+                trainerCache.getRegion(), trainerCache
+        );
+        this.queryCache = new QueryCache(QUERY_REGION, cacheProperties.region(QUERY_REGION));
+        this.dependencies = new CacheDependencyGraph()
+                .cascade(hallCache, scheduleItemCache,
+                        HallSnapshot::scheduleItemIds, scheduleItem -> idsOf(scheduleItem.hallId()))
+                .cascade(trainerCache, groupCache,
+                        TrainerSnapshot::groupIds, group -> idsOf(group.trainerId()))
+                .cascade(groupCache, scheduleItemCache,
+                        GroupSnapshot::scheduleItemIds, scheduleItem -> idsOf(scheduleItem.groupId()))
+                .reference(studentCache, groupCache,
+                        StudentSnapshot::groupIds, GroupSnapshot::studentIds);
+
+        sharedCacheTier.subscribe(this::onInvalidation);
+    }
+
+    private <V> TwoTierCache<V> createCache(String region,
+                                            Class<V> type,
+                                            CacheProperties cacheProperties,
+                                            SharedCacheTier sharedCacheTier) {
+        CacheProperties.Region properties = cacheProperties.region(region);
+        return new TwoTierCache<>(region, type, properties, createNearCache(type, properties),
+                sharedCacheTier, nodeId);
+    }
+
+    private <V> NearCache<Long, V> createNearCache(Class<V> type, CacheProperties.Region properties) {
+        if (properties.getStorage() == CacheProperties.Storage.OFF_HEAP) {
+            return new OffHeapCache<>(type, objectMapper, properties.getOffHeapSize(),
+                    properties.getSegmentSize(), properties.getTtl());
+        }
+
+        return new EntityCache<>(properties.getMaxSize(), properties.getTtl());
+    }
+
+    private static List<Long> idsOf(Long id) {
+        return id != null ? List.of(id) : List.of();
+    }
+
+    private void invalidateDependents(TwoTierCache<?> cache,
+                                      Long id,
+                                      Object previous,
+                                      Object current,
+                                      boolean deleted) {
+        queryCache.bump(cache.getRegion());
+        dependencies.invalidate(cache, id, previous, current, deleted).forEach(queryCache::bump);
+    }
+
+    private TwoTierCache<?> findRegion(String region) {
+        TwoTierCache<?> cache = regions.get(region);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Cache region not found. Region: " + region);
+        }
+
+        return cache;
+    }
+
+    private void onInvalidation(String origin, String region, String key) {
+        if (nodeId.equals(origin)) {
+            return;
+        }
+
+        TwoTierCache<?> cache = regions.get(region);
+        if (cache != null) {
+            cache.evictLocal(key);
+            queryCache.bump(region);
+        }
+    }
+
+    public GroupSnapshot getGroup(Long id) {
         return groupCache.get(id);
     }
 
-    public void putGroup(Long id, Group group) {
+    public GroupSnapshot getGroup(Long id, Function<Long, GroupSnapshot> loader) {
+        return groupCache.get(id, loader);
+    }
+
+    public Map<Long, GroupSnapshot> getGroups(Collection<Long> ids,
+                                              Function<Set<Long>, Map<Long, GroupSnapshot>> loader) {
+        return groupCache.getAll(ids, loader);
+    }
+
+    public void cacheGroup(Long id, GroupSnapshot group) {
+        groupCache.fill(id, group);
+    }
+
+    public void putGroup(Long id, GroupSnapshot group) {
+        GroupSnapshot previous = groupCache.peek(id);
         groupCache.put(id, group);
+        invalidateDependents(groupCache, id, previous, group, false);
     }
 
     public void removeGroup(Long id) {
+        GroupSnapshot previous = groupCache.peek(id);
         groupCache.remove(id);
+        invalidateDependents(groupCache, id, previous, null, false);
+    }
+
+    public void deleteGroup(GroupSnapshot group) {
+        groupCache.remove(group.id());
+        invalidateDependents(groupCache, group.id(), group, null, true);
     }
 
-    public Hall getHall(Long id) {
-        LOGGER.info("Get hall cache for {}", id);
+    public List<GroupSnapshot> getGroupList(String query, Object parameter, Supplier<List<GroupSnapshot>> loader) {
+        return queryCache.get(query, parameter, GROUP_LIST_REGIONS, loader);
+    }
+
+    public HallSnapshot getHall(Long id) {
         return hallCache.get(id);
     }
 
-    public void putHall(Long id, Hall hall) {
+    public HallSnapshot getHall(Long id, Function<Long, HallSnapshot> loader) {
+        return hallCache.get(id, loader);
+    }
+
+    public Map<Long, HallSnapshot> getHalls(Collection<Long> ids,
+                                            Function<Set<Long>, Map<Long, HallSnapshot>> loader) {
+        return hallCache.getAll(ids, loader);
+    }
+
+    public void cacheHall(Long id, HallSnapshot hall) {
+        hallCache.fill(id, hall);
+    }
+
+    public void putHall(Long id, HallSnapshot hall) {
+        HallSnapshot previous = hallCache.peek(id);
         hallCache.put(id, hall);
+        invalidateDependents(hallCache, id, previous, hall, false);
     }
 
     public void removeHall(Long id) {
+        HallSnapshot previous = hallCache.peek(id);
         hallCache.remove(id);
+        invalidateDependents(hallCache, id, previous, null, false);
+    }
+
+    public void deleteHall(HallSnapshot hall) {
+        hallCache.remove(hall.id());
+        invalidateDependents(hallCache, hall.id(), hall, null, true);
     }
 
-    public ScheduleItem getScheduleItem(Long id) {
-        LOGGER.info("Get schedule item cache for {}", id);
+    public List<HallSnapshot> getHallList(String query, Object parameter, Supplier<List<HallSnapshot>> loader) {
+        return queryCache.get(query, parameter, HALL_LIST_REGIONS, loader);
+    }
+
+    public ScheduleItemSnapshot getScheduleItem(Long id) {
         return scheduleItemCache.get(id);
     }
 
-    public void putScheduleItem(Long id, ScheduleItem scheduleItem) {
+    public ScheduleItemSnapshot getScheduleItem(Long id, Function<Long, ScheduleItemSnapshot> loader) {
+        return scheduleItemCache.get(id, loader);
+    }
+
+    public Map<Long, ScheduleItemSnapshot> getScheduleItems(Collection<Long> ids,
+                                                            Function<Set<Long>, Map<Long, ScheduleItemSnapshot>> loader) {
+        return scheduleItemCache.getAll(ids, loader);
+    }
+
+    public void cacheScheduleItem(Long id, ScheduleItemSnapshot scheduleItem) {
+        scheduleItemCache.fill(id, scheduleItem);
+    }
+
+    public void putScheduleItem(Long id, ScheduleItemSnapshot scheduleItem) {
+        ScheduleItemSnapshot previous = scheduleItemCache.peek(id);
         scheduleItemCache.put(id, scheduleItem);
+        invalidateDependents(scheduleItemCache, id, previous, scheduleItem, false);
     }
 
     public void removeScheduleItem(Long id) {
+        ScheduleItemSnapshot previous = scheduleItemCache.peek(id);
         scheduleItemCache.remove(id);
+        invalidateDependents(scheduleItemCache, id, previous, null, false);
+    }
+
+    public void deleteScheduleItem(ScheduleItemSnapshot scheduleItem) {
+        scheduleItemCache.remove(scheduleItem.id());
+        invalidateDependents(scheduleItemCache, scheduleItem.id(), scheduleItem, null, true);
     }
 
-    public Student getStudent(Long id) {
-        LOGGER.info("Get student cache for {}", id);
+    public List<ScheduleItemSnapshot> getScheduleItemList(String query,
+                                                          Object parameter,
+                                                          Supplier<List<ScheduleItemSnapshot>> loader) {
+        return queryCache.get(query, parameter, SCHEDULE_ITEM_LIST_REGIONS, loader);
+    }
+
+    public StudentSnapshot getStudent(Long id) {
         return studentCache.get(id);
     }
 
-    public void putStudent(Long id, Student student) {
+    public StudentSnapshot getStudent(Long id, Function<Long, StudentSnapshot> loader) {
+        return studentCache.get(id, loader);
+    }
+
+    public Map<Long, StudentSnapshot> getStudents(Collection<Long> ids,
+                                                  Function<Set<Long>, Map<Long, StudentSnapshot>> loader) {
+        return studentCache.getAll(ids, loader);
+    }
+
+    public void cacheStudent(Long id, StudentSnapshot student) {
+        studentCache.fill(id, student);
+    }
+
+    public void putStudent(Long id, StudentSnapshot student) {
+        StudentSnapshot previous = studentCache.peek(id);
         studentCache.put(id, student);
+        invalidateDependents(studentCache, id, previous, student, false);
     }
 
     public void removeStudent(Long id) {
+        StudentSnapshot previous = studentCache.peek(id);
         studentCache.remove(id);
+        invalidateDependents(studentCache, id, previous, null, false);
+    }
+
+    public void deleteStudent(StudentSnapshot student) {
+        studentCache.remove(student.id());
+        invalidateDependents(studentCache, student.id(), student, null, true);
     }
 
-    public Trainer getTrainer(Long id) {
-        LOGGER.info("Get trainer cache for {}", id);
+    public TrainerSnapshot getTrainer(Long id) {
         return trainerCache.get(id);
     }
 
-    public void putTrainer(Long id, Trainer trainer) {
+    public TrainerSnapshot getTrainer(Long id, Function<Long, TrainerSnapshot> loader) {
+        return trainerCache.get(id, loader);
+    }
+
+    public Map<Long, TrainerSnapshot> getTrainers(Collection<Long> ids,
+                                                  Function<Set<Long>, Map<Long, TrainerSnapshot>> loader) {
+        return trainerCache.getAll(ids, loader);
+    }
+
+    public void cacheTrainer(Long id, TrainerSnapshot trainer) {
+        trainerCache.fill(id, trainer);
+    }
+
+    public void putTrainer(Long id, TrainerSnapshot trainer) {
+        TrainerSnapshot previous = trainerCache.peek(id);
         trainerCache.put(id, trainer);
+        invalidateDependents(trainerCache, id, previous, trainer, false);
     }
 
     public void removeTrainer(Long id) {
+        TrainerSnapshot previous = trainerCache.peek(id);
         trainerCache.remove(id);
+        invalidateDependents(trainerCache, id, previous, null, false);
+    }
+
+    public void deleteTrainer(TrainerSnapshot trainer) {
+        trainerCache.remove(trainer.id());
+        invalidateDependents(trainerCache, trainer.id(), trainer, null, true);
+    }
+
+    public List<CacheStatsResponseDto> getStats() {
+        List<CacheStatsResponseDto> stats = new ArrayList<>();
+        for (TwoTierCache<?> cache : List.of(groupCache, hallCache, scheduleItemCache, studentCache, trainerCache)) {
+            stats.add(cache.stats());
+        }
+        stats.add(queryCache.stats());
+
+        return stats;
+    }
+
+    public CacheStatsResponseDto getStats(String region) {
+        if (QUERY_REGION.equals(region)) {
+            return queryCache.stats();
+        }
+
+        return findRegion(region).stats();
+    }
+
+    public void clear(String region) {
+        if (QUERY_REGION.equals(region)) {
+            queryCache.clear();
+            return;
+        }
+
+        findRegion(region).clear();
+        queryCache.bump(region);
+    }
+
+    public void resize(String region, long capacity) {
+        if (capacity <= 0) {
+            throw new IncorrectDataException("Cache capacity must be positive. Capacity: " + capacity);
+        }
+
+        boolean resized = QUERY_REGION.equals(region)
+                ? queryCache.resize(capacity)
+                : findRegion(region).resize(capacity);
+        if (!resized) {
+            throw new IncorrectDataException("Cache region can not be resized at runtime. Region: " + region);
+        }
     }
 }
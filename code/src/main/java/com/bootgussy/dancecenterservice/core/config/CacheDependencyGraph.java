@@ -0,0 +1,158 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+// Edges mirror the foreign keys held by the snapshots: a parent lists its
+// children's ids and each child points back at its parents. Mutations evict
+// only the entries whose id lists actually change, and deletes follow the
+// JPA cascades so children of a removed parent are dropped as well.
+public class CacheDependencyGraph {
+    private final List<Dependency<?, ?>> dependencies = new ArrayList<>();
+
+    public <P, C> CacheDependencyGraph cascade(TwoTierCache<P> parent,
+                                               TwoTierCache<C> child,
+                                               Function<P, Collection<Long>> childIds,
+                                               Function<C, Collection<Long>> parentIds) {
+        dependencies.add(new Dependency<>(parent, child, childIds, parentIds, true));
+        return this;
+    }
+
+    public <P, C> CacheDependencyGraph reference(TwoTierCache<P> parent,
+                                                 TwoTierCache<C> child,
+                                                 Function<P, Collection<Long>> childIds,
+                                                 Function<C, Collection<Long>> parentIds) {
+        dependencies.add(new Dependency<>(parent, child, childIds, parentIds, false));
+        return this;
+    }
+
+    public Set<String> invalidate(TwoTierCache<?> cache,
+                                  Long id,
+                                  Object previous,
+                                  Object current,
+                                  boolean deleted) {
+        Invalidation invalidation = new Invalidation();
+        invalidation.deleted.add(cache.getRegion() + ":" + id);
+        invalidation.propagate(cache, id, previous, current, deleted);
+
+        return invalidation.changedRegions;
+    }
+
+    private class Invalidation {
+        private final Set<String> evicted = new HashSet<>();
+        private final Set<String> deleted = new HashSet<>();
+        private final Set<String> changedRegions = new HashSet<>();
+
+        private void propagate(TwoTierCache<?> cache, Long id, Object previous, Object current, boolean isDeleted) {
+            for (Dependency<?, ?> dependency : dependencies) {
+                if (dependency.parent == cache) {
+                    for (Long childId : dependency.childrenOf(id, previous, current)) {
+                        if (isDeleted && dependency.cascadeDelete) {
+                            delete(dependency.child, childId);
+                        } else {
+                            evict(dependency.child, childId);
+                        }
+                    }
+                }
+                if (dependency.child == cache) {
+                    for (Long parentId : dependency.parentsOf(id, previous, current)) {
+                        evict(dependency.parent, parentId);
+                    }
+                }
+            }
+        }
+
+        private void evict(TwoTierCache<?> cache, Long id) {
+            String key = cache.getRegion() + ":" + id;
+            if (deleted.contains(key) || !evicted.add(key)) {
+                return;
+            }
+
+            cache.remove(id);
+            changedRegions.add(cache.getRegion());
+        }
+
+        private void delete(TwoTierCache<?> cache, Long id) {
+            String key = cache.getRegion() + ":" + id;
+            if (!deleted.add(key)) {
+                return;
+            }
+
+            Object previous = cache.peek(id);
+            if (evicted.add(key)) {
+                cache.remove(id);
+            }
+            changedRegions.add(cache.getRegion());
+            propagate(cache, id, previous, null, true);
+        }
+    }
+
+    private static final class Dependency<P, C> {
+        private final TwoTierCache<P> parent;
+        private final TwoTierCache<C> child;
+        private final Function<P, Collection<Long>> childIds;
+        private final Function<C, Collection<Long>> parentIds;
+        private final boolean cascadeDelete;
+
+        private Dependency(TwoTierCache<P> parent,
+                           TwoTierCache<C> child,
+                           Function<P, Collection<Long>> childIds,
+                           Function<C, Collection<Long>> parentIds,
+                           boolean cascadeDelete) {
+            this.parent = parent;
+            this.child = child;
+            this.childIds = childIds;
+            this.parentIds = parentIds;
+            this.cascadeDelete = cascadeDelete;
+        }
+
+        private Set<Long> childrenOf(Long parentId, Object previous, Object current) {
+            Set<Long> ids = changedIds(childIds, parent.getType(), previous, current);
+            if (previous == null || current == null) {
+                for (Map.Entry<Long, C> entry : child.localEntries().entrySet()) {
+                    if (parentIds.apply(entry.getValue()).contains(parentId)) {
+                        ids.add(entry.getKey());
+                    }
+                }
+            }
+
+            return ids;
+        }
+
+        private Set<Long> parentsOf(Long childId, Object previous, Object current) {
+            Set<Long> ids = changedIds(parentIds, child.getType(), previous, current);
+            if (previous == null || current == null) {
+                for (Map.Entry<Long, P> entry : parent.localEntries().entrySet()) {
+                    if (childIds.apply(entry.getValue()).contains(childId)) {
+                        ids.add(entry.getKey());
+                    }
+                }
+            }
+
+            return ids;
+        }
+
+        private static <T> Set<Long> changedIds(Function<T, Collection<Long>> ids,
+                                                Class<T> type,
+                                                Object previous,
+                                                Object current) {
+            Set<Long> previousIds = previous != null ? new HashSet<>(ids.apply(type.cast(previous))) : Set.of();
+            Set<Long> currentIds = current != null ? new HashSet<>(ids.apply(type.cast(current))) : Set.of();
+
+            Set<Long> changed = new HashSet<>(previousIds);
+            changed.addAll(currentIds);
+            if (previous != null && current != null) {
+                Set<Long> unchanged = new HashSet<>(previousIds);
+                unchanged.retainAll(currentIds);
+                changed.removeAll(unchanged);
+            }
+
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+    private String sharedTier = "redis";
+
+    private Region defaults = Region.builtIn();
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    // A region only overrides the settings it names; everything else comes
+    // from the defaults.
+    public Region region(String name) {
+        Region region = regions.get(name);
+        return region != null ? region.over(defaults) : defaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+        private Long maxSize;
+
+        private Duration ttl;
+
+        private Duration negativeTtl;
+
+        private Boolean shared;
+
+        private Storage storage;
+
+        private DataSize offHeapSize;
+
+        private DataSize segmentSize;
+
+        static Region builtIn() {
+            Region region = new Region();
+            region.setMaxSize(1000L);
+            region.setTtl(Duration.ofMinutes(10));
+            region.setNegativeTtl(Duration.ofSeconds(30));
+            region.setShared(true);
+            region.setStorage(Storage.HEAP);
+            region.setOffHeapSize(DataSize.ofMegabytes(64));
+            region.setSegmentSize(DataSize.ofMegabytes(1));
+            return region;
+        }
+
+        Region over(Region defaults) {
+            Region merged = new Region();
+            merged.setMaxSize(maxSize != null ? maxSize : defaults.getMaxSize());
+            merged.setTtl(ttl != null ? ttl : defaults.getTtl());
+            merged.setNegativeTtl(negativeTtl != null ? negativeTtl : defaults.getNegativeTtl());
+            merged.setShared(shared != null ? shared : defaults.getShared());
+            merged.setStorage(storage != null ? storage : defaults.getStorage());
+            merged.setOffHeapSize(offHeapSize != null ? offHeapSize : defaults.getOffHeapSize());
+            merged.setSegmentSize(segmentSize != null ? segmentSize : defaults.getSegmentSize());
+            return merged;
+        }
+    }
+
+    public enum Storage {
+        HEAP,
+        OFF_HEAP
+    }
+}
@@ -0,0 +1,48 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public void recordLoad(long nanos) {
+        loads.increment();
+        loadTimeNanos.add(nanos);
+    }
+
+    public void recordInvalidation() {
+        invalidations.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getLoadTimeNanos() {
+        return loadTimeNanos.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+}
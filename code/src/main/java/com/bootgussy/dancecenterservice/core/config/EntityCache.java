@@ -0,0 +1,75 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Caffeine keeps reads lock-free and admits new entries through a TinyLFU
+// frequency sketch, so one-off scans do not flush frequently used entries.
+public class EntityCache<K, V> implements NearCache<K, V> {
+    private final Cache<K, V> cache;
+    private final LongAdder evictions = new LongAdder();
+
+    public EntityCache(long maxSize, Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((key, value, cause) -> evictions.increment())
+                .build();
+    }
+
+    @Override
+    public V get(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        return cache.get(key, loader);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void remove(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public Map<K, V> asMap() {
+        return Collections.unmodifiableMap(cache.asMap());
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public long capacity() {
+        return cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(-1L);
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public boolean resize(long capacity) {
+        cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(capacity));
+        return true;
+    }
+}
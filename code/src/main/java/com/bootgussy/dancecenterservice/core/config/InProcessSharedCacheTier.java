@@ -0,0 +1,80 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.cache", name = "shared-tier", havingValue = "in-process")
+public class InProcessSharedCacheTier implements SharedCacheTier {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, List<TopicListener>> topicListeners = new ConcurrentHashMap<>();
+
+    @Override
+    public <V> V get(String region, String key, Class<V> type) {
+        Entry entry = entries.get(region + ":" + key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.nanoTime()) {
+            entries.remove(region + ":" + key, entry);
+            return null;
+        }
+        return type.isInstance(entry.value()) ? type.cast(entry.value()) : null;
+    }
+
+    @Override
+    public <V> Map<String, V> getAll(String region, List<String> keys, Class<V> type) {
+        Map<String, V> values = new HashMap<>();
+        for (String key : keys) {
+            V value = get(region, key, type);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String region, String key, Object value, Duration ttl) {
+        entries.put(region + ":" + key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void remove(String region, String key) {
+        entries.remove(region + ":" + key);
+    }
+
+    @Override
+    public void publishInvalidation(String origin, String region, String key) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidation(origin, region, key);
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publish(String topic, String message) {
+        for (TopicListener listener : topicListeners.getOrDefault(topic, List.of())) {
+            listener.onMessage(message);
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, TopicListener listener) {
+        topicListeners.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -1,35 +0,0 @@
-package com.bootgussy.dancecenterservice.core.config;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-public class LruCache<K, V> {
-    private final Map<K, V> cache;
-
-    public LruCache(int maxSize) {
-        this.cache = new LinkedHashMap<>(maxSize, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > maxSize;
-            }
-        };
-    }
-
-    public V get(K key) {
-        return cache.get(key);
-    }
-
-    public void put(K key, V value) {
-        cache.put(key, value);
-    }
-
-    public void remove(K key) {
-        cache.remove(key);
-    }
-
-    public Collection<V> getAll() {
-        return new ArrayList<>(cache.values());
-    }
-}
\ No newline at end of file
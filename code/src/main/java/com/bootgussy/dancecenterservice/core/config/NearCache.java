@@ -0,0 +1,23 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.util.Map;
+
+public interface NearCache<K, V> {
+    V get(K key);
+
+    void put(K key, V value);
+
+    void remove(K key);
+
+    Map<K, V> asMap();
+
+    void clear();
+
+    long size();
+
+    long capacity();
+
+    long evictionCount();
+
+    boolean resize(long capacity);
+}
@@ -0,0 +1,178 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+// Values are appended as JSON to a ring of direct ByteBuffer segments. When the
+// ring wraps, the oldest segment is reused and every entry in it is dropped, so
+// eviction is FIFO per segment and overwritten or removed values are reclaimed
+// only at that point. The heap keeps just the key index.
+public class OffHeapCache<K, V> implements NearCache<K, V> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OffHeapCache.class);
+
+    private final Class<V> type;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final int segmentSize;
+    private final ByteBuffer[] segments;
+    private final int[] generations;
+    private final Map<K, Slot> index = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder evictions = new LongAdder();
+    private int currentSegment;
+    private int writeOffset;
+
+    public OffHeapCache(Class<V> type,
+                        ObjectMapper objectMapper,
+                        DataSize capacity,
+                        DataSize segmentSize,
+                        Duration ttl) {
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.segmentSize = (int) Math.min(segmentSize.toBytes(), Integer.MAX_VALUE);
+        int segmentCount = (int) Math.max(2, capacity.toBytes() / this.segmentSize);
+        this.segments = new ByteBuffer[segmentCount];
+        this.generations = new int[segmentCount];
+        this.segments[0] = ByteBuffer.allocateDirect(this.segmentSize);
+    }
+
+    @Override
+    public V get(K key) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.expiresAt() - System.nanoTime() < 0) {
+            if (index.remove(key, slot)) {
+                evictions.increment();
+            }
+            return null;
+        }
+
+        byte[] bytes = new byte[slot.length()];
+        lock.readLock().lock();
+        try {
+            if (generations[slot.segment()] != slot.generation()) {
+                index.remove(key, slot);
+                return null;
+            }
+            segments[slot.segment()].get(slot.offset(), bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            LOGGER.warn("Off-heap cache read failed for {}: {}", key, e.getMessage());
+            index.remove(key, slot);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            LOGGER.warn("Off-heap cache write failed for {}: {}", key, e.getMessage());
+            index.remove(key);
+            return;
+        }
+        if (bytes.length > segmentSize) {
+            index.remove(key);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (writeOffset + bytes.length > segmentSize) {
+                rotate();
+            }
+            segments[currentSegment].put(writeOffset, bytes);
+            index.put(key, new Slot(currentSegment, generations[currentSegment], writeOffset, bytes.length,
+                    System.nanoTime() + ttlNanos));
+            writeOffset += bytes.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        index.remove(key);
+    }
+
+    @Override
+    public Map<K, V> asMap() {
+        Map<K, V> values = new HashMap<>();
+        for (K key : index.keySet()) {
+            V value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+    }
+
+    @Override
+    public long size() {
+        return index.size();
+    }
+
+    @Override
+    public long capacity() {
+        return (long) segments.length * segmentSize;
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public boolean resize(long capacity) {
+        return false;
+    }
+
+    private void rotate() {
+        currentSegment = (currentSegment + 1) % segments.length;
+        generations[currentSegment]++;
+        writeOffset = 0;
+        if (segments[currentSegment] == null) {
+            segments[currentSegment] = ByteBuffer.allocateDirect(segmentSize);
+        }
+
+        int segment = currentSegment;
+        int generation = generations[segment];
+        index.values().removeIf(slot -> {
+            if (slot.segment() == segment && slot.generation() != generation) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private record Slot(int segment, int generation, int offset, int length, long expiresAt) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import com.bootgussy.dancecenterservice.api.dto.response.CacheStatsResponseDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Results are keyed by the current version of every region the query reads, so
+// a bump makes older entries unreachable and they age out of the cache.
+public class QueryCache {
+    private final String region;
+    private final EntityCache<String, List<?>> results;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final CacheStats stats = new CacheStats();
+
+    public QueryCache(String region, CacheProperties.Region properties) {
+        this.region = region;
+        this.results = new EntityCache<>(properties.getMaxSize(), properties.getTtl());
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> List<V> get(String query,
+                           Object parameter,
+                           Collection<String> regions,
+                           Supplier<List<V>> loader) {
+        StringBuilder key = new StringBuilder(query).append('(').append(parameter).append(')');
+        for (String dependency : regions) {
+            key.append(':').append(dependency).append('=').append(version(dependency));
+        }
+
+        boolean[] loaded = new boolean[1];
+        List<?> result = results.get(key.toString(), k -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            List<V> values = List.copyOf(loader.get());
+            stats.recordLoad(System.nanoTime() - start);
+            return values;
+        });
+        if (loaded[0]) {
+            stats.recordMiss();
+        } else {
+            stats.recordHit();
+        }
+
+        return (List<V>) result;
+    }
+
+    public long version(String region) {
+        return versions.computeIfAbsent(region, r -> new AtomicLong()).get();
+    }
+
+    public void bump(String region) {
+        versions.computeIfAbsent(region, r -> new AtomicLong()).incrementAndGet();
+        stats.recordInvalidation();
+    }
+
+    public void clear() {
+        results.clear();
+    }
+
+    public boolean resize(long capacity) {
+        return results.resize(capacity);
+    }
+
+    public CacheStatsResponseDto stats() {
+        long hits = stats.getHits();
+        long misses = stats.getMisses();
+        long loads = stats.getLoads();
+
+        return CacheStatsResponseDto.builder()
+                .region(region)
+                .storage(CacheProperties.Storage.HEAP.name())
+                .hits(hits)
+                .misses(misses)
+                .hitRate(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0)
+                .loads(loads)
+                .averageLoadMillis(loads > 0 ? stats.getLoadTimeNanos() / 1_000_000.0 / loads : 0.0)
+                .evictions(results.evictionCount())
+                .invalidations(stats.getInvalidations())
+                .size(results.size())
+                .capacity(results.capacity())
+                .build();
+    }
+}
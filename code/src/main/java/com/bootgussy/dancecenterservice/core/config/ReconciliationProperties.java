@@ -0,0 +1,19 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.reconciliation")
+public class ReconciliationProperties {
+    private boolean enabled = true;
+
+    private Duration interval = Duration.ofMinutes(5);
+
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    private int chunkSize = 500;
+}
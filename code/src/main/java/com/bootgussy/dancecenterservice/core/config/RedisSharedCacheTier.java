@@ -0,0 +1,143 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "app.cache", name = "shared-tier", havingValue = "redis", matchIfMissing = true)
+public class RedisSharedCacheTier implements SharedCacheTier, MessageListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedisSharedCacheTier.class);
+    private static final String KEY_PREFIX = "cache:";
+    private static final String CHANNEL = "cache:invalidation";
+    private static final String TOPIC_PREFIX = "topic:";
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public RedisSharedCacheTier(StringRedisTemplate stringRedisTemplate,
+                                ObjectMapper objectMapper,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void registerListener() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public <V> V get(String region, String key, Class<V> type) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + region + ":" + key);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            LOGGER.warn("Shared cache read failed for {}:{}: {}", region, key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public <V> Map<String, V> getAll(String region, List<String> keys, Class<V> type) {
+        Map<String, V> values = new HashMap<>();
+        try {
+            List<String> jsons = stringRedisTemplate.opsForValue()
+                    .multiGet(keys.stream().map(key -> KEY_PREFIX + region + ":" + key).toList());
+            if (jsons == null) {
+                return values;
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                if (jsons.get(i) != null) {
+                    values.put(keys.get(i), objectMapper.readValue(jsons.get(i), type));
+                }
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            LOGGER.warn("Shared cache multi-read failed for {}: {}", region, e.getMessage());
+        }
+        return values;
+    }
+
+    @Override
+    public void put(String region, String key, Object value, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + region + ":" + key,
+                    objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            LOGGER.warn("Shared cache write failed for {}:{}: {}", region, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(String region, String key) {
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + region + ":" + key);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Shared cache delete failed for {}:{}: {}", region, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishInvalidation(String origin, String region, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, origin + SEPARATOR + region + SEPARATOR + key);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cache invalidation publish failed for {}:{}: {}", region, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publish(String topic, String message) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC_PREFIX + topic, message);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Publish failed for topic {}: {}", topic, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, TopicListener listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TOPIC_PREFIX + topic));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            LOGGER.warn("Ignoring malformed cache invalidation message");
+            return;
+        }
+
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidation(parts[0], parts[1], parts[2]);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public interface SharedCacheTier {
+    <V> V get(String region, String key, Class<V> type);
+
+    <V> Map<String, V> getAll(String region, List<String> keys, Class<V> type);
+
+    void put(String region, String key, Object value, Duration ttl);
+
+    void remove(String region, String key);
+
+    void publishInvalidation(String origin, String region, String key);
+
+    void subscribe(InvalidationListener listener);
+
+    // Topics carry application messages on their own channel, apart from the
+    // invalidations that every cache listens to.
+    void publish(String topic, String message);
+
+    void subscribe(String topic, TopicListener listener);
+
+    @FunctionalInterface
+    interface InvalidationListener {
+        void onInvalidation(String origin, String region, String key);
+    }
+
+    @FunctionalInterface
+    interface TopicListener {
+        void onMessage(String message);
+    }
+}
@@ -0,0 +1,276 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import com.bootgussy.dancecenterservice.api.dto.response.CacheStatsResponseDto;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class TwoTierCache<V> {
+    private static final String ALL_KEYS = "*";
+
+    private final String region;
+    private final Class<V> type;
+    private final CacheProperties.Region properties;
+    private final NearCache<Long, V> nearCache;
+    private final EntityCache<Long, Boolean> missingIds;
+    private final Map<Long, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final CacheStats stats = new CacheStats();
+    private final AtomicLong modifications = new AtomicLong();
+    private final SharedCacheTier sharedTier;
+    private final boolean shared;
+    private final Duration ttl;
+    private final String nodeId;
+
+    public TwoTierCache(String region,
+                        Class<V> type,
+                        CacheProperties.Region properties,
+                        NearCache<Long, V> nearCache,
+                        SharedCacheTier sharedTier,
+                        String nodeId) {
+        this.region = region;
+        this.type = type;
+        this.properties = properties;
+        this.nearCache = nearCache;
+        this.missingIds = new EntityCache<>(properties.getMaxSize(), properties.getNegativeTtl());
+        this.sharedTier = sharedTier;
+        this.shared = properties.getShared();
+        this.ttl = properties.getTtl();
+        this.nodeId = nodeId;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public Class<V> getType() {
+        return type;
+    }
+
+    public Map<Long, V> localEntries() {
+        return nearCache.asMap();
+    }
+
+    public V get(Long id) {
+        V value = peek(id);
+        if (value != null) {
+            stats.recordHit();
+        } else {
+            stats.recordMiss();
+        }
+
+        return value;
+    }
+
+    public V peek(Long id) {
+        V value = nearCache.get(id);
+        if (value != null || !shared) {
+            return value;
+        }
+
+        value = sharedTier.get(region, id.toString(), type);
+        if (value != null) {
+            nearCache.put(id, value);
+        }
+
+        return value;
+    }
+
+    // Concurrent misses for the same id share one loader call; ids the loader
+    // reports as missing are remembered for the negative TTL.
+    public V get(Long id, Function<Long, V> loader) {
+        V value = nearCache.get(id);
+        if (value != null || missingIds.get(id) != null) {
+            stats.recordHit();
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existingLoad = inFlightLoads.putIfAbsent(id, load);
+        if (existingLoad != null) {
+            stats.recordMiss();
+            return await(existingLoad);
+        }
+
+        try {
+            value = peek(id);
+            boolean fromSharedTier = value != null;
+            if (fromSharedTier) {
+                stats.recordHit();
+            } else {
+                stats.recordMiss();
+                long start = System.nanoTime();
+                value = loader.apply(id);
+                stats.recordLoad(System.nanoTime() - start);
+            }
+
+            if (inFlightLoads.remove(id, load) && !fromSharedTier) {
+                if (value != null) {
+                    fill(id, value);
+                } else {
+                    missingIds.put(id, Boolean.TRUE);
+                }
+            }
+            load.complete(value);
+
+            return value;
+        } catch (RuntimeException e) {
+            inFlightLoads.remove(id, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Ids missing from both tiers are loaded in one call. If a write lands while
+    // the batch is loading, the results are returned but not cached.
+    public Map<Long, V> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, V>> loader) {
+        Map<Long, V> values = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (values.containsKey(id) || missing.contains(id)) {
+                continue;
+            }
+
+            V value = nearCache.get(id);
+            if (value != null) {
+                values.put(id, value);
+                stats.recordHit();
+            } else if (missingIds.get(id) != null) {
+                stats.recordHit();
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty() && shared) {
+            Map<String, V> sharedValues = sharedTier.getAll(region,
+                    missing.stream().map(String::valueOf).toList(), type);
+            for (Map.Entry<String, V> entry : sharedValues.entrySet()) {
+                Long id = Long.valueOf(entry.getKey());
+                nearCache.put(id, entry.getValue());
+                values.put(id, entry.getValue());
+                missing.remove(id);
+                stats.recordHit();
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            missing.forEach(id -> stats.recordMiss());
+            long modificationsBeforeLoad = modifications.get();
+            long start = System.nanoTime();
+            Map<Long, V> loaded = loader.apply(missing);
+            stats.recordLoad(System.nanoTime() - start);
+
+            boolean cacheable = modifications.get() == modificationsBeforeLoad;
+            for (Long id : missing) {
+                V value = loaded.get(id);
+                if (value != null) {
+                    values.put(id, value);
+                    if (cacheable) {
+                        fill(id, value);
+                    }
+                } else if (cacheable) {
+                    missingIds.put(id, Boolean.TRUE);
+                }
+            }
+        }
+
+        return values;
+    }
+
+    public void fill(Long id, V value) {
+        missingIds.remove(id);
+        nearCache.put(id, value);
+        if (shared) {
+            sharedTier.put(region, id.toString(), value, ttl);
+        }
+    }
+
+    public void put(Long id, V value) {
+        modifications.incrementAndGet();
+        inFlightLoads.remove(id);
+        fill(id, value);
+        stats.recordInvalidation();
+        sharedTier.publishInvalidation(nodeId, region, id.toString());
+    }
+
+    public void remove(Long id) {
+        modifications.incrementAndGet();
+        inFlightLoads.remove(id);
+        missingIds.remove(id);
+        nearCache.remove(id);
+        if (shared) {
+            sharedTier.remove(region, id.toString());
+        }
+        stats.recordInvalidation();
+        sharedTier.publishInvalidation(nodeId, region, id.toString());
+    }
+
+    public void clear() {
+        clearLocal();
+        sharedTier.publishInvalidation(nodeId, region, ALL_KEYS);
+    }
+
+    public boolean resize(long capacity) {
+        return nearCache.resize(capacity);
+    }
+
+    public void evictLocal(String key) {
+        if (ALL_KEYS.equals(key)) {
+            clearLocal();
+            return;
+        }
+
+        Long id = Long.valueOf(key);
+        modifications.incrementAndGet();
+        inFlightLoads.remove(id);
+        missingIds.remove(id);
+        nearCache.remove(id);
+        stats.recordInvalidation();
+    }
+
+    public CacheStatsResponseDto stats() {
+        long hits = stats.getHits();
+        long misses = stats.getMisses();
+        long loads = stats.getLoads();
+
+        return CacheStatsResponseDto.builder()
+                .region(region)
+                .storage(properties.getStorage().name())
+                .hits(hits)
+                .misses(misses)
+                .hitRate(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0)
+                .loads(loads)
+                .averageLoadMillis(loads > 0 ? stats.getLoadTimeNanos() / 1_000_000.0 / loads : 0.0)
+                .evictions(nearCache.evictionCount())
+                .invalidations(stats.getInvalidations())
+                .size(nearCache.size())
+                .capacity(nearCache.capacity())
+                .build();
+    }
+
+    private void clearLocal() {
+        modifications.incrementAndGet();
+        inFlightLoads.clear();
+        missingIds.clear();
+        nearCache.clear();
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.bootgussy.dancecenterservice.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmUpProperties {
+    private boolean enabled = true;
+
+    private int iterations = 200;
+
+    private int sampleSize = 10;
+}
@@ -2,15 +2,28 @@ package com.bootgussy.dancecenterservice.core.mapper;
 
 import com.bootgussy.dancecenterservice.api.dto.create.GroupCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.GroupResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.ScheduleItemResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.StudentResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.TrainerResponseDto;
 import com.bootgussy.dancecenterservice.core.model.Group;
 import com.bootgussy.dancecenterservice.core.model.Student;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import com.bootgussy.dancecenterservice.core.service.StudentService;
+import com.bootgussy.dancecenterservice.core.service.TrainerService;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.mapstruct.Named;
 import org.mapstruct.IterableMapping;
 
@@ -26,6 +39,15 @@ public abstract class GroupMapper {
     @Autowired
     protected TrainerRepository trainerRepository;
 
+    @Autowired
+    protected StudentService studentService;
+
+    @Autowired
+    protected TrainerService trainerService;
+
+    @Autowired
+    protected ScheduleItemService scheduleItemService;
+
     @Autowired
     @org.springframework.context.annotation.Lazy
     protected StudentMapper studentMapper;
@@ -58,6 +80,10 @@ public abstract class GroupMapper {
             expression = "java(scheduleItemMapper.toResponseDtoList(group.getScheduleItems()))")
     public abstract GroupResponseDto toResponseDto(Group group);
 
+    public GroupResponseDto toResponseDto(GroupSnapshot group) {
+        return toSnapshotResponseDtoList(List.of(group)).get(0);
+    }
+
     @IterableMapping(qualifiedByName = "full")
     public abstract List<GroupResponseDto> toResponseDtoList(List<Group> entities);
 
@@ -68,10 +94,79 @@ public abstract class GroupMapper {
     @Mapping(target = "trainer", expression = "java(trainerMapper.toResponseDto(group.getTrainer()))")
     public abstract GroupResponseDto toShallowResponseDto(Group group);
 
+    @Mapping(target = "scheduleItemsId", ignore = true)
+    @Mapping(target = "scheduleItems", ignore = true)
+    @Mapping(target = "students", expression = "java(mapStudentIdsToResponseDtos(group.studentIds()))")
+    @Mapping(target = "trainer",
+            expression = "java(trainerMapper.toResponseDto(trainerService.findTrainerById(group.trainerId())))")
+    public abstract GroupResponseDto toShallowResponseDto(GroupSnapshot group);
+
+    // Trainers, students, schedule items and halls of all the groups are read
+    // with one batched lookup each, so a list maps in a constant number of
+    // queries however many groups it holds.
+    public List<GroupResponseDto> toSnapshotResponseDtoList(List<GroupSnapshot> groups) {
+        Map<Long, TrainerResponseDto> trainers = trainerMapper.toSnapshotResponseDtoList(
+                        trainerService.findTrainersByIds(distinctIds(groups, group -> Stream.of(group.trainerId()))))
+                .stream()
+                .collect(Collectors.toMap(TrainerResponseDto::getId, Function.identity()));
+        Map<Long, StudentResponseDto> students = studentMapper.toSnapshotResponseDtoList(
+                        studentService.findStudentsByIds(distinctIds(groups, group -> group.studentIds().stream())))
+                .stream()
+                .collect(Collectors.toMap(StudentResponseDto::getId, Function.identity()));
+
+        Map<Long, GroupResponseDto> shallowGroups = new HashMap<>();
+        for (GroupSnapshot group : groups) {
+            shallowGroups.putIfAbsent(group.id(), GroupResponseDto.builder()
+                    .id(group.id())
+                    .difficulty(group.difficulty())
+                    .trainer(trainers.get(group.trainerId()))
+                    .students(pick(students, group.studentIds()))
+                    .build());
+        }
+
+        Map<Long, ScheduleItemResponseDto> scheduleItems = scheduleItemMapper.toSnapshotResponseDtoList(
+                        scheduleItemService.findScheduleItemsByIds(
+                                distinctIds(groups, group -> group.scheduleItemIds().stream())),
+                        shallowGroups)
+                .stream()
+                .collect(Collectors.toMap(ScheduleItemResponseDto::getId, Function.identity()));
+
+        return groups
+                .stream()
+                .map(group -> GroupResponseDto.builder()
+                        .id(group.id())
+                        .difficulty(group.difficulty())
+                        .trainer(trainers.get(group.trainerId()))
+                        .students(pick(students, group.studentIds()))
+                        .scheduleItemsId(group.scheduleItemIds())
+                        .scheduleItems(pick(scheduleItems, group.scheduleItemIds()))
+                        .build())
+                .toList();
+    }
+
+    private static List<Long> distinctIds(List<GroupSnapshot> groups, Function<GroupSnapshot, Stream<Long>> ids) {
+        return groups.stream()
+                .flatMap(ids)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static <T> List<T> pick(Map<Long, T> values, List<Long> ids) {
+        return ids.stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     protected Trainer mapTrainerIdToTrainer(Long trainerId) {
         return trainerRepository.findById(trainerId).orElse(null);
     }
 
+    protected List<StudentResponseDto> mapStudentIdsToResponseDtos(List<Long> studentIds) {
+        return studentMapper.toSnapshotResponseDtoList(studentService.findStudentsByIds(studentIds));
+    }
+
     protected List<Student> mapStudentsIdToStudents(List<Long> studentsId) {
         return studentsId
                 .stream()
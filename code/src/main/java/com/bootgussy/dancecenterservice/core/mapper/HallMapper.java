@@ -3,6 +3,7 @@ package com.bootgussy.dancecenterservice.core.mapper;
 import com.bootgussy.dancecenterservice.api.dto.create.HallCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.HallResponseDto;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
 import java.util.List;
 import org.mapstruct.Mapper;
@@ -24,5 +25,10 @@ public abstract class HallMapper {
                     "new ArrayList<>())")
     public abstract HallResponseDto toResponseDto(Hall hall);
 
+    @Mapping(target = "scheduleItemsId", source = "scheduleItemIds")
+    public abstract HallResponseDto toResponseDto(HallSnapshot hall);
+
     public abstract List<HallResponseDto> toResponseDtoList(List<Hall> halls);
+
+    public abstract List<HallResponseDto> toSnapshotResponseDtoList(List<HallSnapshot> halls);
 }
@@ -1,13 +1,31 @@
 package com.bootgussy.dancecenterservice.core.mapper;
 
 import com.bootgussy.dancecenterservice.api.dto.create.ScheduleItemCreateDto;
+import com.bootgussy.dancecenterservice.api.dto.response.FreeSlotResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.GroupResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.HallResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.HallTimetableEntryResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.HallTimetableResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.ScheduleItemResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.SessionOccurrenceResponseDto;
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.FreeSlot;
 import com.bootgussy.dancecenterservice.core.model.Group;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.SessionOccurrence;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.GroupRepository;
 import com.bootgussy.dancecenterservice.core.repository.HallRepository;
+import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
+import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +38,12 @@ public abstract class ScheduleItemMapper {
     @Autowired
     protected HallRepository hallRepository;
 
+    @Autowired
+    protected HallService hallService;
+
+    @Autowired
+    protected GroupService groupService;
+
     @Autowired
     protected HallMapper hallMapper;
 
@@ -31,15 +55,87 @@ public abstract class ScheduleItemMapper {
             expression = "java(mapHallIdToHall(scheduleItemCreateDto.getHallId()))")
     @Mapping(target = "group",
             expression = "java(mapGroupIdToGroup(scheduleItemCreateDto.getGroupId()))")
+    @Mapping(target = "startMinute", ignore = true)
+    @Mapping(target = "endMinute", ignore = true)
     public abstract ScheduleItem toEntity(ScheduleItemCreateDto scheduleItemCreateDto);
 
+    public List<ScheduleItem> toEntityList(List<ScheduleItemCreateDto> scheduleItemCreateDtos) {
+        Map<Long, Hall> halls = hallRepository.findAllById(scheduleItemCreateDtos.stream()
+                        .map(ScheduleItemCreateDto::getHallId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Hall::getId, Function.identity()));
+        Map<Long, Group> groups = groupRepository.findAllById(scheduleItemCreateDtos.stream()
+                        .map(ScheduleItemCreateDto::getGroupId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Group::getId, Function.identity()));
+
+        return scheduleItemCreateDtos
+                .stream()
+                .map(scheduleItemCreateDto -> ScheduleItem.builder()
+                        .hall(halls.get(scheduleItemCreateDto.getHallId()))
+                        .group(groups.get(scheduleItemCreateDto.getGroupId()))
+                        .dayOfWeek(mapDayOfWeek(scheduleItemCreateDto.getDayOfWeek()))
+                        .startTime(scheduleItemCreateDto.getStartTime())
+                        .endTime(scheduleItemCreateDto.getEndTime())
+                        .build())
+                .toList();
+    }
+
     @Mapping(target = "hall",
             expression = "java(hallMapper.toResponseDto(scheduleItem.getHall()))")
     @Mapping(target = "group", expression = "java(groupMapper.toShallowResponseDto(scheduleItem.getGroup()))")
     public abstract ScheduleItemResponseDto toResponseDto(ScheduleItem scheduleItem);
 
+    @Mapping(target = "hall",
+            expression = "java(hallMapper.toResponseDto(hallService.findHallById(scheduleItem.hallId())))")
+    @Mapping(target = "group",
+            expression = "java(groupMapper.toShallowResponseDto(groupService.findGroupById(scheduleItem.groupId())))")
+    public abstract ScheduleItemResponseDto toResponseDto(ScheduleItemSnapshot scheduleItem);
+
     public abstract List<ScheduleItemResponseDto> toResponseDtoList(List<ScheduleItem> scheduleItems);
 
+    public abstract FreeSlotResponseDto toFreeSlotResponseDto(FreeSlot freeSlot);
+
+    public abstract List<FreeSlotResponseDto> toFreeSlotResponseDtoList(List<FreeSlot> freeSlots);
+
+    public abstract HallTimetableEntryResponseDto toHallTimetableEntryResponseDto(HallTimetable.Entry entry);
+
+    public abstract HallTimetableResponseDto toHallTimetableResponseDto(HallTimetable hallTimetable);
+
+    public abstract List<HallTimetableResponseDto> toHallTimetableResponseDtoList(List<HallTimetable> hallTimetables);
+
+    @Mapping(target = "dayOfWeek", expression = "java(mapDayOfWeek(occurrence.date().getDayOfWeek()))")
+    public abstract SessionOccurrenceResponseDto toSessionOccurrenceResponseDto(SessionOccurrence occurrence);
+
+    public abstract List<ScheduleItemResponseDto> toSnapshotResponseDtoList(
+            List<ScheduleItemSnapshot> scheduleItems);
+
+    // For callers that have already mapped the items' groups; halls are read
+    // with one batched lookup.
+    public List<ScheduleItemResponseDto> toSnapshotResponseDtoList(List<ScheduleItemSnapshot> scheduleItems,
+                                                                   Map<Long, GroupResponseDto> groups) {
+        Map<Long, HallResponseDto> halls = hallMapper.toSnapshotResponseDtoList(hallService.findHallsByIds(
+                        scheduleItems.stream().map(ScheduleItemSnapshot::hallId).distinct().toList()))
+                .stream()
+                .collect(Collectors.toMap(HallResponseDto::getId, Function.identity()));
+
+        return scheduleItems
+                .stream()
+                .map(scheduleItem -> ScheduleItemResponseDto.builder()
+                        .id(scheduleItem.id())
+                        .hall(halls.get(scheduleItem.hallId()))
+                        .group(groups.get(scheduleItem.groupId()))
+                        .dayOfWeek(mapDayOfWeek(scheduleItem.dayOfWeek()))
+                        .startTime(scheduleItem.startTime())
+                        .endTime(scheduleItem.endTime())
+                        .build())
+                .toList();
+    }
+
     protected Group mapGroupIdToGroup(Long groupId) {
         return groupRepository.findById(groupId).orElse(null);
     }
@@ -47,4 +143,12 @@ public abstract class ScheduleItemMapper {
     protected Hall mapHallIdToHall(Long hallId) {
         return hallRepository.findById(hallId).orElse(null);
     }
+
+    protected DayOfWeek mapDayOfWeek(String dayOfWeek) {
+        return DayOfWeekConverter.parse(dayOfWeek);
+    }
+
+    protected String mapDayOfWeek(DayOfWeek dayOfWeek) {
+        return DayOfWeekConverter.format(dayOfWeek);
+    }
 }
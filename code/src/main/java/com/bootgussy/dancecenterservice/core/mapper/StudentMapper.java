@@ -4,6 +4,7 @@ import com.bootgussy.dancecenterservice.api.dto.create.StudentCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.StudentDashboardResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.StudentResponseDto;
 import com.bootgussy.dancecenterservice.core.model.Student;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.GroupRepository;
 import java.util.List;
 import org.mapstruct.Mapper;
@@ -31,8 +32,13 @@ public abstract class StudentMapper {
             "student.getGroups().stream().map(g -> g.getId()).toList() : new java.util.ArrayList<>())")
     public abstract StudentResponseDto toResponseDto(Student student);
 
+    @Mapping(target = "groupsId", source = "groupIds")
+    public abstract StudentResponseDto toResponseDto(StudentSnapshot student);
+
     public abstract List<StudentResponseDto> toResponseDtoList(List<Student> students);
 
+    public abstract List<StudentResponseDto> toSnapshotResponseDtoList(List<StudentSnapshot> students);
+
     @Mapping(target = "name", source = "user.name")
     @Mapping(target = "phoneNumber", source = "user.phoneNumber")
     @Mapping(target = "groups", expression = "java(groupMapper.toResponseDtoList(student.getGroups()))")
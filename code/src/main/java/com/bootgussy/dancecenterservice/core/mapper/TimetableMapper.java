@@ -0,0 +1,39 @@
+package com.bootgussy.dancecenterservice.core.mapper;
+
+import com.bootgussy.dancecenterservice.api.dto.create.TimetableSessionDto;
+import com.bootgussy.dancecenterservice.api.dto.create.TimetableWindowDto;
+import com.bootgussy.dancecenterservice.api.dto.response.TimetableEntryResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.TimetableResponseDto;
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.TimeWindow;
+import com.bootgussy.dancecenterservice.core.model.Timetable;
+import com.bootgussy.dancecenterservice.core.model.TimetableSession;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import java.time.DayOfWeek;
+import java.util.List;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public abstract class TimetableMapper {
+    public abstract TimetableSession toSession(TimetableSessionDto timetableSessionDto);
+
+    public abstract List<TimetableSession> toSessionList(List<TimetableSessionDto> timetableSessionDtos);
+
+    public abstract TimeWindow toWindow(TimetableWindowDto timetableWindowDto);
+
+    public abstract List<TimeWindow> toWindowList(List<TimetableWindowDto> timetableWindowDtos);
+
+    @Mapping(target = "entries", source = "scheduleItems")
+    public abstract TimetableResponseDto toResponseDto(Timetable timetable);
+
+    public abstract TimetableEntryResponseDto toEntryResponseDto(ScheduleItemSnapshot scheduleItem);
+
+    protected DayOfWeek mapDayOfWeek(String dayOfWeek) {
+        return DayOfWeekConverter.parse(dayOfWeek);
+    }
+
+    protected String mapDayOfWeek(DayOfWeek dayOfWeek) {
+        return DayOfWeekConverter.format(dayOfWeek);
+    }
+}
@@ -4,6 +4,7 @@ import com.bootgussy.dancecenterservice.api.dto.create.TrainerCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.TrainerDashboardResponseDto;
 import com.bootgussy.dancecenterservice.api.dto.response.TrainerResponseDto;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
 import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -26,8 +27,13 @@ public abstract class TrainerMapper {
             "trainer.getGroups().stream().map(g -> g.getId()).toList() : new ArrayList<>())")
     public abstract TrainerResponseDto toResponseDto(Trainer trainer);
 
+    @Mapping(target = "groupsId", source = "groupIds")
+    public abstract TrainerResponseDto toResponseDto(TrainerSnapshot trainer);
+
     public abstract List<TrainerResponseDto> toResponseDtoList(List<Trainer> trainers);
 
+    public abstract List<TrainerResponseDto> toSnapshotResponseDtoList(List<TrainerSnapshot> trainers);
+
     @Mapping(target = "name", source = "user.name")
     @Mapping(target = "phoneNumber", source = "user.phoneNumber")
     @Mapping(target = "groups", expression = "java(groupMapper.toResponseDtoList(trainer.getGroups()))")
@@ -4,6 +4,7 @@ import com.bootgussy.dancecenterservice.api.dto.create.UserCreateDto;
 import com.bootgussy.dancecenterservice.api.dto.response.UserResponseDto;
 import com.bootgussy.dancecenterservice.core.model.Role;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.UserSnapshot;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -22,8 +23,13 @@ public abstract class UserMapper {
     @Mapping(target = "name", source = "username")
     public abstract User toEntity(UserCreateDto createDto);
 
+    @Mapping(target = "rolesId", source = "roleIds")
+    public abstract UserResponseDto toResponseDto(UserSnapshot user);
+
     public abstract List<UserResponseDto> toResponseDtoList(List<User> users);
 
+    public abstract List<UserResponseDto> toSnapshotResponseDtoList(List<UserSnapshot> users);
+
     @Named("mapRolesToIds")
     protected List<Long> mapRolesToIds(List<Role> roles) {
         if (roles == null) return null;
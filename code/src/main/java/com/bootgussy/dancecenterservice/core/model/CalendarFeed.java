@@ -0,0 +1,66 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.DigestUtils;
+
+// A rendered iCalendar feed and its ETag. Each schedule item becomes a weekly
+// recurring event anchored in the first week of 2024, so the same schedule
+// always renders to the same bytes and the ETag agrees across nodes.
+public record CalendarFeed(String etag, byte[] body) {
+    private static final LocalDate ANCHOR_MONDAY = LocalDate.of(2024, 1, 1);
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String CRLF = "\r\n";
+
+    public static CalendarFeed of(String name, List<ScheduleItem> scheduleItems, Map<Long, String> hallNames) {
+        StringBuilder calendar = new StringBuilder()
+                .append("BEGIN:VCALENDAR").append(CRLF)
+                .append("VERSION:2.0").append(CRLF)
+                .append("PRODID:-//Dance Center//Schedule//EN").append(CRLF)
+                .append("CALSCALE:GREGORIAN").append(CRLF)
+                .append("X-WR-CALNAME:").append(escape(name)).append(CRLF);
+
+        for (ScheduleItem scheduleItem : scheduleItems) {
+            LocalDate date = ANCHOR_MONDAY.plusDays(scheduleItem.getDayOfWeek().getValue() - 1L);
+            calendar.append("BEGIN:VEVENT").append(CRLF)
+                    .append("UID:schedule-item-").append(scheduleItem.getId()).append("@dance-center").append(CRLF)
+                    .append("DTSTAMP:").append(LOCAL_DATE_TIME.format(ANCHOR_MONDAY.atStartOfDay())).append('Z')
+                    .append(CRLF)
+                    .append("DTSTART:").append(format(date, scheduleItem.getStartTime())).append(CRLF)
+                    .append("DTEND:").append(format(date, scheduleItem.getEndTime())).append(CRLF)
+                    .append("RRULE:FREQ=WEEKLY;BYDAY=").append(byDay(scheduleItem.getDayOfWeek())).append(CRLF)
+                    .append("SUMMARY:").append(escape("Group " + scheduleItem.getGroup().getDifficulty()))
+                    .append(CRLF);
+            String hallName = hallNames.get(scheduleItem.getHall().getId());
+            if (hallName != null) {
+                calendar.append("LOCATION:").append(escape(hallName)).append(CRLF);
+            }
+            calendar.append("END:VEVENT").append(CRLF);
+        }
+
+        calendar.append("END:VCALENDAR").append(CRLF);
+
+        byte[] body = calendar.toString().getBytes(StandardCharsets.UTF_8);
+        return new CalendarFeed("\"" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+    }
+
+    private static String format(LocalDate date, LocalTime time) {
+        return LOCAL_DATE_TIME.format(date.atTime(time));
+    }
+
+    private static String byDay(DayOfWeek dayOfWeek) {
+        return dayOfWeek.name().substring(0, 2);
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\n", "\\n");
+    }
+}
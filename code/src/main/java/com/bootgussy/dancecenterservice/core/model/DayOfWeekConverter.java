@@ -0,0 +1,40 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+// Days keep their existing "Monday" form in the database and the API.
+@Converter
+public class DayOfWeekConverter implements AttributeConverter<DayOfWeek, String> {
+    @Override
+    public String convertToDatabaseColumn(DayOfWeek dayOfWeek) {
+        return format(dayOfWeek);
+    }
+
+    @Override
+    public DayOfWeek convertToEntityAttribute(String dayOfWeek) {
+        return parse(dayOfWeek);
+    }
+
+    public static String format(DayOfWeek dayOfWeek) {
+        return dayOfWeek != null ? dayOfWeek.getDisplayName(TextStyle.FULL, Locale.ENGLISH) : null;
+    }
+
+    public static DayOfWeek parse(String dayOfWeek) {
+        if (dayOfWeek == null) {
+            return null;
+        }
+
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (format(day).equals(dayOfWeek)) {
+                return day;
+            }
+        }
+
+        throw new IncorrectDataException("Day of week is incorrect. Example: Monday");
+    }
+}
@@ -0,0 +1,10 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record FreeSlot(Long hallId,
+                       DayOfWeek dayOfWeek,
+                       LocalTime startTime,
+                       LocalTime endTime) {
+}
@@ -21,6 +21,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Getter
 @Setter
@@ -49,9 +50,11 @@ public class Group {
             inverseJoinColumns = @JoinColumn(name = "student_id")
     )
     @JsonManagedReference
+    @BatchSize(size = 100)
     private List<Student> students;
 
     @OneToMany(mappedBy = "group", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JsonBackReference
+    @BatchSize(size = 100)
     private List<ScheduleItem> scheduleItems;
 }
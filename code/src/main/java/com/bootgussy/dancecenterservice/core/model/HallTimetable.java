@@ -0,0 +1,64 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public record HallTimetable(Long hallId, String hallName, List<Entry> entries) {
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::dayOfWeek)
+            .thenComparing(Entry::startTime)
+            .thenComparing(Entry::id);
+
+    public HallTimetable {
+        entries = entries.stream().sorted(ORDER).toList();
+    }
+
+    public HallTimetable with(Entry entry) {
+        List<Entry> changed = new ArrayList<>(entries.size() + 1);
+        entries.stream().filter(existing -> !existing.id().equals(entry.id())).forEach(changed::add);
+        changed.add(entry);
+        return new HallTimetable(hallId, hallName, changed);
+    }
+
+    public HallTimetable without(Long id) {
+        return new HallTimetable(hallId, hallName, entries.stream()
+                .filter(entry -> !entry.id().equals(id))
+                .toList());
+    }
+
+    public boolean containsGroup(Long groupId) {
+        return entries.stream().anyMatch(entry -> entry.groupId().equals(groupId));
+    }
+
+    public record Entry(Long id,
+                        Long groupId,
+                        String groupDifficulty,
+                        Long trainerId,
+                        DayOfWeek dayOfWeek,
+                        LocalTime startTime,
+                        LocalTime endTime) {
+        public static Entry of(ScheduleItem scheduleItem, GroupSnapshot group) {
+            return new Entry(scheduleItem.getId(),
+                    group.id(),
+                    group.difficulty(),
+                    group.trainerId(),
+                    scheduleItem.getDayOfWeek(),
+                    scheduleItem.getStartTime(),
+                    scheduleItem.getEndTime());
+        }
+
+        public static Entry of(ScheduleItem scheduleItem) {
+            Group group = scheduleItem.getGroup();
+            return new Entry(scheduleItem.getId(),
+                    group.getId(),
+                    group.getDifficulty(),
+                    group.getTrainer() != null ? group.getTrainer().getId() : null,
+                    scheduleItem.getDayOfWeek(),
+                    scheduleItem.getStartTime(),
+                    scheduleItem.getEndTime());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// One page of rows ordered by ID. The cursor is the opaque form of the last
+// ID returned, and the next page starts strictly after it, so every page is a
+// single index range scan however deep the client has paged.
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+    public static final int MAX_LIMIT = 500;
+
+    private static final String PREFIX = "id:";
+
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IncorrectDataException("Page size must be between 1 and " + MAX_LIMIT + ". Limit: " + limit);
+        }
+    }
+
+    public static long afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IncorrectDataException("Incorrect cursor: " + cursor);
+        }
+    }
+
+    // Rows are fetched with limit + 1, so a further page exists only if the extra row came back.
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, limit);
+        return new KeysetPage<>(List.copyOf(items), cursorAfter(idOf.apply(items.get(limit - 1))));
+    }
+
+    // Pages are cut on IDs first and the rows loaded afterwards, so a row deleted
+    // in between shortens the page without ending the listing early.
+    public <R> KeysetPage<R> map(Function<List<T>, List<R>> loader) {
+        return new KeysetPage<>(loader.apply(items), nextCursor);
+    }
+
+    public static String cursorAfter(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public record ScheduleChange(Type type,
+                             Action action,
+                             Long id,
+                             Set<Long> hallIds,
+                             Set<Long> groupIds,
+                             Set<Long> trainerIds,
+                             Set<Long> studentIds,
+                             Instant occurredAt) {
+    public ScheduleChange {
+        hallIds = hallIds == null ? Set.of() : Set.copyOf(hallIds);
+        groupIds = groupIds == null ? Set.of() : Set.copyOf(groupIds);
+        trainerIds = trainerIds == null ? Set.of() : Set.copyOf(trainerIds);
+        studentIds = studentIds == null ? Set.of() : Set.copyOf(studentIds);
+    }
+
+    public static ScheduleChange scheduleItem(Action action, Long id, Long hallId, GroupSnapshot group) {
+        return new ScheduleChange(Type.SCHEDULE_ITEM, action, id,
+                idsOf(hallId),
+                idsOf(group.id()),
+                idsOf(group.trainerId()),
+                new LinkedHashSet<>(group.studentIds()),
+                Instant.now());
+    }
+
+    public static ScheduleChange group(Action action, Long id, Long trainerId, Collection<Long> studentIds) {
+        return new ScheduleChange(Type.GROUP, action, id,
+                Set.of(),
+                idsOf(id),
+                idsOf(trainerId),
+                studentIds != null ? new LinkedHashSet<>(studentIds) : null,
+                Instant.now());
+    }
+
+    public static ScheduleChange hall(Action action, Long id) {
+        return new ScheduleChange(Type.HALL, action, id, idsOf(id), Set.of(), Set.of(), Set.of(), Instant.now());
+    }
+
+    // Updates report both the old and the new side, so subscribers of either see them.
+    public ScheduleChange and(ScheduleChange other) {
+        return new ScheduleChange(type, action, id,
+                union(hallIds, other.hallIds),
+                union(groupIds, other.groupIds),
+                union(trainerIds, other.trainerIds),
+                union(studentIds, other.studentIds),
+                occurredAt);
+    }
+
+    private static Set<Long> idsOf(Long id) {
+        return id != null ? Set.of(id) : Set.of();
+    }
+
+    private static Set<Long> union(Set<Long> first, Set<Long> second) {
+        Set<Long> union = new LinkedHashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    public enum Type {
+        SCHEDULE_ITEM, GROUP, HALL
+    }
+
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -3,14 +3,19 @@ package com.bootgussy.dancecenterservice.core.model;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,8 +29,12 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "schedule")
+@Table(name = "schedule", indexes = {
+        @Index(name = "idx_schedule_hall_start_minute", columnList = "hall_id, start_minute")
+})
 public class ScheduleItem {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -41,11 +50,50 @@ public class ScheduleItem {
     private Group group;
 
     @Column(name = "day_of_week")
-    private String dayOfWeek;
+    @Convert(converter = DayOfWeekConverter.class)
+    private DayOfWeek dayOfWeek;
 
     @Column(name = "start_time")
     private LocalTime startTime;
 
     @Column(name = "end_time")
     private LocalTime endTime;
+
+    // Minutes since Monday 00:00, so one range on (hall_id, start_minute)
+    // covers a hall's day or any slice of its week.
+    @Column(name = "start_minute")
+    private Integer startMinute;
+
+    @Column(name = "end_minute")
+    private Integer endMinute;
+
+    public ScheduleItem(Long id, Hall hall, Group group, DayOfWeek dayOfWeek,
+                        LocalTime startTime, LocalTime endTime) {
+        this.id = id;
+        this.hall = hall;
+        this.group = group;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        encodeMinutes();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void encodeMinutes() {
+        startMinute = minuteOfWeek(dayOfWeek, startTime);
+        endMinute = minuteOfWeek(dayOfWeek, endTime);
+    }
+
+    public static Integer minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+        if (dayOfWeek == null || time == null) {
+            return null;
+        }
+
+        return startOfDay(dayOfWeek) + time.getHour() * 60 + time.getMinute();
+    }
+
+    public static int startOfDay(DayOfWeek dayOfWeek) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY;
+    }
 }
@@ -0,0 +1,23 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record SessionOccurrence(Long scheduleItemId,
+                                Long hallId,
+                                Long groupId,
+                                Long trainerId,
+                                LocalDate date,
+                                LocalTime startTime,
+                                LocalTime endTime) {
+    public static SessionOccurrence of(ScheduleItem scheduleItem, LocalDate date) {
+        Group group = scheduleItem.getGroup();
+        return new SessionOccurrence(scheduleItem.getId(),
+                scheduleItem.getHall().getId(),
+                group.getId(),
+                group.getTrainer() != null ? group.getTrainer().getId() : null,
+                date,
+                scheduleItem.getStartTime(),
+                scheduleItem.getEndTime());
+    }
+}
@@ -18,6 +18,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Getter
 @Setter
@@ -35,6 +36,7 @@ public class Student {
             CascadeType.MERGE,
             CascadeType.PERSIST
     }, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private List<Group> groups;
 
     @PreRemove
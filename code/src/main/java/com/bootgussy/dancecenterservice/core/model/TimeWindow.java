@@ -0,0 +1,9 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record TimeWindow(DayOfWeek dayOfWeek,
+                         LocalTime startTime,
+                         LocalTime endTime) {
+}
@@ -0,0 +1,13 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import java.util.List;
+
+public record Timetable(List<ScheduleItemSnapshot> scheduleItems,
+                        List<Long> unscheduledGroupIds,
+                        boolean complete,
+                        boolean committed,
+                        long solveMillis,
+                        int parallelism,
+                        long exploredStates) {
+}
@@ -0,0 +1,12 @@
+package com.bootgussy.dancecenterservice.core.model;
+
+import java.util.List;
+
+public record TimetableSession(Long groupId,
+                               int sessionsPerWeek,
+                               int duration,
+                               List<Long> hallIds) {
+    public TimetableSession {
+        hallIds = hallIds == null ? List.of() : List.copyOf(hallIds);
+    }
+}
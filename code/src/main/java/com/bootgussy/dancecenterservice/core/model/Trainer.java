@@ -19,6 +19,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
@@ -28,6 +29,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @Entity
 @Table(name = "trainers")
+@BatchSize(size = 100)
 public class Trainer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,6 +40,7 @@ public class Trainer {
 
     @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonBackReference
+    @BatchSize(size = 100)
     private List<Group> groups;
 
     @OneToOne(cascade = {CascadeType.MERGE, CascadeType.PERSIST})
@@ -0,0 +1,31 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.Student;
+import java.util.List;
+
+public record GroupSnapshot(Long id,
+                            String difficulty,
+                            Long trainerId,
+                            List<Long> studentIds,
+                            List<Long> scheduleItemIds) {
+    public GroupSnapshot {
+        studentIds = studentIds == null ? List.of() : List.copyOf(studentIds);
+        scheduleItemIds = scheduleItemIds == null ? List.of() : List.copyOf(scheduleItemIds);
+    }
+
+    public static GroupSnapshot from(Group group) {
+        return new GroupSnapshot(
+                group.getId(),
+                group.getDifficulty(),
+                group.getTrainer() != null ? group.getTrainer().getId() : null,
+                group.getStudents() != null
+                        ? group.getStudents().stream().map(Student::getId).toList()
+                        : null,
+                group.getScheduleItems() != null
+                        ? group.getScheduleItems().stream().map(ScheduleItem::getId).toList()
+                        : null
+        );
+    }
+}
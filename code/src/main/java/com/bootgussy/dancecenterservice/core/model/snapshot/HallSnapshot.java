@@ -0,0 +1,22 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.util.List;
+
+public record HallSnapshot(Long id, String name, Integer area, List<Long> scheduleItemIds) {
+    public HallSnapshot {
+        scheduleItemIds = scheduleItemIds == null ? List.of() : List.copyOf(scheduleItemIds);
+    }
+
+    public static HallSnapshot from(Hall hall) {
+        return new HallSnapshot(
+                hall.getId(),
+                hall.getName(),
+                hall.getArea(),
+                hall.getScheduleItems() != null
+                        ? hall.getScheduleItems().stream().map(ScheduleItem::getId).toList()
+                        : null
+        );
+    }
+}
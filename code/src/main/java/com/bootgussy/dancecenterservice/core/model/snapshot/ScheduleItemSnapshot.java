@@ -0,0 +1,23 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record ScheduleItemSnapshot(Long id,
+                                   Long hallId,
+                                   Long groupId,
+                                   DayOfWeek dayOfWeek,
+                                   LocalTime startTime,
+                                   LocalTime endTime) {
+    public static ScheduleItemSnapshot from(ScheduleItem scheduleItem) {
+        return new ScheduleItemSnapshot(
+                scheduleItem.getId(),
+                scheduleItem.getHall() != null ? scheduleItem.getHall().getId() : null,
+                scheduleItem.getGroup() != null ? scheduleItem.getGroup().getId() : null,
+                scheduleItem.getDayOfWeek(),
+                scheduleItem.getStartTime(),
+                scheduleItem.getEndTime()
+        );
+    }
+}
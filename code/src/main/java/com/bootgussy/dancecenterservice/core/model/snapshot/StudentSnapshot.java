@@ -0,0 +1,27 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Student;
+import java.util.List;
+
+public record StudentSnapshot(Long id,
+                              Long userId,
+                              String name,
+                              String phoneNumber,
+                              List<Long> groupIds) {
+    public StudentSnapshot {
+        groupIds = groupIds == null ? List.of() : List.copyOf(groupIds);
+    }
+
+    public static StudentSnapshot from(Student student) {
+        return new StudentSnapshot(
+                student.getId(),
+                student.getUser() != null ? student.getUser().getId() : null,
+                student.getUser() != null ? student.getUser().getName() : null,
+                student.getUser() != null ? student.getUser().getPhoneNumber() : null,
+                student.getGroups() != null
+                        ? student.getGroups().stream().map(Group::getId).toList()
+                        : null
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Trainer;
+import java.util.List;
+
+public record TrainerSnapshot(Long id,
+                              Long userId,
+                              String name,
+                              String phoneNumber,
+                              String danceStyle,
+                              List<Long> groupIds) {
+    public TrainerSnapshot {
+        groupIds = groupIds == null ? List.of() : List.copyOf(groupIds);
+    }
+
+    public static TrainerSnapshot from(Trainer trainer) {
+        return new TrainerSnapshot(
+                trainer.getId(),
+                trainer.getUser() != null ? trainer.getUser().getId() : null,
+                trainer.getUser() != null ? trainer.getUser().getName() : null,
+                trainer.getUser() != null ? trainer.getUser().getPhoneNumber() : null,
+                trainer.getDanceStyle(),
+                trainer.getGroups() != null
+                        ? trainer.getGroups().stream().map(Group::getId).toList()
+                        : null
+        );
+    }
+}
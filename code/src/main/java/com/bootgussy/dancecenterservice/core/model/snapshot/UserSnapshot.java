@@ -0,0 +1,14 @@
+package com.bootgussy.dancecenterservice.core.model.snapshot;
+
+import java.util.List;
+
+public record UserSnapshot(Long id,
+                           String name,
+                           String phoneNumber,
+                           List<Long> roleIds,
+                           List<String> roleNames) {
+    public UserSnapshot {
+        roleIds = roleIds == null ? List.of() : List.copyOf(roleIds);
+        roleNames = roleNames == null ? List.of() : List.copyOf(roleNames);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bootgussy.dancecenterservice.core.repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Native projections return a row's child ids as one string_agg column, so a
+// list reads in a single query instead of touching each lazy collection.
+public final class AggregatedIds {
+    private AggregatedIds() {
+    }
+
+    public static List<Long> parse(String ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return Arrays.stream(ids.split(",")).map(Long::valueOf).toList();
+    }
+}
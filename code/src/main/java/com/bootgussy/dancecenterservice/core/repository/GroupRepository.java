@@ -2,8 +2,10 @@ package com.bootgussy.dancecenterservice.core.repository;
 
 import com.bootgussy.dancecenterservice.core.model.Group;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +15,38 @@ import org.springframework.stereotype.Repository;
 public interface GroupRepository extends JpaRepository<Group, Long> {
     Optional<Group> findByTrainerAndDifficulty(Trainer trainer, String difficulty);
 
-    @Query("SELECT g FROM Group g WHERE g.trainer.danceStyle = :danceStyle")
-    List<Group> findAllByDanceStyle(@Param("danceStyle") String danceStyle);
+    String ROW_SELECT = "SELECT g.id AS \"id\", g.difficulty AS \"difficulty\", g.trainer_id AS \"trainerId\", " +
+            "(SELECT string_agg(CAST(gs.student_id AS text), ',' ORDER BY gs.student_id) " +
+            "FROM group_students gs WHERE gs.group_id = g.id) AS \"studentIds\", " +
+            "(SELECT string_agg(CAST(s.id AS text), ',' ORDER BY s.id) " +
+            "FROM schedule s WHERE s.group_id = g.id) AS \"scheduleItemIds\" " +
+            "FROM groups g ";
+
+    @Query(value = ROW_SELECT + "WHERE g.id = :id", nativeQuery = true)
+    Optional<GroupRow> findRowById(@Param("id") Long id);
+
+    @Query(value = ROW_SELECT + "WHERE g.id IN :ids", nativeQuery = true)
+    List<GroupRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = ROW_SELECT + "ORDER BY g.id", nativeQuery = true)
+    List<GroupRow> findAllRows();
+
+    @Query(value = ROW_SELECT + "JOIN trainers t ON t.id = g.trainer_id " +
+            "WHERE t.dance_style = :danceStyle ORDER BY g.id", nativeQuery = true)
+    List<GroupRow> findRowsByDanceStyle(@Param("danceStyle") String danceStyle);
+
+    @Query("SELECT g.id FROM Group g WHERE g.id > :afterId ORDER BY g.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    interface GroupRow {
+        Long getId();
+
+        String getDifficulty();
+
+        Long getTrainerId();
+
+        String getStudentIds();
+
+        String getScheduleItemIds();
+    }
 }
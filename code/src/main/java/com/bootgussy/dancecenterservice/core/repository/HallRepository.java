@@ -1,8 +1,13 @@
 package com.bootgussy.dancecenterservice.core.repository;
 
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +15,10 @@ public interface HallRepository extends JpaRepository<Hall, Long> {
     Optional<Hall> findByName(String name);
 
     Optional<Hall> findByNameAndArea(String name, Integer area);
+
+    @Query("SELECT DISTINCT h FROM Hall h LEFT JOIN FETCH h.scheduleItems WHERE h.id IN :ids")
+    List<Hall> findAllWithScheduleItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT h.id FROM Hall h WHERE h.id > :afterId ORDER BY h.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
 }
\ No newline at end of file
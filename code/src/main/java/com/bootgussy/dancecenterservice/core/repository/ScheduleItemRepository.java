@@ -1,27 +1,80 @@
 package com.bootgussy.dancecenterservice.core.repository;
 
-import com.bootgussy.dancecenterservice.core.model.Group;
-import com.bootgussy.dancecenterservice.core.model.Hall;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
-import java.time.LocalTime;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long> {
-    List<ScheduleItem> findByDayOfWeekAndHall(String dayOfWeek, Hall hall);
-
-    List<ScheduleItem> findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-            Hall hall,
-            Group group,
-            String dayOfWeek,
-            LocalTime start,
-            LocalTime endTime
-    );
-
-    @Query("SELECT s FROM ScheduleItem s WHERE s.group.id = :groupId")
-    List<ScheduleItem> findAllByGroup(@Param("groupId") Long groupId);
+public interface ScheduleItemRepository extends JpaRepository<ScheduleItem, Long>, ScheduleItemRepositoryCustom {
+    @Query("SELECT s FROM ScheduleItem s WHERE s.hall.id = :hallId " +
+            "AND s.startMinute >= :fromMinute AND s.startMinute < :toMinute")
+    List<ScheduleItem> findAllByHallAndStartMinuteRange(@Param("hallId") Long hallId,
+                                                        @Param("fromMinute") int fromMinute,
+                                                        @Param("toMinute") int toMinute);
+
+    @Query("SELECT s FROM ScheduleItem s WHERE s.hall.id IN :hallIds " +
+            "AND s.startMinute >= :fromMinute AND s.startMinute < :toMinute")
+    List<ScheduleItem> findAllByHallsAndStartMinuteRange(@Param("hallIds") Collection<Long> hallIds,
+                                                         @Param("fromMinute") int fromMinute,
+                                                         @Param("toMinute") int toMinute);
+
+    @Query("SELECT s FROM ScheduleItem s JOIN FETCH s.group WHERE s.hall.id IN :hallIds " +
+            "ORDER BY s.hall.id, s.startMinute")
+    List<ScheduleItem> findAllWithGroupByHallIdIn(@Param("hallIds") Collection<Long> hallIds);
+
+    @Query("SELECT s FROM ScheduleItem s JOIN FETCH s.group g " +
+            "WHERE (:hallId IS NULL OR s.hall.id = :hallId) " +
+            "AND (:groupId IS NULL OR g.id = :groupId) " +
+            "AND (:trainerId IS NULL OR g.trainer.id = :trainerId) " +
+            "AND (:studentId IS NULL OR EXISTS (SELECT st.id FROM g.students st WHERE st.id = :studentId)) " +
+            "ORDER BY s.startMinute, s.id")
+    List<ScheduleItem> findAllWithGroupMatching(@Param("hallId") Long hallId,
+                                                @Param("groupId") Long groupId,
+                                                @Param("trainerId") Long trainerId,
+                                                @Param("studentId") Long studentId);
+
+    String SNAPSHOT_SELECT = "SELECT new com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot(" +
+            "s.id, s.hall.id, s.group.id, s.dayOfWeek, s.startTime, s.endTime) FROM ScheduleItem s ";
+
+    @Query(SNAPSHOT_SELECT + "WHERE s.id = :id")
+    Optional<ScheduleItemSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query(SNAPSHOT_SELECT + "WHERE s.id IN :ids")
+    List<ScheduleItemSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SNAPSHOT_SELECT + "ORDER BY s.id")
+    List<ScheduleItemSnapshot> findAllSnapshots();
+
+    @Query(SNAPSHOT_SELECT + "WHERE s.group.id = :groupId ORDER BY s.id")
+    List<ScheduleItemSnapshot> findSnapshotsByGroup(@Param("groupId") Long groupId);
+
+    @Query("SELECT s.group.id AS ownerId, s.startMinute AS startMinute, s.endMinute AS endMinute " +
+            "FROM ScheduleItem s WHERE s.group.id = :groupId")
+    List<MinuteRange> findMinuteRangesByGroup(@Param("groupId") Long groupId);
+
+    @Query("SELECT g.trainer.id AS ownerId, s.startMinute AS startMinute, s.endMinute AS endMinute " +
+            "FROM ScheduleItem s JOIN s.group g WHERE g.trainer.id IN :trainerIds")
+    List<MinuteRange> findMinuteRangesByTrainers(@Param("trainerIds") Collection<Long> trainerIds);
+
+    @Query("SELECT st.id AS ownerId, s.startMinute AS startMinute, s.endMinute AS endMinute " +
+            "FROM ScheduleItem s JOIN s.group g JOIN g.students st WHERE st.id IN :studentIds")
+    List<MinuteRange> findMinuteRangesByStudents(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT s.id FROM ScheduleItem s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    interface MinuteRange {
+        Long getOwnerId();
+
+        Integer getStartMinute();
+
+        Integer getEndMinute();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.bootgussy.dancecenterservice.core.repository;
+
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.util.List;
+
+public interface ScheduleItemRepositoryCustom {
+    List<ScheduleItem> insertAll(List<ScheduleItem> scheduleItems);
+}
@@ -0,0 +1,66 @@
+package com.bootgussy.dancecenterservice.core.repository;
+
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+// Identity ids make Hibernate insert rows one statement at a time, so bulk
+// imports go through a single JDBC batch and read the generated ids back.
+public class ScheduleItemRepositoryImpl implements ScheduleItemRepositoryCustom {
+    private static final String INSERT_SQL = "INSERT INTO schedule " +
+            "(hall_id, group_id, day_of_week, start_time, end_time, start_minute, end_minute) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ScheduleItemRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ScheduleItem> insertAll(List<ScheduleItem> scheduleItems) {
+        if (scheduleItems.isEmpty()) {
+            return scheduleItems;
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        ScheduleItem scheduleItem = scheduleItems.get(i);
+                        scheduleItem.encodeMinutes();
+                        statement.setLong(1, scheduleItem.getHall().getId());
+                        statement.setLong(2, scheduleItem.getGroup().getId());
+                        statement.setString(3, DayOfWeekConverter.format(scheduleItem.getDayOfWeek()));
+                        statement.setObject(4, scheduleItem.getStartTime());
+                        statement.setObject(5, scheduleItem.getEndTime());
+                        statement.setInt(6, scheduleItem.getStartMinute());
+                        statement.setInt(7, scheduleItem.getEndMinute());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return scheduleItems.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < scheduleItems.size(); i++) {
+            scheduleItems.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+
+        return scheduleItems;
+    }
+}
@@ -1,11 +1,15 @@
 package com.bootgussy.dancecenterservice.core.repository;
 
 import com.bootgussy.dancecenterservice.core.model.Student;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,4 +24,57 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByUserPhoneNumber(String phoneNumber);
 
     Optional<Student> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"user", "groups", "groups.trainer", "groups.trainer.user"})
+    @Query("SELECT s FROM Student s WHERE s.user.id = :userId")
+    Optional<Student> findDashboardByUserId(@Param("userId") Long userId);
+
+    String ROW_SELECT = "SELECT s.id AS \"id\", s.user_id AS \"userId\", u.name AS \"name\", " +
+            "u.phone_number AS \"phoneNumber\", " +
+            "(SELECT string_agg(CAST(gs.group_id AS text), ',' ORDER BY gs.group_id) " +
+            "FROM group_students gs WHERE gs.student_id = s.id) AS \"groupIds\" " +
+            "FROM students s LEFT JOIN users u ON u.id = s.user_id ";
+
+    String HAS_ROLE = "EXISTS (SELECT 1 FROM user_roles ur JOIN roles r ON r.id = ur.role_id " +
+            "WHERE ur.user_id = s.user_id AND r.name = :role) ";
+
+    @Query(value = ROW_SELECT + "WHERE s.id = :id", nativeQuery = true)
+    Optional<StudentRow> findRowById(@Param("id") Long id);
+
+    @Query(value = ROW_SELECT + "WHERE s.id IN :ids", nativeQuery = true)
+    List<StudentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = ROW_SELECT + "WHERE " + HAS_ROLE + "ORDER BY s.id", nativeQuery = true)
+    List<StudentRow> findAllRowsByRole(@Param("role") String role);
+
+    @Query(value = ROW_SELECT + "WHERE s.id > :afterId AND " + HAS_ROLE + "ORDER BY s.id LIMIT :limit",
+            nativeQuery = true)
+    List<StudentRow> findPageByRole(@Param("role") String role,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO students (user_id) " +
+            "SELECT u.id FROM users u " +
+            "WHERE EXISTS (SELECT 1 FROM user_roles ur JOIN roles r ON r.id = ur.role_id " +
+            "WHERE ur.user_id = u.id AND r.name = :role) " +
+            "AND NOT EXISTS (SELECT 1 FROM students s WHERE s.user_id = u.id) " +
+            "ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    int insertMissingForRole(@Param("role") String role, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM students s " +
+            "WHERE NOT " + HAS_ROLE, nativeQuery = true)
+    long countWithoutRole(@Param("role") String role);
+
+    interface StudentRow {
+        Long getId();
+
+        Long getUserId();
+
+        String getName();
+
+        String getPhoneNumber();
+
+        String getGroupIds();
+    }
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.bootgussy.dancecenterservice.core.repository;
 
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,4 +24,61 @@ public interface TrainerRepository extends JpaRepository<Trainer, Long> {
     Optional<Trainer> findByUserPhoneNumber(String phoneNumber);
 
     Optional<Trainer> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"user", "groups"})
+    @Query("SELECT t FROM Trainer t WHERE t.user.id = :userId")
+    Optional<Trainer> findDashboardByUserId(@Param("userId") Long userId);
+
+    String ROW_SELECT = "SELECT t.id AS \"id\", t.user_id AS \"userId\", u.name AS \"name\", " +
+            "u.phone_number AS \"phoneNumber\", t.dance_style AS \"danceStyle\", " +
+            "(SELECT string_agg(CAST(g.id AS text), ',' ORDER BY g.id) " +
+            "FROM groups g WHERE g.trainer_id = t.id) AS \"groupIds\" " +
+            "FROM trainers t LEFT JOIN users u ON u.id = t.user_id ";
+
+    String HAS_ROLE = "EXISTS (SELECT 1 FROM user_roles ur JOIN roles r ON r.id = ur.role_id " +
+            "WHERE ur.user_id = t.user_id AND r.name = :role) ";
+
+    @Query(value = ROW_SELECT + "WHERE t.id = :id", nativeQuery = true)
+    Optional<TrainerRow> findRowById(@Param("id") Long id);
+
+    @Query(value = ROW_SELECT + "WHERE t.id IN :ids", nativeQuery = true)
+    List<TrainerRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = ROW_SELECT + "WHERE " + HAS_ROLE + "ORDER BY t.id", nativeQuery = true)
+    List<TrainerRow> findAllRowsByRole(@Param("role") String role);
+
+    @Query(value = ROW_SELECT + "WHERE t.id > :afterId AND " + HAS_ROLE + "ORDER BY t.id LIMIT :limit",
+            nativeQuery = true)
+    List<TrainerRow> findPageByRole(@Param("role") String role,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO trainers (user_id, dance_style) " +
+            "SELECT u.id, :danceStyle FROM users u " +
+            "WHERE EXISTS (SELECT 1 FROM user_roles ur JOIN roles r ON r.id = ur.role_id " +
+            "WHERE ur.user_id = u.id AND r.name = :role) " +
+            "AND NOT EXISTS (SELECT 1 FROM trainers t WHERE t.user_id = u.id) " +
+            "ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    int insertMissingForRole(@Param("role") String role,
+                             @Param("danceStyle") String danceStyle,
+                             @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM trainers t " +
+            "WHERE NOT " + HAS_ROLE, nativeQuery = true)
+    long countWithoutRole(@Param("role") String role);
+
+    interface TrainerRow {
+        Long getId();
+
+        Long getUserId();
+
+        String getName();
+
+        String getPhoneNumber();
+
+        String getDanceStyle();
+
+        String getGroupIds();
+    }
 }
\ No newline at end of file
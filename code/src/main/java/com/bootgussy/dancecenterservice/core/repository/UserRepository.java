@@ -2,6 +2,8 @@ package com.bootgussy.dancecenterservice.core.repository;
 
 import com.bootgussy.dancecenterservice.core.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,35 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<List<User>> findByName(String name);
     Optional<User> findByPhoneNumber(String phoneNumber);
+
+    String ROW_SELECT = "SELECT u.id AS \"id\", u.name AS \"name\", u.phone_number AS \"phoneNumber\", " +
+            "(SELECT string_agg(CAST(ur.role_id AS text), ',' ORDER BY ur.role_id) " +
+            "FROM user_roles ur WHERE ur.user_id = u.id) AS \"roleIds\", " +
+            "(SELECT string_agg(r.name, ',' ORDER BY r.id) " +
+            "FROM user_roles ur JOIN roles r ON r.id = ur.role_id WHERE ur.user_id = u.id) AS \"roleNames\" " +
+            "FROM users u ";
+
+    @Query(value = ROW_SELECT + "WHERE u.id = :id", nativeQuery = true)
+    Optional<UserRow> findRowById(@Param("id") Long id);
+
+    @Query(value = ROW_SELECT + "WHERE u.phone_number = :phoneNumber", nativeQuery = true)
+    Optional<UserRow> findRowByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    @Query(value = ROW_SELECT + "ORDER BY u.id", nativeQuery = true)
+    List<UserRow> findAllRows();
+
+    @Query(value = ROW_SELECT + "WHERE u.id > :afterId ORDER BY u.id LIMIT :limit", nativeQuery = true)
+    List<UserRow> findPage(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    interface UserRow {
+        Long getId();
+
+        String getName();
+
+        String getPhoneNumber();
+
+        String getRoleIds();
+
+        String getRoleNames();
+    }
 }
@@ -0,0 +1,83 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.CacheProperties;
+import com.bootgussy.dancecenterservice.core.config.EntityCache;
+import com.bootgussy.dancecenterservice.core.config.SharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.CalendarFeed;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Rendered calendar feeds of trainers and students. A feed stays until a
+// committed change names its owner or its "calendar" region entry expires, so
+// polling clients are answered from memory; hall changes drop every feed
+// because hall names are rendered.
+@Component
+public class CalendarFeedCache {
+    private static final String REGION = "calendar";
+    private static final String ALL_KEYS = "*";
+
+    private final EntityCache<OccupancyIndex.Person, CalendarFeed> feeds;
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public CalendarFeedCache(ScheduleChangeFeed scheduleChangeFeed,
+                             SharedCacheTier sharedCacheTier,
+                             CacheProperties cacheProperties) {
+        CacheProperties.Region properties = cacheProperties.region(REGION);
+        this.feeds = new EntityCache<>(properties.getMaxSize(), properties.getTtl());
+        scheduleChangeFeed.listen(this::onChange);
+        sharedCacheTier.subscribe(this::onInvalidation);
+    }
+
+    public CalendarFeed get(OccupancyIndex.Person person, Supplier<CalendarFeed> loader) {
+        CalendarFeed feed = feeds.get(person);
+        if (feed != null) {
+            return feed;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        feed = loader.get();
+        if (evictions.get() == evictionsBeforeLoad) {
+            feeds.put(person, feed);
+        }
+
+        return feed;
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        feeds.clear();
+    }
+
+    private void onChange(ScheduleChange change) {
+        if (change.type() == ScheduleChange.Type.HALL) {
+            clear();
+            return;
+        }
+
+        evictions.incrementAndGet();
+        change.trainerIds().forEach(id -> feeds.remove(new OccupancyIndex.Person(OccupancyIndex.TRAINER, id)));
+        change.studentIds().forEach(id -> feeds.remove(new OccupancyIndex.Person(OccupancyIndex.STUDENT, id)));
+    }
+
+    private void onInvalidation(String origin, String region, String key) {
+        switch (region) {
+            case OccupancyIndex.TRAINER, OccupancyIndex.STUDENT -> {
+                evictions.incrementAndGet();
+                if (ALL_KEYS.equals(key)) {
+                    feeds.asMap().keySet().stream()
+                            .filter(person -> person.kind().equals(region))
+                            .toList()
+                            .forEach(feeds::remove);
+                } else {
+                    feeds.remove(new OccupancyIndex.Person(region, Long.valueOf(key)));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Slots of one hall on one day, ordered by start minute. Any slot overlapping
+// [start, end) starts after start - longestSlot, so checks only walk that window.
+// A schedule is stale until loaded and again after every invalidation; reloads
+// rebuild it in place and keep the slots claimed by writes not yet committed.
+public class HallSchedule {
+    private static final Comparator<Slot> BY_START = Comparator.comparingInt(Slot::start)
+            .thenComparing(Slot::id);
+
+    private final NavigableSet<Slot> slots = new TreeSet<>(BY_START);
+    private final Map<Long, Slot> slotsById = new HashMap<>();
+    private final Map<Long, ScheduleItem> claims = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(1);
+    private volatile long loadedAt;
+    private long writes;
+    private int longestSlot;
+
+    public synchronized boolean hasDuplicate(ScheduleItem scheduleItem) {
+        int start = minuteOf(scheduleItem.getStartTime());
+        int end = minuteOf(scheduleItem.getEndTime());
+        Long groupId = scheduleItem.getGroup().getId();
+
+        for (Slot slot : slots.subSet(probe(start, Long.MIN_VALUE), true, probe(start, Long.MAX_VALUE), true)) {
+            if (slot.end() == end && Objects.equals(slot.groupId(), groupId)
+                    && !slot.id().equals(scheduleItem.getId())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public synchronized boolean isBusy(ScheduleItem scheduleItem) {
+        return isBusy(minuteOf(scheduleItem.getStartTime()), minuteOf(scheduleItem.getEndTime()),
+                scheduleItem.getId());
+    }
+
+    public synchronized boolean isBusy(int start, int end, Long excludedId) {
+        for (Slot slot : slots.subSet(probe(start - longestSlot, Long.MAX_VALUE), false,
+                probe(end, Long.MIN_VALUE), false)) {
+            if (slot.end() > start && !slot.id().equals(excludedId)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Existing slots and candidates are swept together in start order. Anything
+    // starting before the latest candidate end, or a candidate starting before
+    // the latest existing end, overlaps; overlaps among existing slots are ignored.
+    public synchronized ScheduleItem findConflict(List<ScheduleItem> candidates) {
+        List<Interval> intervals = new ArrayList<>(slots.size() + candidates.size());
+        for (Slot slot : slots) {
+            intervals.add(new Interval(slot.start(), slot.end(), null));
+        }
+        for (ScheduleItem candidate : candidates) {
+            intervals.add(new Interval(minuteOf(candidate.getStartTime()),
+                    minuteOf(candidate.getEndTime()), candidate));
+        }
+        intervals.sort(Comparator.comparingInt(Interval::start));
+
+        int latestSlotEnd = Integer.MIN_VALUE;
+        int latestCandidateEnd = Integer.MIN_VALUE;
+        ScheduleItem latestCandidate = null;
+        for (Interval interval : intervals) {
+            if (interval.candidate() == null) {
+                if (interval.start() < latestCandidateEnd) {
+                    return latestCandidate;
+                }
+                latestSlotEnd = Math.max(latestSlotEnd, interval.end());
+            } else {
+                if (interval.start() < latestSlotEnd || interval.start() < latestCandidateEnd) {
+                    return interval.candidate();
+                }
+                if (interval.end() > latestCandidateEnd) {
+                    latestCandidateEnd = interval.end();
+                    latestCandidate = interval.candidate();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    // Gaps of at least the given length inside [from, to), found in one pass
+    // over the slots that can reach into the window.
+    public synchronized List<Gap> findGaps(int from, int to, int duration) {
+        List<Gap> gaps = new ArrayList<>();
+        int cursor = from;
+        for (Slot slot : slots.subSet(probe(from - longestSlot, Long.MAX_VALUE), false,
+                probe(to, Long.MIN_VALUE), false)) {
+            if (slot.end() <= cursor) {
+                continue;
+            }
+            if (slot.start() - cursor >= duration) {
+                gaps.add(new Gap(cursor, slot.start()));
+            }
+            cursor = slot.end();
+        }
+        if (to - cursor >= duration) {
+            gaps.add(new Gap(cursor, to));
+        }
+
+        return gaps;
+    }
+
+    public boolean isCurrent() {
+        return loadedAt == invalidations.get();
+    }
+
+    public void invalidate() {
+        invalidations.incrementAndGet();
+    }
+
+    public synchronized Version version() {
+        return new Version(invalidations.get(), writes);
+    }
+
+    // Replaces the slots with rows read from the database, unless a local write
+    // has changed the schedule since the version was taken.
+    public synchronized boolean reload(Version version, Collection<ScheduleItem> scheduleItems) {
+        if (version.writes() != writes) {
+            return false;
+        }
+
+        slots.clear();
+        slotsById.clear();
+        longestSlot = 0;
+        scheduleItems.forEach(this::addSlot);
+        claims.values().forEach(this::addSlot);
+        loadedAt = version.invalidations();
+        return true;
+    }
+
+    // Holds the slot for a write until it commits or rolls back.
+    public synchronized void claim(ScheduleItem scheduleItem) {
+        add(scheduleItem);
+        claims.put(scheduleItem.getId(), scheduleItem);
+    }
+
+    public synchronized void settle(Long id) {
+        claims.remove(id);
+        writes++;
+    }
+
+    public synchronized void release(Long id) {
+        if (claims.remove(id) != null) {
+            remove(id);
+        }
+    }
+
+    public synchronized void add(ScheduleItem scheduleItem) {
+        addSlot(scheduleItem);
+        writes++;
+    }
+
+    private void addSlot(ScheduleItem scheduleItem) {
+        Slot previous = slotsById.remove(scheduleItem.getId());
+        if (previous != null) {
+            slots.remove(previous);
+        }
+
+        Slot slot = new Slot(scheduleItem.getId(), scheduleItem.getGroup().getId(),
+                minuteOf(scheduleItem.getStartTime()), minuteOf(scheduleItem.getEndTime()));
+        slots.add(slot);
+        slotsById.put(slot.id(), slot);
+        longestSlot = Math.max(longestSlot, slot.end() - slot.start());
+    }
+
+    public synchronized boolean remove(Long id) {
+        Slot slot = slotsById.remove(id);
+        if (slot == null) {
+            return false;
+        }
+
+        slots.remove(slot);
+        writes++;
+        return true;
+    }
+
+    public synchronized boolean containsGroup(Long groupId) {
+        return slotsById.values().stream().anyMatch(slot -> Objects.equals(slot.groupId(), groupId));
+    }
+
+    public synchronized List<Slot> slots() {
+        return new ArrayList<>(slots);
+    }
+
+    public static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    // The exclusive end of the day has no LocalTime of its own.
+    public static LocalTime timeOf(int minute) {
+        if (minute >= ScheduleItem.MINUTES_PER_DAY) {
+            return LocalTime.MAX;
+        }
+
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static Slot probe(int start, long id) {
+        return new Slot(id, null, start, start);
+    }
+
+    public record Slot(Long id, Long groupId, int start, int end) {
+    }
+
+    public record Gap(int start, int end) {
+    }
+
+    public record Version(long invalidations, long writes) {
+    }
+
+    private record Interval(int start, int end, ScheduleItem candidate) {
+    }
+}
@@ -0,0 +1,343 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.SharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Weekly occupancy of trainers and students, built from the schedule items of
+// their groups. Every person has one entry for the life of the node; it is
+// loaded on first use, kept current by local writes and reloaded in place after
+// writes on other nodes or deletes anywhere. Writes claim minutes before they
+// commit; a reload keeps the claims still pending, and the claim is settled or
+// abandoned once the transaction ends.
+@Component
+public class OccupancyIndex {
+    public static final String TRAINER = "trainer";
+    public static final String STUDENT = "student";
+
+    private static final String REGION = "occupancy";
+    private static final String HALL_REGION = "hall";
+    private static final String ALL_KEYS = "*";
+    private static final int LOAD_ATTEMPTS = 3;
+    private static final WeeklyOccupancy NOTHING = new WeeklyOccupancy();
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Person, Occupancy> occupancies = new ConcurrentHashMap<>();
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final SharedCacheTier sharedCacheTier;
+
+    @Autowired
+    public OccupancyIndex(ScheduleItemRepository scheduleItemRepository,
+                          SharedCacheTier sharedCacheTier,
+                          ScheduleChangeFeed scheduleChangeFeed) {
+        this.scheduleItemRepository = scheduleItemRepository;
+        this.sharedCacheTier = sharedCacheTier;
+        sharedCacheTier.subscribe(this::onInvalidation);
+        scheduleChangeFeed.listen(this::onChange);
+    }
+
+    public WeeklyOccupancy groupMinutes(Long groupId) {
+        WeeklyOccupancy minutes = new WeeklyOccupancy();
+        scheduleItemRepository.findMinuteRangesByGroup(groupId).forEach(range -> add(minutes, range));
+        return minutes;
+    }
+
+    // Frees the released minutes of one set of people and takes the new minutes
+    // for another, or changes nothing and returns the first person who is busy.
+    // Minutes a person gives up in the same claim do not count against them.
+    public Person claim(Claim claim) {
+        Set<Person> people = claim.people();
+        if (people.isEmpty()) {
+            return null;
+        }
+
+        Map<Person, Occupancy> entries = new HashMap<>();
+        people.forEach(person -> entries.put(person, occupancies.computeIfAbsent(person, p -> new Occupancy())));
+        for (int attempt = 1; attempt < LOAD_ATTEMPTS; attempt++) {
+            refresh(entries);
+            synchronized (this) {
+                if (entries.values().stream().allMatch(Occupancy::isCurrent)) {
+                    return take(claim, entries);
+                }
+            }
+        }
+
+        // Loads keep racing writes to these people, so load under the lock.
+        synchronized (this) {
+            refresh(entries);
+            return take(claim, entries);
+        }
+    }
+
+    // The claim committed. Its people are reloaded on next use, since a load
+    // that read the new rows while the claim was pending counted it twice.
+    public void settle(Claim claim) {
+        synchronized (this) {
+            for (Person person : claim.from().people()) {
+                occupancies.get(person).settle(claim.released(), NOTHING);
+            }
+            for (Person person : claim.to().people()) {
+                occupancies.get(person).settle(NOTHING, claim.taken());
+            }
+        }
+
+        claim.people().forEach(this::publish);
+    }
+
+    // The claim did not commit: its minutes go back as they were.
+    public synchronized void abandon(Claim claim) {
+        for (Person person : claim.to().people()) {
+            occupancies.get(person).abandon(NOTHING, claim.taken());
+        }
+        for (Person person : claim.from().people()) {
+            occupancies.get(person).abandon(claim.released(), NOTHING);
+        }
+    }
+
+    // A delete has committed: its people are reloaded on next use.
+    public void release(Members members) {
+        synchronized (this) {
+            for (Person person : members.people()) {
+                Occupancy occupancy = occupancies.get(person);
+                if (occupancy != null) {
+                    occupancy.settle(NOTHING, NOTHING);
+                }
+            }
+        }
+
+        members.people().forEach(this::publish);
+    }
+
+    public void clear() {
+        occupancies.values().forEach(Occupancy::invalidate);
+    }
+
+    private Person take(Claim claim, Map<Person, Occupancy> entries) {
+        for (Person person : claim.to().people()) {
+            WeeklyOccupancy ignored = claim.from().people().contains(person) ? claim.released() : NOTHING;
+            if (entries.get(person).minutes.intersects(claim.taken(), ignored)) {
+                return person;
+            }
+        }
+
+        for (Person person : claim.from().people()) {
+            entries.get(person).free(claim.released());
+        }
+        for (Person person : claim.to().people()) {
+            entries.get(person).hold(claim.taken());
+        }
+
+        return null;
+    }
+
+    // Stale people are fetched together; a person a local write changed during
+    // the query stays stale.
+    private void refresh(Map<Person, Occupancy> entries) {
+        Map<Person, Occupancy.Version> stale = new HashMap<>();
+        synchronized (this) {
+            entries.forEach((person, occupancy) -> {
+                if (!occupancy.isCurrent()) {
+                    stale.put(person, occupancy.version());
+                }
+            });
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+
+        Map<Person, WeeklyOccupancy> loaded = new HashMap<>();
+        stale.keySet().forEach(person -> loaded.put(person, new WeeklyOccupancy()));
+        loadKind(loaded, TRAINER, scheduleItemRepository::findMinuteRangesByTrainers);
+        loadKind(loaded, STUDENT, scheduleItemRepository::findMinuteRangesByStudents);
+
+        synchronized (this) {
+            stale.forEach((person, version) -> entries.get(person).reload(version, loaded.get(person)));
+        }
+    }
+
+    private static void loadKind(Map<Person, WeeklyOccupancy> missing,
+                                 String kind,
+                                 Function<Collection<Long>, List<ScheduleItemRepository.MinuteRange>> query) {
+        List<Long> ids = missing.keySet().stream()
+                .filter(person -> person.kind().equals(kind))
+                .map(Person::id)
+                .toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        query.apply(ids).forEach(range -> add(missing.get(new Person(kind, range.getOwnerId())), range));
+    }
+
+    private static void add(WeeklyOccupancy occupancy, ScheduleItemRepository.MinuteRange range) {
+        if (occupancy != null && range.getStartMinute() != null && range.getEndMinute() != null) {
+            occupancy.set(range.getStartMinute(), range.getEndMinute());
+        }
+    }
+
+    private void publish(Person person) {
+        sharedCacheTier.publishInvalidation(nodeId, REGION, person.kind() + ":" + person.id());
+    }
+
+    private void onInvalidation(String origin, String region, String key) {
+        switch (region) {
+            case REGION -> {
+                if (!nodeId.equals(origin)) {
+                    int separator = key.indexOf(':');
+                    invalidate(new Person(key.substring(0, separator), Long.valueOf(key.substring(separator + 1))));
+                }
+            }
+            case TRAINER, STUDENT -> {
+                if (ALL_KEYS.equals(key)) {
+                    occupancies.forEach((person, occupancy) -> {
+                        if (person.kind().equals(region)) {
+                            occupancy.invalidate();
+                        }
+                    });
+                } else {
+                    invalidate(new Person(region, Long.valueOf(key)));
+                }
+            }
+            case HALL_REGION -> clear();
+            default -> {
+            }
+        }
+    }
+
+    // Group and schedule item invalidations do not name the people involved,
+    // so deletes, including those cascaded from trainers and students, are
+    // taken from the change feed, which does.
+    private void onChange(ScheduleChange change) {
+        if (change.action() != ScheduleChange.Action.DELETED) {
+            return;
+        }
+
+        change.trainerIds().forEach(id -> invalidate(new Person(TRAINER, id)));
+        change.studentIds().forEach(id -> invalidate(new Person(STUDENT, id)));
+    }
+
+    private void invalidate(Person person) {
+        Occupancy occupancy = occupancies.get(person);
+        if (occupancy != null) {
+            occupancy.invalidate();
+        }
+    }
+
+    // Minutes are the committed rows plus the pending claims; only ever used
+    // under the index lock, apart from the invalidation counter.
+    private static final class Occupancy {
+        private final WeeklyOccupancy taken = new WeeklyOccupancy();
+        private final WeeklyOccupancy released = new WeeklyOccupancy();
+        private final AtomicLong invalidations = new AtomicLong(1);
+        private WeeklyOccupancy minutes = new WeeklyOccupancy();
+        private volatile long loadedAt;
+        private long writes;
+
+        private boolean isCurrent() {
+            return loadedAt == invalidations.get();
+        }
+
+        private void invalidate() {
+            invalidations.incrementAndGet();
+        }
+
+        private Version version() {
+            return new Version(invalidations.get(), writes);
+        }
+
+        private void reload(Version version, WeeklyOccupancy committed) {
+            if (version.writes() != writes) {
+                return;
+            }
+
+            committed.add(taken);
+            committed.remove(released);
+            minutes = committed;
+            loadedAt = version.invalidations();
+        }
+
+        private void hold(WeeklyOccupancy minutes) {
+            this.minutes.add(minutes);
+            taken.add(minutes);
+        }
+
+        private void free(WeeklyOccupancy minutes) {
+            this.minutes.remove(minutes);
+            released.add(minutes);
+        }
+
+        private void abandon(WeeklyOccupancy releasedMinutes, WeeklyOccupancy takenMinutes) {
+            minutes.remove(takenMinutes);
+            taken.remove(takenMinutes);
+            minutes.add(releasedMinutes);
+            released.remove(releasedMinutes);
+        }
+
+        private void settle(WeeklyOccupancy releasedMinutes, WeeklyOccupancy takenMinutes) {
+            released.remove(releasedMinutes);
+            taken.remove(takenMinutes);
+            writes++;
+            invalidate();
+        }
+
+        private record Version(long invalidations, long writes) {
+        }
+    }
+
+    public record Person(String kind, Long id) {
+    }
+
+    public record Members(Set<Person> people) {
+        public static final Members NONE = new Members(Set.of());
+
+        public Members {
+            people = Set.copyOf(people);
+        }
+
+        public static Members of(Long trainerId, Collection<Long> studentIds) {
+            Set<Person> people = new LinkedHashSet<>();
+            if (trainerId != null) {
+                people.add(new Person(TRAINER, trainerId));
+            }
+            if (studentIds != null) {
+                studentIds.forEach(studentId -> people.add(new Person(STUDENT, studentId)));
+            }
+
+            return new Members(people);
+        }
+
+        public static Members of(GroupSnapshot group) {
+            return of(group.trainerId(), group.studentIds());
+        }
+
+        public Members and(Members other) {
+            Set<Person> people = new LinkedHashSet<>(this.people);
+            people.addAll(other.people);
+            return new Members(people);
+        }
+    }
+
+    // Minutes released by one set of people and taken by another in one write.
+    public record Claim(Members from, WeeklyOccupancy released, Members to, WeeklyOccupancy taken) {
+        public static Claim reserve(Members members, WeeklyOccupancy minutes) {
+            return new Claim(Members.NONE, NOTHING, members, minutes);
+        }
+
+        public Set<Person> people() {
+            return from.and(to).people();
+        }
+    }
+}
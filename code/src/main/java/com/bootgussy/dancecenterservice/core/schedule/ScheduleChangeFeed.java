@@ -0,0 +1,156 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.SharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Committed schedule, group and hall changes go out on their own shared topic,
+// so every node hears them, and each node pushes them to its own subscribers.
+// Every subscriber has a bounded queue drained by one feed task at a time, so
+// its events stay in order and a slow client only holds up itself; a client
+// that lets its queue fill up is disconnected.
+@Component
+public class ScheduleChangeFeed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleChangeFeed.class);
+    private static final String TOPIC = "schedule-change";
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ScheduleChange>> listeners = new CopyOnWriteArrayList<>();
+    private final SharedCacheTier sharedCacheTier;
+    private final ObjectMapper objectMapper;
+    private final Executor changeFeedExecutor;
+
+    @Autowired
+    public ScheduleChangeFeed(SharedCacheTier sharedCacheTier,
+                              ObjectMapper objectMapper,
+                              @Qualifier("changeFeedExecutor") Executor changeFeedExecutor) {
+        this.sharedCacheTier = sharedCacheTier;
+        this.objectMapper = objectMapper;
+        this.changeFeedExecutor = changeFeedExecutor;
+        sharedCacheTier.subscribe(TOPIC, this::onMessage);
+    }
+
+    public SseEmitter subscribe(Filter filter) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // Listeners hear every node's changes on the topic thread, before and
+    // regardless of the subscriber fan-out, so they can use them to evict.
+    public void listen(Consumer<ScheduleChange> listener) {
+        listeners.add(listener);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ScheduleChange change) {
+        try {
+            sharedCacheTier.publish(TOPIC, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Schedule change could not be published: {}", e.getMessage());
+        }
+    }
+
+    private void onMessage(String message) {
+        if (listeners.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+
+        ScheduleChange change;
+        try {
+            change = objectMapper.readValue(message, ScheduleChange.class);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Ignoring malformed schedule change: {}", e.getMessage());
+            return;
+        }
+
+        listeners.forEach(listener -> listener.accept(change));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter().matches(change)) {
+                offer(subscriber, change);
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, ScheduleChange change) {
+        if (!subscriber.queue().offer(change)) {
+            disconnect(subscriber, new IllegalStateException("Subscriber is too slow, "
+                    + QUEUE_CAPACITY + " schedule changes are waiting"));
+            return;
+        }
+
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                changeFeedExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                disconnect(subscriber, e);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            ScheduleChange change;
+            while ((change = subscriber.queue().poll()) != null) {
+                try {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .name(change.type().name().toLowerCase())
+                            .data(change));
+                } catch (IOException | IllegalStateException e) {
+                    disconnect(subscriber, e);
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+        } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private void disconnect(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue().clear();
+            subscriber.emitter().completeWithError(cause);
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter,
+                              Filter filter,
+                              BlockingQueue<ScheduleChange> queue,
+                              AtomicBoolean draining) {
+        Subscriber(SseEmitter emitter, Filter filter) {
+            this(emitter, filter, new ArrayBlockingQueue<>(QUEUE_CAPACITY), new AtomicBoolean());
+        }
+    }
+
+    public record Filter(Long hallId, Long groupId, Long trainerId, Long studentId) {
+        public boolean matches(ScheduleChange change) {
+            return (hallId == null || change.hallIds().contains(hallId))
+                    && (groupId == null || change.groupIds().contains(groupId))
+                    && (trainerId == null || change.trainerIds().contains(trainerId))
+                    && (studentId == null || change.studentIds().contains(studentId));
+        }
+    }
+}
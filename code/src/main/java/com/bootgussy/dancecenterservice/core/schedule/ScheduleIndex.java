@@ -0,0 +1,235 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.SharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Hall schedules are loaded on first use and kept current by local writes.
+// Writes on other nodes, and hall or group changes anywhere, mark the affected
+// schedules stale so the next use reloads them from the database. There is one
+// schedule per hall and day for the life of the node, so every writer checks
+// and locks the same instance.
+@Component
+public class ScheduleIndex {
+    private static final String REGION = "schedule-index";
+    private static final String HALL_REGION = "hall";
+    private static final String GROUP_REGION = "group";
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Key, HallSchedule> schedules = new ConcurrentHashMap<>();
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final SharedCacheTier sharedCacheTier;
+
+    @Autowired
+    public ScheduleIndex(ScheduleItemRepository scheduleItemRepository,
+                         SharedCacheTier sharedCacheTier) {
+        this.scheduleItemRepository = scheduleItemRepository;
+        this.sharedCacheTier = sharedCacheTier;
+        sharedCacheTier.subscribe(this::onInvalidation);
+    }
+
+    public HallSchedule schedule(Hall hall, DayOfWeek dayOfWeek) {
+        Key key = new Key(hall.getId(), dayOfWeek);
+        HallSchedule schedule = schedules.computeIfAbsent(key, k -> new HallSchedule());
+        if (!schedule.isCurrent()) {
+            load(key, schedule);
+        }
+
+        return schedule;
+    }
+
+    public Map<Key, HallSchedule> schedules(Collection<ScheduleItem> scheduleItems) {
+        return schedulesFor(scheduleItems.stream().map(Key::of).toList());
+    }
+
+    // Stale schedules are fetched together in one query. One that a local write
+    // changed meanwhile is loaded again on its own under its lock.
+    public Map<Key, HallSchedule> schedulesFor(Collection<Key> keys) {
+        Map<Key, HallSchedule> result = new LinkedHashMap<>();
+        Map<Key, HallSchedule.Version> stale = new LinkedHashMap<>();
+        for (Key key : keys) {
+            HallSchedule schedule = schedules.computeIfAbsent(key, k -> new HallSchedule());
+            result.put(key, schedule);
+            if (!schedule.isCurrent()) {
+                stale.put(key, schedule.version());
+            }
+        }
+
+        if (stale.isEmpty()) {
+            return result;
+        }
+
+        Map<Key, List<ScheduleItem>> loaded = new HashMap<>();
+        stale.keySet().forEach(key -> loaded.put(key, new ArrayList<>()));
+        int fromMinute = stale.keySet().stream()
+                .mapToInt(key -> ScheduleItem.startOfDay(key.dayOfWeek()))
+                .min()
+                .orElse(0);
+        int toMinute = stale.keySet().stream()
+                .mapToInt(key -> ScheduleItem.startOfDay(key.dayOfWeek()) + ScheduleItem.MINUTES_PER_DAY)
+                .max()
+                .orElse(0);
+        scheduleItemRepository.findAllByHallsAndStartMinuteRange(
+                stale.keySet().stream().map(Key::hallId).collect(Collectors.toSet()), fromMinute, toMinute
+        ).forEach(scheduleItem -> {
+            List<ScheduleItem> items = loaded.get(Key.of(scheduleItem));
+            if (items != null) {
+                items.add(scheduleItem);
+            }
+        });
+
+        stale.forEach((key, version) -> {
+            HallSchedule schedule = result.get(key);
+            if (!schedule.reload(version, loaded.get(key))) {
+                load(key, schedule);
+            }
+        });
+
+        return result;
+    }
+
+    // Holds the slot until the write settles; called under the schedule's lock.
+    public void claimAll(Collection<ScheduleItem> scheduleItems) {
+        scheduleItems.forEach(this::claim);
+    }
+
+    public void claim(ScheduleItem scheduleItem) {
+        schedules.computeIfAbsent(Key.of(scheduleItem), k -> new HallSchedule()).claim(scheduleItem);
+    }
+
+    // The write committed: its slots stay and other nodes reload these schedules.
+    public void settleAll(Collection<ScheduleItem> scheduleItems) {
+        Set<Key> changed = new LinkedHashSet<>();
+        for (ScheduleItem scheduleItem : scheduleItems) {
+            Key key = Key.of(scheduleItem);
+            HallSchedule schedule = schedules.get(key);
+            if (schedule != null) {
+                schedule.settle(scheduleItem.getId());
+            }
+            changed.add(key);
+        }
+        changed.forEach(this::publish);
+    }
+
+    public void settle(ScheduleItem scheduleItem) {
+        settleAll(List.of(scheduleItem));
+    }
+
+    public void remove(Long hallId, DayOfWeek dayOfWeek, Long id) {
+        Key key = new Key(hallId, dayOfWeek);
+        HallSchedule schedule = schedules.get(key);
+        if (schedule != null) {
+            schedule.remove(id);
+        }
+        publish(key);
+    }
+
+    // The write did not commit: its claims go and the schedules it touched are
+    // reloaded from the database on next use.
+    public void forget(Collection<ScheduleItem> scheduleItems) {
+        Set<Key> changed = new LinkedHashSet<>();
+        for (ScheduleItem scheduleItem : scheduleItems) {
+            Key key = Key.of(scheduleItem);
+            HallSchedule schedule = schedules.get(key);
+            if (schedule != null) {
+                schedule.release(scheduleItem.getId());
+                schedule.invalidate();
+            }
+            changed.add(key);
+        }
+        changed.forEach(this::publish);
+    }
+
+    public void clear() {
+        schedules.values().forEach(HallSchedule::invalidate);
+    }
+
+    private void load(Key key, HallSchedule schedule) {
+        synchronized (schedule) {
+            if (schedule.isCurrent()) {
+                return;
+            }
+
+            HallSchedule.Version version = schedule.version();
+            int fromMinute = ScheduleItem.startOfDay(key.dayOfWeek());
+            schedule.reload(version, scheduleItemRepository.findAllByHallAndStartMinuteRange(key.hallId(),
+                    fromMinute, fromMinute + ScheduleItem.MINUTES_PER_DAY));
+        }
+    }
+
+    private void publish(Key key) {
+        sharedCacheTier.publishInvalidation(nodeId, REGION, key.hallId() + ":" + key.dayOfWeek());
+    }
+
+    private void onInvalidation(String origin, String region, String key) {
+        switch (region) {
+            case REGION -> {
+                if (!nodeId.equals(origin)) {
+                    evict(key);
+                }
+            }
+            case HALL_REGION -> {
+                if (ALL_KEYS.equals(key)) {
+                    clear();
+                } else {
+                    Long hallId = Long.valueOf(key);
+                    evictIf(entry -> entry.getKey().hallId().equals(hallId));
+                }
+            }
+            case GROUP_REGION -> {
+                if (ALL_KEYS.equals(key)) {
+                    clear();
+                } else {
+                    Long groupId = Long.valueOf(key);
+                    evictIf(entry -> entry.getValue().containsGroup(groupId));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void evict(String key) {
+        int separator = key.indexOf(':');
+        HallSchedule schedule = schedules.get(new Key(Long.valueOf(key.substring(0, separator)),
+                DayOfWeek.valueOf(key.substring(separator + 1))));
+        if (schedule != null) {
+            schedule.invalidate();
+        }
+    }
+
+    private void evictIf(Predicate<Map.Entry<Key, HallSchedule>> condition) {
+        schedules.entrySet().stream()
+                .filter(condition)
+                .forEach(entry -> entry.getValue().invalidate());
+    }
+
+    public record Key(Long hallId, DayOfWeek dayOfWeek) implements Comparable<Key> {
+        public static Key of(ScheduleItem scheduleItem) {
+            return new Key(scheduleItem.getHall().getId(), scheduleItem.getDayOfWeek());
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byHall = hallId.compareTo(other.hallId);
+            return byHall != 0 ? byHall : dayOfWeek.compareTo(other.dayOfWeek);
+        }
+    }
+}
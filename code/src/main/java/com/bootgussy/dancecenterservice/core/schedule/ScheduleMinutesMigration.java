@@ -0,0 +1,46 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// Hibernate adds the minute columns as nullable; rows written before they
+// existed are encoded here, ahead of the warm-up runner reading them.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ScheduleMinutesMigration implements ApplicationRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduleMinutesMigration.class);
+
+    private static final String DAY_OFFSET = "(CASE day_of_week" +
+            " WHEN 'Monday' THEN 0 WHEN 'Tuesday' THEN 1 WHEN 'Wednesday' THEN 2" +
+            " WHEN 'Thursday' THEN 3 WHEN 'Friday' THEN 4 WHEN 'Saturday' THEN 5" +
+            " WHEN 'Sunday' THEN 6 END) * 1440";
+
+    private static final String BACKFILL_SQL = "UPDATE schedule SET" +
+            " start_minute = " + DAY_OFFSET +
+            " + EXTRACT(HOUR FROM start_time) * 60 + EXTRACT(MINUTE FROM start_time)," +
+            " end_minute = " + DAY_OFFSET +
+            " + EXTRACT(HOUR FROM end_time) * 60 + EXTRACT(MINUTE FROM end_time)" +
+            " WHERE start_minute IS NULL OR end_minute IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ScheduleMinutesMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        if (updated > 0) {
+            LOGGER.info("Encoded start and end minutes for {} schedule items", updated);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.SharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// Weekly timetable of every hall, ready to serve. Halls are loaded on first
+// read and then patched entry by entry on schedule writes; a patch replaces
+// the hall's timetable so readers never see a half-applied change. A patch
+// counts as an eviction, so a load that read the rows before it is not kept.
+@Component
+public class TimetableReadModel {
+    private static final String REGION = "hall-timetable";
+    private static final String HALL_REGION = "hall";
+    private static final String GROUP_REGION = "group";
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, HallTimetable> timetables = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final SharedCacheTier sharedCacheTier;
+
+    @Autowired
+    public TimetableReadModel(ScheduleItemRepository scheduleItemRepository,
+                              SharedCacheTier sharedCacheTier) {
+        this.scheduleItemRepository = scheduleItemRepository;
+        this.sharedCacheTier = sharedCacheTier;
+        sharedCacheTier.subscribe(this::onInvalidation);
+    }
+
+    // Halls not loaded yet are read together with one query on the hall index.
+    public List<HallTimetable> timetables(List<HallSnapshot> halls) {
+        Map<Long, HallSnapshot> missing = new HashMap<>();
+        for (HallSnapshot hall : halls) {
+            if (!timetables.containsKey(hall.id())) {
+                missing.put(hall.id(), hall);
+            }
+        }
+
+        Map<Long, HallTimetable> loaded = missing.isEmpty() ? Map.of() : load(missing);
+
+        List<HallTimetable> result = new ArrayList<>(halls.size());
+        for (HallSnapshot hall : halls) {
+            HallTimetable timetable = timetables.get(hall.id());
+            result.add(timetable != null ? timetable : loaded.get(hall.id()));
+        }
+
+        return result;
+    }
+
+    public void put(ScheduleItem scheduleItem, GroupSnapshot group) {
+        Long hallId = scheduleItem.getHall().getId();
+        evictions.incrementAndGet();
+        timetables.computeIfPresent(hallId,
+                (id, timetable) -> timetable.with(HallTimetable.Entry.of(scheduleItem, group)));
+        publish(hallId);
+    }
+
+    public void putAll(Collection<ScheduleItem> scheduleItems, Map<Long, GroupSnapshot> groups) {
+        Map<Long, List<ScheduleItem>> byHall = new HashMap<>();
+        for (ScheduleItem scheduleItem : scheduleItems) {
+            byHall.computeIfAbsent(scheduleItem.getHall().getId(), id -> new ArrayList<>()).add(scheduleItem);
+        }
+
+        evictions.incrementAndGet();
+        byHall.forEach((hallId, hallItems) -> {
+            timetables.computeIfPresent(hallId, (id, timetable) -> {
+                HallTimetable changed = timetable;
+                for (ScheduleItem scheduleItem : hallItems) {
+                    changed = changed.with(HallTimetable.Entry.of(scheduleItem,
+                            groups.get(scheduleItem.getGroup().getId())));
+                }
+                return changed;
+            });
+            publish(hallId);
+        });
+    }
+
+    public void remove(Long hallId, Long id) {
+        evictions.incrementAndGet();
+        timetables.computeIfPresent(hallId, (key, timetable) -> timetable.without(id));
+        publish(hallId);
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        timetables.clear();
+    }
+
+    private Map<Long, HallTimetable> load(Map<Long, HallSnapshot> halls) {
+        long evictionsBeforeLoad = evictions.get();
+        Map<Long, List<HallTimetable.Entry>> entries = new HashMap<>();
+        halls.keySet().forEach(hallId -> entries.put(hallId, new ArrayList<>()));
+        scheduleItemRepository.findAllWithGroupByHallIdIn(halls.keySet()).forEach(scheduleItem ->
+                entries.get(scheduleItem.getHall().getId()).add(HallTimetable.Entry.of(scheduleItem)));
+
+        boolean cacheable = evictions.get() == evictionsBeforeLoad;
+        Map<Long, HallTimetable> loaded = new HashMap<>();
+        halls.forEach((hallId, hall) -> {
+            HallTimetable timetable = new HallTimetable(hallId, hall.name(), entries.get(hallId));
+            if (cacheable) {
+                HallTimetable existing = timetables.putIfAbsent(hallId, timetable);
+                timetable = existing != null ? existing : timetable;
+            }
+            loaded.put(hallId, timetable);
+        });
+
+        return loaded;
+    }
+
+    private void publish(Long hallId) {
+        sharedCacheTier.publishInvalidation(nodeId, REGION, hallId.toString());
+    }
+
+    private void onInvalidation(String origin, String region, String key) {
+        switch (region) {
+            case REGION -> {
+                if (!nodeId.equals(origin)) {
+                    evict(Long.valueOf(key));
+                }
+            }
+            case HALL_REGION -> {
+                if (ALL_KEYS.equals(key)) {
+                    clear();
+                } else {
+                    evict(Long.valueOf(key));
+                }
+            }
+            case GROUP_REGION -> {
+                if (ALL_KEYS.equals(key)) {
+                    clear();
+                } else {
+                    Long groupId = Long.valueOf(key);
+                    evictions.incrementAndGet();
+                    timetables.values().removeIf(timetable -> timetable.containsGroup(groupId));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void evict(Long hallId) {
+        evictions.incrementAndGet();
+        timetables.remove(hallId);
+    }
+}
@@ -0,0 +1,154 @@
+package com.bootgussy.dancecenterservice.core.schedule;
+
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+
+// Busy minutes of one week, one bit per minute of week. Checks and updates
+// work on whole 64-bit words, so comparing two weeks takes 158 ANDs. Once two
+// sessions share a minute, per-minute counts are kept as well, so removing one
+// of them leaves the minute busy.
+public class WeeklyOccupancy {
+    public static final int MINUTES_PER_WEEK = 7 * ScheduleItem.MINUTES_PER_DAY;
+
+    private static final int WORDS = (MINUTES_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words = new long[WORDS];
+    private short[] counts;
+
+    public static WeeklyOccupancy of(ScheduleItem scheduleItem) {
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        occupancy.set(ScheduleItem.minuteOfWeek(scheduleItem.getDayOfWeek(), scheduleItem.getStartTime()),
+                ScheduleItem.minuteOfWeek(scheduleItem.getDayOfWeek(), scheduleItem.getEndTime()));
+        return occupancy;
+    }
+
+    public void set(int start, int end) {
+        if (start >= end) {
+            return;
+        }
+
+        int first = start >>> 6;
+        int last = (end - 1) >>> 6;
+        for (int i = first; i <= last; i++) {
+            if ((words[i] & mask(i, first, last, start, end)) != 0) {
+                keepCounts();
+            }
+        }
+
+        for (int i = first; i <= last; i++) {
+            words[i] |= mask(i, first, last, start, end);
+        }
+        if (counts != null) {
+            for (int minute = start; minute < end; minute++) {
+                counts[minute]++;
+            }
+        }
+    }
+
+    public boolean intersects(WeeklyOccupancy other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Whether other overlaps these minutes once the ignored ones are left out.
+    public boolean intersects(WeeklyOccupancy other, WeeklyOccupancy ignored) {
+        for (int i = 0; i < WORDS; i++) {
+            long shared = words[i] & other.words[i];
+            if (counts == null) {
+                shared &= ~ignored.words[i];
+            }
+            for (; shared != 0; shared &= shared - 1) {
+                int minute = (i << 6) + Long.numberOfTrailingZeros(shared);
+                if (count(minute) > ignored.count(minute)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public void add(WeeklyOccupancy other) {
+        if (counts == null && other.counts == null && !intersects(other)) {
+            for (int i = 0; i < WORDS; i++) {
+                words[i] |= other.words[i];
+            }
+            return;
+        }
+
+        keepCounts();
+        for (int i = 0; i < WORDS; i++) {
+            for (long bits = other.words[i]; bits != 0; bits &= bits - 1) {
+                int minute = (i << 6) + Long.numberOfTrailingZeros(bits);
+                counts[minute] += (short) other.count(minute);
+            }
+            words[i] |= other.words[i];
+        }
+    }
+
+    public void remove(WeeklyOccupancy other) {
+        if (counts == null) {
+            for (int i = 0; i < WORDS; i++) {
+                words[i] &= ~other.words[i];
+            }
+            return;
+        }
+
+        for (int i = 0; i < WORDS; i++) {
+            for (long bits = words[i] & other.words[i]; bits != 0; bits &= bits - 1) {
+                int minute = (i << 6) + Long.numberOfTrailingZeros(bits);
+                counts[minute] = (short) Math.max(0, counts[minute] - other.count(minute));
+                if (counts[minute] == 0) {
+                    words[i] &= ~(1L << minute);
+                }
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int count(int minute) {
+        if (counts != null) {
+            return counts[minute];
+        }
+
+        return (int) (words[minute >>> 6] >>> minute) & 1;
+    }
+
+    private void keepCounts() {
+        if (counts != null) {
+            return;
+        }
+
+        counts = new short[MINUTES_PER_WEEK];
+        for (int i = 0; i < WORDS; i++) {
+            for (long bits = words[i]; bits != 0; bits &= bits - 1) {
+                counts[(i << 6) + Long.numberOfTrailingZeros(bits)] = 1;
+            }
+        }
+    }
+
+    private static long mask(int word, int first, int last, int start, int end) {
+        long mask = -1L;
+        if (word == first) {
+            mask &= -1L << start;
+        }
+        if (word == last) {
+            mask &= -1L >>> -end;
+        }
+
+        return mask;
+    }
+}
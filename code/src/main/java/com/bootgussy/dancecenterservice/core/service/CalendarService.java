@@ -0,0 +1,9 @@
+package com.bootgussy.dancecenterservice.core.service;
+
+import com.bootgussy.dancecenterservice.core.model.CalendarFeed;
+
+public interface CalendarService {
+    CalendarFeed findTrainerCalendar(Long trainerId);
+
+    CalendarFeed findStudentCalendar(Long studentId);
+}
@@ -1,14 +1,20 @@
 package com.bootgussy.dancecenterservice.core.service;
 
 import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
 import java.util.List;
 
 public interface GroupService {
-    Group findGroupById(Long id);
+    GroupSnapshot findGroupById(Long id);
 
-    List<Group> findAllGroups();
+    List<GroupSnapshot> findGroupsByIds(List<Long> ids);
 
-    List<Group> findAllGroupsByDanceStyle(String danceStyle);
+    List<GroupSnapshot> findAllGroups();
+
+    KeysetPage<GroupSnapshot> findGroupsPage(int limit, String cursor);
+
+    List<GroupSnapshot> findAllGroupsByDanceStyle(String danceStyle);
 
     Group createGroup(Group group);
 
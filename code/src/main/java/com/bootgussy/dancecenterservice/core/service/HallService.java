@@ -1,12 +1,18 @@
 package com.bootgussy.dancecenterservice.core.service;
 
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
 import java.util.List;
 
 public interface HallService {
-    Hall findHallById(Long id);
+    HallSnapshot findHallById(Long id);
 
-    List<Hall> findAllHalls();
+    List<HallSnapshot> findHallsByIds(List<Long> ids);
+
+    List<HallSnapshot> findAllHalls();
+
+    KeysetPage<HallSnapshot> findHallsPage(int limit, String cursor);
 
     Hall createHall(Hall hall);
 
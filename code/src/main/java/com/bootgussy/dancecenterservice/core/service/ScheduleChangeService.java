@@ -0,0 +1,7 @@
+package com.bootgussy.dancecenterservice.core.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ScheduleChangeService {
+    SseEmitter subscribe(Long hallId, Long groupId, Long trainerId, Long userId);
+}
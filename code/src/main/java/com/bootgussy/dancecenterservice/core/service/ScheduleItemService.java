@@ -1,14 +1,42 @@
 package com.bootgussy.dancecenterservice.core.service;
 
+import com.bootgussy.dancecenterservice.core.model.FreeSlot;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.SessionOccurrence;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ScheduleItemService {
-    ScheduleItem findScheduleItemById(Long id);
+    ScheduleItemSnapshot findScheduleItemById(Long id);
 
-    List<ScheduleItem> findAllScheduleItems();
+    List<ScheduleItemSnapshot> findScheduleItemsByIds(List<Long> ids);
 
-    List<ScheduleItem> findAllScheduleItemsByGroup(Long groupId);
+    List<ScheduleItemSnapshot> findAllScheduleItems();
+
+    KeysetPage<ScheduleItemSnapshot> findScheduleItemsPage(int limit, String cursor);
+
+    List<ScheduleItemSnapshot> findAllScheduleItemsByGroup(Long groupId);
+
+    List<FreeSlot> findFreeSlots(int duration,
+                                 LocalTime from,
+                                 LocalTime to,
+                                 List<DayOfWeek> days,
+                                 List<Long> hallIds);
+
+    List<HallTimetable> findHallTimetables(List<Long> hallIds);
+
+    Stream<SessionOccurrence> expandOccurrences(LocalDate from,
+                                                LocalDate to,
+                                                Long hallId,
+                                                Long groupId,
+                                                Long trainerId,
+                                                Long studentId);
 
     ScheduleItem createScheduleItem(ScheduleItem scheduleItem);
 
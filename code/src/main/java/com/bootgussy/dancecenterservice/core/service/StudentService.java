@@ -1,12 +1,18 @@
 package com.bootgussy.dancecenterservice.core.service;
 
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Student;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
 import java.util.List;
 
 public interface StudentService {
-    Student findStudentById(Long id);
+    StudentSnapshot findStudentById(Long id);
 
-    List<Student> findAllStudents();
+    List<StudentSnapshot> findStudentsByIds(List<Long> ids);
+
+    List<StudentSnapshot> findAllStudents();
+
+    KeysetPage<StudentSnapshot> findStudentsPage(int limit, String cursor);
 
     Student createStudent(Student student);
 
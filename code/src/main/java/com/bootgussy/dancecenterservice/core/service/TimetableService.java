@@ -0,0 +1,16 @@
+package com.bootgussy.dancecenterservice.core.service;
+
+import com.bootgussy.dancecenterservice.core.model.TimeWindow;
+import com.bootgussy.dancecenterservice.core.model.Timetable;
+import com.bootgussy.dancecenterservice.core.model.TimetableSession;
+import java.time.Duration;
+import java.util.List;
+
+public interface TimetableService {
+    Timetable solveTimetable(List<TimetableSession> sessions,
+                             List<TimeWindow> windows,
+                             int step,
+                             Duration timeBudget,
+                             int parallelism,
+                             boolean commit);
+}
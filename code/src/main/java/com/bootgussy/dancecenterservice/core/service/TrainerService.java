@@ -1,12 +1,18 @@
 package com.bootgussy.dancecenterservice.core.service;
 
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
 import java.util.List;
 
 public interface TrainerService {
-    Trainer findTrainerById(Long id);
+    TrainerSnapshot findTrainerById(Long id);
 
-    List<Trainer> findAllTrainers();
+    List<TrainerSnapshot> findTrainersByIds(List<Long> ids);
+
+    List<TrainerSnapshot> findAllTrainers();
+
+    KeysetPage<TrainerSnapshot> findTrainersPage(int limit, String cursor);
 
     Trainer createTrainer(Trainer trainer);
 
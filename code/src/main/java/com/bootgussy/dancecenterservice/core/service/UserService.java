@@ -1,13 +1,18 @@
 package com.bootgussy.dancecenterservice.core.service;
 
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.UserSnapshot;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.List;
 
 public interface UserService extends UserDetailsService {
     List<User> findByName(String name);
-    List<User> findAllUsers();
+    List<UserSnapshot> findAllUsers();
+    KeysetPage<UserSnapshot> findUsersPage(int limit, String cursor);
+    UserSnapshot findUserById(Long id);
+    UserSnapshot findUserByPhoneNumber(String phoneNumber);
     User findById(Long id);
     User findByPhoneNumber(String phoneNumber);
 
@@ -0,0 +1,68 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.model.CalendarFeed;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import com.bootgussy.dancecenterservice.core.schedule.CalendarFeedCache;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.service.CalendarService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
+import com.bootgussy.dancecenterservice.core.service.StudentService;
+import com.bootgussy.dancecenterservice.core.service.TrainerService;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+// Not transactional: a cached feed is returned without opening a transaction,
+// and only a cache miss reaches the database.
+@Service
+public class CalendarServiceImpl implements CalendarService {
+    private final CalendarFeedCache calendarFeedCache;
+    private final ScheduleItemRepository scheduleItemRepository;
+    private final HallService hallService;
+    private final TrainerService trainerService;
+    private final StudentService studentService;
+
+    @Autowired
+    public CalendarServiceImpl(CalendarFeedCache calendarFeedCache,
+                               ScheduleItemRepository scheduleItemRepository,
+                               HallService hallService,
+                               TrainerService trainerService,
+                               StudentService studentService) {
+        this.calendarFeedCache = calendarFeedCache;
+        this.scheduleItemRepository = scheduleItemRepository;
+        this.hallService = hallService;
+        this.trainerService = trainerService;
+        this.studentService = studentService;
+    }
+
+    @Override
+    public CalendarFeed findTrainerCalendar(Long trainerId) {
+        return calendarFeedCache.get(new OccupancyIndex.Person(OccupancyIndex.TRAINER, trainerId), () -> render(
+                trainerService.findTrainerById(trainerId).name(),
+                scheduleItemRepository.findAllWithGroupMatching(null, null, trainerId, null)));
+    }
+
+    @Override
+    public CalendarFeed findStudentCalendar(Long studentId) {
+        return calendarFeedCache.get(new OccupancyIndex.Person(OccupancyIndex.STUDENT, studentId), () -> render(
+                studentService.findStudentById(studentId).name(),
+                scheduleItemRepository.findAllWithGroupMatching(null, null, null, studentId)));
+    }
+
+    private CalendarFeed render(String name, List<ScheduleItem> scheduleItems) {
+        List<Long> hallIds = scheduleItems.stream()
+                .map(scheduleItem -> scheduleItem.getHall().getId())
+                .distinct()
+                .toList();
+        Map<Long, String> hallNames = hallIds.isEmpty()
+                ? Map.of()
+                : hallService.findHallsByIds(hallIds).stream()
+                        .collect(Collectors.toMap(HallSnapshot::id, HallSnapshot::name));
+
+        return CalendarFeed.of(name != null ? name + " - Dance Center" : "Dance Center", scheduleItems, hallNames);
+    }
+}
@@ -4,16 +4,31 @@ import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
 import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
 import com.bootgussy.dancecenterservice.core.model.Student;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.AggregatedIds;
 import com.bootgussy.dancecenterservice.core.repository.GroupRepository;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.schedule.WeeklyOccupancy;
 import com.bootgussy.dancecenterservice.core.service.GroupService;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 public class GroupServiceImpl implements GroupService {
@@ -21,44 +36,91 @@ public class GroupServiceImpl implements GroupService {
     private final TrainerRepository trainerRepository;
     private final StudentRepository studentRepository;
     private final CacheConfig cacheConfig;
+    private final OccupancyIndex occupancyIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public GroupServiceImpl(GroupRepository groupRepository,
                             TrainerRepository trainerRepository,
                             StudentRepository studentRepository,
-                            CacheConfig cacheConfig) {
+                            CacheConfig cacheConfig,
+                            OccupancyIndex occupancyIndex,
+                            ApplicationEventPublisher eventPublisher) {
         this.groupRepository = groupRepository;
         this.trainerRepository = trainerRepository;
         this.studentRepository = studentRepository;
         this.cacheConfig = cacheConfig;
+        this.occupancyIndex = occupancyIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public Group findGroupById(Long id) {
-        Group cachedGroup = cacheConfig.getGroup(id);
-        if (cachedGroup != null) {
-            return cachedGroup;
-        }
-
-        Group group = groupRepository.findById(id).orElse(null);
+    @Transactional(readOnly = true)
+    public GroupSnapshot findGroupById(Long id) {
+        GroupSnapshot group = cacheConfig.getGroup(id, this::loadGroup);
 
         if (group != null) {
-            cacheConfig.putGroup(id, group);
-
             return group;
         } else {
             throw new ResourceNotFoundException("Group not found. ID: " + id);
         }
     }
 
+    private GroupSnapshot loadGroup(Long id) {
+        return groupRepository.findRowById(id)
+                .map(GroupServiceImpl::toSnapshot)
+                .orElse(null);
+    }
+
     @Override
-    public List<Group> findAllGroups() {
-        return groupRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<GroupSnapshot> findGroupsByIds(List<Long> ids) {
+        Map<Long, GroupSnapshot> groups = cacheConfig.getGroups(ids, this::loadGroups);
+
+        return ids.stream()
+                .map(groups::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, GroupSnapshot> loadGroups(Set<Long> ids) {
+        return groupRepository.findRowsByIdIn(ids)
+                .stream()
+                .map(GroupServiceImpl::toSnapshot)
+                .collect(Collectors.toMap(GroupSnapshot::id, Function.identity()));
+    }
+
+    private static GroupSnapshot toSnapshot(GroupRepository.GroupRow row) {
+        return new GroupSnapshot(row.getId(), row.getDifficulty(), row.getTrainerId(),
+                AggregatedIds.parse(row.getStudentIds()), AggregatedIds.parse(row.getScheduleItemIds()));
     }
 
     @Override
-    public List<Group> findAllGroupsByDanceStyle(String danceStyle) {
-        return groupRepository.findAllByDanceStyle(danceStyle);
+    @Transactional(readOnly = true)
+    public List<GroupSnapshot> findAllGroups() {
+        return cacheConfig.getGroupList("findAllGroups", null, () -> groupRepository.findAllRows()
+                .stream()
+                .map(GroupServiceImpl::toSnapshot)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<GroupSnapshot> findGroupsPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        List<Long> ids = groupRepository.findIdsAfter(KeysetPage.afterId(cursor), Limit.of(limit + 1));
+
+        return KeysetPage.of(ids, limit, Function.identity()).map(this::findGroupsByIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GroupSnapshot> findAllGroupsByDanceStyle(String danceStyle) {
+        return cacheConfig.getGroupList("findAllGroupsByDanceStyle", danceStyle,
+                () -> groupRepository.findRowsByDanceStyle(danceStyle)
+                        .stream()
+                        .map(GroupServiceImpl::toSnapshot)
+                        .toList());
     }
 
     @Override
@@ -87,7 +149,9 @@ public class GroupServiceImpl implements GroupService {
         if (groupRepository.findByTrainerAndDifficulty(group.getTrainer(), group.getDifficulty()).isEmpty()) {
             Group savedGroup = groupRepository.save(group);
 
-            cacheConfig.putGroup(savedGroup.getId(), savedGroup);
+            cacheConfig.putGroup(savedGroup.getId(), GroupSnapshot.from(savedGroup));
+            eventPublisher.publishEvent(ScheduleChange.group(ScheduleChange.Action.CREATED, savedGroup.getId(),
+                    savedGroup.getTrainer().getId(), studentIdsOf(savedGroup)));
 
             return savedGroup;
         } else {
@@ -98,6 +162,7 @@ public class GroupServiceImpl implements GroupService {
     }
 
     @Override
+    @Transactional
     public Group updateGroup(Group group) {
         if (
                 group.getDifficulty() == null ||
@@ -128,8 +193,25 @@ public class GroupServiceImpl implements GroupService {
         }
 
         Group updatedGroup;
+        GroupSnapshot previousGroup;
 
         if (groupRepository.findById(group.getId()).isPresent()) {
+            previousGroup = findGroupById(group.getId());
+            OccupancyIndex.Members previousMembers = OccupancyIndex.Members.of(previousGroup);
+            OccupancyIndex.Members members = OccupancyIndex.Members.of(group.getTrainer().getId(),
+                    studentIdsOf(group));
+            WeeklyOccupancy minutes = occupancyIndex.groupMinutes(group.getId());
+            OccupancyIndex.Claim claim = new OccupancyIndex.Claim(previousMembers, minutes, members, minutes);
+            OccupancyIndex.Person busyPerson = occupancyIndex.claim(claim);
+            if (busyPerson != null) {
+                throw new AlreadyExistsException("Group schedule overlaps another session of the " +
+                        busyPerson.kind() + "." +
+                        " " + StringUtils.capitalize(busyPerson.kind()) + " ID: " + busyPerson.id() +
+                        ", Group ID: " + group.getId());
+            }
+            TransactionHooks.unlessCommitted(() -> occupancyIndex.abandon(claim));
+            TransactionHooks.afterCommit(() -> occupancyIndex.settle(claim));
+
             updatedGroup = groupRepository.save(group);
         } else {
             throw new ResourceNotFoundException("The group does not exist." +
@@ -137,17 +219,35 @@ public class GroupServiceImpl implements GroupService {
                     ", Trainer: " + group.getTrainer().getUser().getName() +
                     ", Difficulty: " + group.getDifficulty());
         }
-        cacheConfig.putGroup(group.getId(), updatedGroup);
+        TransactionHooks.afterCommit(() -> cacheConfig.removeGroup(group.getId()));
+        eventPublisher.publishEvent(ScheduleChange.group(ScheduleChange.Action.UPDATED, previousGroup.id(),
+                        previousGroup.trainerId(), previousGroup.studentIds())
+                .and(ScheduleChange.group(ScheduleChange.Action.UPDATED, updatedGroup.getId(),
+                        group.getTrainer().getId(), studentIdsOf(group))));
 
         return updatedGroup;
     }
 
     @Override
+    @Transactional
     public void deleteGroup(Long id) {
         Group group = groupRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Group not found. ID: " + id));
 
-        cacheConfig.removeGroup(id);
+        GroupSnapshot snapshot = GroupSnapshot.from(group);
+
         groupRepository.delete(group);
+        TransactionHooks.afterCommit(() -> {
+            cacheConfig.deleteGroup(snapshot);
+            occupancyIndex.release(OccupancyIndex.Members.of(snapshot));
+        });
+        eventPublisher.publishEvent(ScheduleChange.group(ScheduleChange.Action.DELETED, id,
+                snapshot.trainerId(), snapshot.studentIds()));
+    }
+
+    private static List<Long> studentIdsOf(Group group) {
+        return group.getStudents() != null
+                ? group.getStudents().stream().map(Student::getId).toList()
+                : null;
     }
 }
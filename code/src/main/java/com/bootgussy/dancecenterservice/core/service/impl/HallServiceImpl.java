@@ -4,46 +4,90 @@ import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.HallRepository;
 import com.bootgussy.dancecenterservice.core.service.HallService;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class HallServiceImpl implements HallService {
     private final HallRepository hallRepository;
     private final CacheConfig cacheConfig;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public HallServiceImpl(HallRepository hallRepository,
-                           CacheConfig cacheConfig) {
+                           CacheConfig cacheConfig,
+                           ApplicationEventPublisher eventPublisher) {
         this.hallRepository = hallRepository;
         this.cacheConfig = cacheConfig;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public Hall findHallById(Long id) {
-        Hall cachedHall = cacheConfig.getHall(id);
-        if (cachedHall != null) {
-            return cachedHall;
-        }
-
-        Hall hall = hallRepository.findById(id).orElse(null);
+    @Transactional(readOnly = true)
+    public HallSnapshot findHallById(Long id) {
+        HallSnapshot hall = cacheConfig.getHall(id, this::loadHall);
 
         if (hall != null) {
-            cacheConfig.putHall(id, hall);
-
             return hall;
         } else {
             throw new ResourceNotFoundException("Hall not found. ID: " + id);
         }
     }
 
+    private HallSnapshot loadHall(Long id) {
+        return hallRepository.findById(id)
+                .map(HallSnapshot::from)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HallSnapshot> findHallsByIds(List<Long> ids) {
+        Map<Long, HallSnapshot> halls = cacheConfig.getHalls(ids, this::loadHalls);
+
+        return ids.stream()
+                .map(halls::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, HallSnapshot> loadHalls(Set<Long> ids) {
+        return hallRepository.findAllWithScheduleItemsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Hall::getId, HallSnapshot::from));
+    }
+
     @Override
-    public List<Hall> findAllHalls() {
-        return hallRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<HallSnapshot> findAllHalls() {
+        return cacheConfig.getHallList("findAllHalls", null, () -> hallRepository.findAll()
+                .stream()
+                .map(HallSnapshot::from)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<HallSnapshot> findHallsPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        List<Long> ids = hallRepository.findIdsAfter(KeysetPage.afterId(cursor), Limit.of(limit + 1));
+
+        return KeysetPage.of(ids, limit, Function.identity()).map(this::findHallsByIds);
     }
 
     @Override
@@ -64,7 +108,8 @@ public class HallServiceImpl implements HallService {
                     " Name: " + hall.getName() +
                     ", Area: " + hall.getArea());
         }
-        cacheConfig.putHall(savedHall.getId(), savedHall);
+        cacheConfig.putHall(savedHall.getId(), HallSnapshot.from(savedHall));
+        eventPublisher.publishEvent(ScheduleChange.hall(ScheduleChange.Action.CREATED, savedHall.getId()));
 
         return savedHall;
     }
@@ -97,18 +142,22 @@ public class HallServiceImpl implements HallService {
                     "Area: " + hall.getArea());
         }
 
-        cacheConfig.putHall(updatedHall.getId(), updatedHall);
+        cacheConfig.removeHall(updatedHall.getId());
+        eventPublisher.publishEvent(ScheduleChange.hall(ScheduleChange.Action.UPDATED, updatedHall.getId()));
 
         return updatedHall;
     }
 
     @Override
+    @Transactional
     public void deleteHall(Long id) {
         Hall hall = hallRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Hall not found. ID: " + id));
 
-        cacheConfig.removeHall(hall.getId());
+        HallSnapshot snapshot = HallSnapshot.from(hall);
 
         hallRepository.delete(hall);
+        TransactionHooks.afterCommit(() -> cacheConfig.deleteHall(snapshot));
+        eventPublisher.publishEvent(ScheduleChange.hall(ScheduleChange.Action.DELETED, id));
     }
 }
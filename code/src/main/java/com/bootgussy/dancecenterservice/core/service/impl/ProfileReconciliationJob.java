@@ -0,0 +1,96 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.config.ReconciliationProperties;
+import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
+import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Users holding the STUDENT or TRAINER role get their missing profile rows
+// here instead of on read requests. Each chunk is one INSERT ... SELECT in its
+// own transaction, so a large backlog never holds locks for long. Profiles
+// whose user lost the role are only counted: they may still own group data.
+@Component
+public class ProfileReconciliationJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileReconciliationJob.class);
+    private static final String STUDENT_ROLE = "STUDENT";
+    private static final String TRAINER_ROLE = "TRAINER";
+    private static final String DEFAULT_DANCE_STYLE = "Not specified";
+
+    private final ReconciliationStats stats = new ReconciliationStats();
+    private final ReconciliationProperties reconciliationProperties;
+    private final StudentRepository studentRepository;
+    private final TrainerRepository trainerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ProfileReconciliationJob(ReconciliationProperties reconciliationProperties,
+                                    StudentRepository studentRepository,
+                                    TrainerRepository trainerRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.reconciliationProperties = reconciliationProperties;
+        this.studentRepository = studentRepository;
+        this.trainerRepository = trainerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${app.reconciliation.initial-delay:PT30S}",
+            fixedDelayString = "${app.reconciliation.interval:PT5M}")
+    public void scheduledReconcile() {
+        if (reconciliationProperties.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    public synchronized void reconcile() {
+        long start = System.nanoTime();
+        int chunkSize = reconciliationProperties.getChunkSize();
+
+        try {
+            long students = insertInChunks(() -> studentRepository.insertMissingForRole(STUDENT_ROLE, chunkSize),
+                    chunkSize);
+            long trainers = insertInChunks(() -> trainerRepository.insertMissingForRole(TRAINER_ROLE,
+                    DEFAULT_DANCE_STYLE, chunkSize), chunkSize);
+            long studentsWithoutRole = studentRepository.countWithoutRole(STUDENT_ROLE);
+            long trainersWithoutRole = trainerRepository.countWithoutRole(TRAINER_ROLE);
+
+            stats.recordStudentsCreated(students);
+            stats.recordTrainersCreated(trainers);
+            stats.recordWithoutRole(studentsWithoutRole, trainersWithoutRole);
+
+            if (students > 0 || trainers > 0 || studentsWithoutRole > 0 || trainersWithoutRole > 0) {
+                LOGGER.info("Reconciliation created {} students and {} trainers; " +
+                                "{} students and {} trainers have no matching role",
+                        students, trainers, studentsWithoutRole, trainersWithoutRole);
+            }
+        } catch (DataAccessException e) {
+            stats.recordFailure();
+            LOGGER.warn("Reconciliation failed, retrying on the next run: {}", e.getMessage());
+        } finally {
+            stats.recordRun(System.currentTimeMillis(), System.nanoTime() - start);
+        }
+    }
+
+    public ReconciliationStats getStats() {
+        return stats;
+    }
+
+    private long insertInChunks(IntSupplier insertChunk, int chunkSize) {
+        long total = 0;
+        int inserted;
+        do {
+            Integer chunk = transactionTemplate.execute(status -> insertChunk.getAsInt());
+            inserted = chunk != null ? chunk : 0;
+            total += inserted;
+        } while (inserted == chunkSize);
+
+        return total;
+    }
+}
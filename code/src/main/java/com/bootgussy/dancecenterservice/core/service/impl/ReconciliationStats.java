@@ -0,0 +1,70 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ReconciliationStats {
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder studentsCreated = new LongAdder();
+    private final LongAdder trainersCreated = new LongAdder();
+    private final AtomicLong studentsWithoutRole = new AtomicLong();
+    private final AtomicLong trainersWithoutRole = new AtomicLong();
+    private final AtomicLong lastRunEpochMillis = new AtomicLong();
+    private final AtomicLong lastRunNanos = new AtomicLong();
+
+    public void recordRun(long epochMillis, long nanos) {
+        runs.increment();
+        lastRunEpochMillis.set(epochMillis);
+        lastRunNanos.set(nanos);
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public void recordStudentsCreated(long count) {
+        studentsCreated.add(count);
+    }
+
+    public void recordTrainersCreated(long count) {
+        trainersCreated.add(count);
+    }
+
+    public void recordWithoutRole(long students, long trainers) {
+        studentsWithoutRole.set(students);
+        trainersWithoutRole.set(trainers);
+    }
+
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getStudentsCreated() {
+        return studentsCreated.sum();
+    }
+
+    public long getTrainersCreated() {
+        return trainersCreated.sum();
+    }
+
+    public long getStudentsWithoutRole() {
+        return studentsWithoutRole.get();
+    }
+
+    public long getTrainersWithoutRole() {
+        return trainersWithoutRole.get();
+    }
+
+    public long getLastRunEpochMillis() {
+        return lastRunEpochMillis.get();
+    }
+
+    public long getLastRunNanos() {
+        return lastRunNanos.get();
+    }
+}
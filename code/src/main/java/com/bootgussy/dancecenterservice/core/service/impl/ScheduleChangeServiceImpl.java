@@ -0,0 +1,49 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.Student;
+import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
+import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleChangeFeed;
+import com.bootgussy.dancecenterservice.core.service.ScheduleChangeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Service
+public class ScheduleChangeServiceImpl implements ScheduleChangeService {
+    private final ScheduleChangeFeed scheduleChangeFeed;
+    private final StudentRepository studentRepository;
+    private final TrainerRepository trainerRepository;
+
+    @Autowired
+    public ScheduleChangeServiceImpl(ScheduleChangeFeed scheduleChangeFeed,
+                                     StudentRepository studentRepository,
+                                     TrainerRepository trainerRepository) {
+        this.scheduleChangeFeed = scheduleChangeFeed;
+        this.studentRepository = studentRepository;
+        this.trainerRepository = trainerRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long hallId, Long groupId, Long trainerId, Long userId) {
+        Long studentId = null;
+
+        if (userId != null) {
+            Long userStudentId = studentRepository.findByUserId(userId).map(Student::getId).orElse(null);
+            if (userStudentId != null) {
+                studentId = userStudentId;
+            } else {
+                trainerId = trainerRepository.findByUserId(userId)
+                        .map(Trainer::getId)
+                        .orElseThrow(() -> new ResourceNotFoundException(
+                                "User is neither a student nor a trainer. ID: " + userId));
+            }
+        }
+
+        return scheduleChangeFeed.subscribe(new ScheduleChangeFeed.Filter(hallId, groupId, trainerId, studentId));
+    }
+}
@@ -4,64 +4,213 @@ import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.FreeSlot;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.SessionOccurrence;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import com.bootgussy.dancecenterservice.core.schedule.HallSchedule;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleIndex;
+import com.bootgussy.dancecenterservice.core.schedule.TimetableReadModel;
+import com.bootgussy.dancecenterservice.core.schedule.WeeklyOccupancy;
+import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
 import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 public class ScheduleItemServiceImpl implements ScheduleItemService {
+    public static final int MAX_OCCURRENCE_DAYS = 366;
+
     private final ScheduleItemRepository scheduleItemRepository;
     private final CacheConfig cacheConfig;
+    private final ScheduleIndex scheduleIndex;
+    private final HallService hallService;
+    private final OccupancyIndex occupancyIndex;
+    private final GroupService groupService;
+    private final TimetableReadModel timetableReadModel;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ScheduleItemServiceImpl(ScheduleItemRepository scheduleItemRepository,
-                                   CacheConfig cacheConfig) {
+                                   CacheConfig cacheConfig,
+                                   ScheduleIndex scheduleIndex,
+                                   HallService hallService,
+                                   OccupancyIndex occupancyIndex,
+                                   GroupService groupService,
+                                   TimetableReadModel timetableReadModel,
+                                   ApplicationEventPublisher eventPublisher) {
         this.scheduleItemRepository = scheduleItemRepository;
         this.cacheConfig = cacheConfig;
+        this.scheduleIndex = scheduleIndex;
+        this.hallService = hallService;
+        this.occupancyIndex = occupancyIndex;
+        this.groupService = groupService;
+        this.timetableReadModel = timetableReadModel;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public ScheduleItem findScheduleItemById(Long id) {
-        ScheduleItem cachedScheduleItem = cacheConfig.getScheduleItem(id);
-        if (cachedScheduleItem != null) {
-            return cachedScheduleItem;
-        }
-
-        ScheduleItem scheduleItem = scheduleItemRepository.findById(id).orElse(null);
+    @Transactional(readOnly = true)
+    public ScheduleItemSnapshot findScheduleItemById(Long id) {
+        ScheduleItemSnapshot scheduleItem = cacheConfig.getScheduleItem(id, this::loadScheduleItem);
 
         if (scheduleItem != null) {
-            cacheConfig.putScheduleItem(id, scheduleItem);
-
             return scheduleItem;
         } else {
             throw new ResourceNotFoundException("Schedule item not found. ID: " + id);
         }
     }
 
+    private ScheduleItemSnapshot loadScheduleItem(Long id) {
+        return scheduleItemRepository.findSnapshotById(id).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleItemSnapshot> findScheduleItemsByIds(List<Long> ids) {
+        Map<Long, ScheduleItemSnapshot> scheduleItems = cacheConfig.getScheduleItems(ids, this::loadScheduleItems);
+
+        return ids.stream()
+                .map(scheduleItems::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Map<Long, ScheduleItemSnapshot> loadScheduleItems(Set<Long> ids) {
+        return scheduleItemRepository.findSnapshotsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ScheduleItemSnapshot::id, Function.identity()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleItemSnapshot> findAllScheduleItems() {
+        return cacheConfig.getScheduleItemList("findAllScheduleItems", null,
+                scheduleItemRepository::findAllSnapshots);
+    }
+
     @Override
-    public List<ScheduleItem> findAllScheduleItems() {
-        return scheduleItemRepository.findAll();
+    @Transactional(readOnly = true)
+    public KeysetPage<ScheduleItemSnapshot> findScheduleItemsPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        List<Long> ids = scheduleItemRepository.findIdsAfter(KeysetPage.afterId(cursor), Limit.of(limit + 1));
+
+        return KeysetPage.of(ids, limit, Function.identity()).map(this::findScheduleItemsByIds);
     }
 
-    public boolean isValidDayOfWeek(String dayOfWeek) {
-        if (dayOfWeek == null) {
-            return false;
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleItemSnapshot> findAllScheduleItemsByGroup(Long groupId) {
+        return cacheConfig.getScheduleItemList("findAllScheduleItemsByGroup", groupId,
+                () -> scheduleItemRepository.findSnapshotsByGroup(groupId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FreeSlot> findFreeSlots(int duration,
+                                        LocalTime from,
+                                        LocalTime to,
+                                        List<DayOfWeek> days,
+                                        List<Long> hallIds) {
+        int fromMinute = from != null ? HallSchedule.minuteOf(from) : 0;
+        int toMinute = to != null ? HallSchedule.minuteOf(to) : ScheduleItem.MINUTES_PER_DAY;
+        if (duration <= 0 || fromMinute >= toMinute) {
+            throw new IncorrectDataException("Duration must be positive and the time window must not be empty.");
         }
-        return dayOfWeek.equals("Monday") || dayOfWeek.equals("Tuesday") ||
-                dayOfWeek.equals("Wednesday") || dayOfWeek.equals("Thursday") ||
-                dayOfWeek.equals("Friday") || dayOfWeek.equals("Saturday") ||
-                dayOfWeek.equals("Sunday");
+
+        List<HallSnapshot> halls = hallIds != null && !hallIds.isEmpty()
+                ? hallService.findHallsByIds(hallIds)
+                : hallService.findAllHalls();
+        List<DayOfWeek> searchedDays = days != null && !days.isEmpty()
+                ? days.stream().distinct().sorted().toList()
+                : List.of(DayOfWeek.values());
+
+        List<ScheduleIndex.Key> keys = halls.stream()
+                .map(HallSnapshot::id)
+                .sorted()
+                .flatMap(hallId -> searchedDays.stream().map(day -> new ScheduleIndex.Key(hallId, day)))
+                .toList();
+        Map<ScheduleIndex.Key, HallSchedule> schedules = scheduleIndex.schedulesFor(keys);
+
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        for (ScheduleIndex.Key key : keys) {
+            for (HallSchedule.Gap gap : schedules.get(key).findGaps(fromMinute, toMinute, duration)) {
+                freeSlots.add(new FreeSlot(key.hallId(), key.dayOfWeek(),
+                        HallSchedule.timeOf(gap.start()), HallSchedule.timeOf(gap.end())));
+            }
+        }
+
+        return freeSlots;
     }
 
     @Override
-    public List<ScheduleItem> findAllScheduleItemsByGroup(Long groupId) {
-        return scheduleItemRepository.findAllByGroup(groupId);
+    @Transactional(readOnly = true)
+    public List<HallTimetable> findHallTimetables(List<Long> hallIds) {
+        List<HallSnapshot> halls = hallIds != null && !hallIds.isEmpty()
+                ? hallService.findHallsByIds(hallIds)
+                : hallService.findAllHalls();
+
+        return timetableReadModel.timetables(halls);
     }
 
+    // Only the weekly pattern is loaded; dated occurrences are generated one day
+    // at a time as the stream is consumed. The range is capped because the
+    // endpoint is public.
     @Override
+    @Transactional(readOnly = true)
+    public Stream<SessionOccurrence> expandOccurrences(LocalDate from,
+                                                       LocalDate to,
+                                                       Long hallId,
+                                                       Long groupId,
+                                                       Long trainerId,
+                                                       Long studentId) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IncorrectDataException("Incorrect date range. From: " + from + ", To: " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_OCCURRENCE_DAYS) {
+            throw new IncorrectDataException("Date range must not exceed " + MAX_OCCURRENCE_DAYS + " days." +
+                    " From: " + from + ", To: " + to);
+        }
+
+        Map<DayOfWeek, List<ScheduleItem>> pattern = new EnumMap<>(DayOfWeek.class);
+        scheduleItemRepository.findAllWithGroupMatching(hallId, groupId, trainerId, studentId).forEach(scheduleItem ->
+                pattern.computeIfAbsent(scheduleItem.getDayOfWeek(), day -> new ArrayList<>()).add(scheduleItem));
+
+        return from.datesUntil(to.plusDays(1))
+                .flatMap(date -> pattern.getOrDefault(date.getDayOfWeek(), List.of()).stream()
+                        .map(scheduleItem -> SessionOccurrence.of(scheduleItem, date)));
+    }
+
+    @Override
+    @Transactional
     public ScheduleItem createScheduleItem(ScheduleItem scheduleItem) {
         if (
                 scheduleItem.getHall() == null ||
@@ -74,48 +223,43 @@ public class ScheduleItemServiceImpl implements ScheduleItemService {
                     "(hallId, groupId, dayOfWeek, startTime, endTime).");
         }
 
-        if (!isValidDayOfWeek(scheduleItem.getDayOfWeek())) {
-            throw new IncorrectDataException("Day of week is incorrect. Example: Monday");
-        }
-
-        if (!scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(),
-                scheduleItem.getGroup(),
-                scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(),
-                scheduleItem.getEndTime()
-        ).isEmpty()) {
-            throw new AlreadyExistsException("Schedule item already exists." +
-                    " Group: " + scheduleItem.getGroup().getId() +
-                    ", Hall: " + scheduleItem.getHall().getId() +
-                    ", Day of week: " + scheduleItem.getDayOfWeek() +
-                    ", Start time: " + scheduleItem.getStartTime() +
-                    ", End time: " + scheduleItem.getEndTime());
-        }
+        GroupSnapshot group = groupService.findGroupById(scheduleItem.getGroup().getId());
+        HallSchedule schedule = scheduleIndex.schedule(scheduleItem.getHall(), scheduleItem.getDayOfWeek());
+        ScheduleItem savedScheduleItem;
 
-        List<ScheduleItem> existingScheduleItems = scheduleItemRepository
-                .findByDayOfWeekAndHall(scheduleItem.getDayOfWeek(), scheduleItem.getHall());
+        synchronized (schedule) {
+            checkAvailability(schedule, scheduleItem);
 
-        boolean isTimeBusy = existingScheduleItems.stream().anyMatch(currentScheduleItem ->
-                (currentScheduleItem.getStartTime().isBefore(scheduleItem.getEndTime()) &&
-                        currentScheduleItem.getEndTime().isAfter(scheduleItem.getStartTime()))
-        );
-
-        if (isTimeBusy) {
-            throw new AlreadyExistsException("This time in this hall is busy." +
-                    " Group ID: " + scheduleItem.getGroup().getId() +
-                    ", Start time: " + scheduleItem.getStartTime() +
-                    ", End time: " + scheduleItem.getEndTime());
+            OccupancyIndex.Claim claim = OccupancyIndex.Claim.reserve(OccupancyIndex.Members.of(group),
+                    WeeklyOccupancy.of(scheduleItem));
+            OccupancyIndex.Person busyPerson = occupancyIndex.claim(claim);
+            if (busyPerson != null) {
+                throw busy(busyPerson, scheduleItem);
+            }
+            TransactionHooks.unlessCommitted(() -> {
+                occupancyIndex.abandon(claim);
+                scheduleIndex.forget(List.of(scheduleItem));
+            });
+
+            savedScheduleItem = scheduleItemRepository.save(scheduleItem);
+            scheduleIndex.claim(savedScheduleItem);
+            TransactionHooks.afterCommit(() -> occupancyIndex.settle(claim));
         }
 
-        ScheduleItem savedScheduleItem = scheduleItemRepository.save(scheduleItem);
-
-        cacheConfig.putScheduleItem(savedScheduleItem.getId(), savedScheduleItem);
+        TransactionHooks.afterCommit(() -> {
+            scheduleIndex.settle(savedScheduleItem);
+            timetableReadModel.put(savedScheduleItem, group);
+            cacheConfig.putScheduleItem(savedScheduleItem.getId(),
+                    ScheduleItemSnapshot.from(savedScheduleItem));
+        });
+        eventPublisher.publishEvent(ScheduleChange.scheduleItem(ScheduleChange.Action.CREATED,
+                savedScheduleItem.getId(), savedScheduleItem.getHall().getId(), group));
 
         return savedScheduleItem;
     }
 
     @Override
+    @Transactional
     public List<ScheduleItem> createMultipleScheduleItems(List<ScheduleItem> scheduleItems) {
         for (ScheduleItem scheduleItem : scheduleItems) {
             if (
@@ -128,52 +272,109 @@ public class ScheduleItemServiceImpl implements ScheduleItemService {
                 throw new ResourceNotFoundException("Incorrect JSON. All fields must be filled " +
                         "(hallId, groupId, dayOfWeek, startTime, endTime).");
             }
+        }
 
-            if (!isValidDayOfWeek(scheduleItem.getDayOfWeek())) {
-                throw new IncorrectDataException("Day of week is incorrect. Example: Monday");
-            }
+        Map<ScheduleIndex.Key, List<ScheduleItem>> batches = scheduleItems.stream()
+                .collect(Collectors.groupingBy(ScheduleIndex.Key::of, TreeMap::new, Collectors.toList()));
+        Map<ScheduleIndex.Key, HallSchedule> schedules = scheduleIndex.schedules(scheduleItems);
 
-            if (!scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                    scheduleItem.getHall(),
-                    scheduleItem.getGroup(),
-                    scheduleItem.getDayOfWeek(),
-                    scheduleItem.getStartTime(),
-                    scheduleItem.getEndTime()
-            ).isEmpty()) {
-                throw new AlreadyExistsException("Schedule item already exists." +
-                        " Group: " + scheduleItem.getGroup().getId() +
-                        ", Hall: " + scheduleItem.getHall().getId() +
-                        ", Day of week: " + scheduleItem.getDayOfWeek() +
-                        ", Start time: " + scheduleItem.getStartTime() +
-                        ", End time: " + scheduleItem.getEndTime());
+        TransactionHooks.unlessCommitted(() -> scheduleIndex.forget(scheduleItems));
+
+        return insertLocked(new ArrayList<>(batches.entrySet()), 0, schedules);
+    }
+
+    // Schedules are locked in key order so concurrent imports cannot deadlock.
+    private List<ScheduleItem> insertLocked(List<Map.Entry<ScheduleIndex.Key, List<ScheduleItem>>> batches,
+                                            int index,
+                                            Map<ScheduleIndex.Key, HallSchedule> schedules) {
+        if (index < batches.size()) {
+            Map.Entry<ScheduleIndex.Key, List<ScheduleItem>> batch = batches.get(index);
+            HallSchedule schedule = schedules.get(batch.getKey());
+            synchronized (schedule) {
+                for (ScheduleItem scheduleItem : batch.getValue()) {
+                    checkDuplicate(schedule, scheduleItem);
+                }
+
+                ScheduleItem conflict = schedule.findConflict(batch.getValue());
+                if (conflict != null) {
+                    throw busy(conflict);
+                }
+
+                return insertLocked(batches, index + 1, schedules);
             }
+        }
 
-            List<ScheduleItem> existingScheduleItems = scheduleItemRepository
-                    .findByDayOfWeekAndHall(scheduleItem.getDayOfWeek(), scheduleItem.getHall());
+        List<ScheduleItem> scheduleItems = batches.stream().flatMap(batch -> batch.getValue().stream()).toList();
+        Map<Long, GroupSnapshot> groups = groupService.findGroupsByIds(scheduleItems.stream()
+                        .map(scheduleItem -> scheduleItem.getGroup().getId())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(GroupSnapshot::id, group -> group));
+        List<OccupancyIndex.Claim> claims = reserveGroups(scheduleItems, groups);
+        TransactionHooks.unlessCommitted(() -> claims.forEach(occupancyIndex::abandon));
+
+        List<ScheduleItem> savedScheduleItems = scheduleItemRepository.insertAll(scheduleItems);
+        scheduleIndex.claimAll(savedScheduleItems);
+        TransactionHooks.afterCommit(() -> {
+            claims.forEach(occupancyIndex::settle);
+            scheduleIndex.settleAll(savedScheduleItems);
+            timetableReadModel.putAll(savedScheduleItems, groups);
+            for (ScheduleItem savedScheduleItem : savedScheduleItems) {
+                cacheConfig.putScheduleItem(savedScheduleItem.getId(),
+                        ScheduleItemSnapshot.from(savedScheduleItem));
+            }
+        });
+        for (ScheduleItem savedScheduleItem : savedScheduleItems) {
+            eventPublisher.publishEvent(ScheduleChange.scheduleItem(ScheduleChange.Action.CREATED,
+                    savedScheduleItem.getId(), savedScheduleItem.getHall().getId(),
+                    groups.get(savedScheduleItem.getGroup().getId())));
+        }
 
-            boolean isTimeBusy = existingScheduleItems.stream().anyMatch(currentScheduleItem ->
-                    (currentScheduleItem.getStartTime().isBefore(scheduleItem.getEndTime()) &&
-                            currentScheduleItem.getEndTime().isAfter(scheduleItem.getStartTime()))
-            );
+        return savedScheduleItems;
+    }
 
-            if (isTimeBusy) {
-                throw new AlreadyExistsException("This time in this hall is busy." +
-                        " Group ID: " + scheduleItem.getGroup().getId() +
+    // Takes the batch's minutes for the trainer and students of every group,
+    // giving everything back if anyone turns out to be busy.
+    private List<OccupancyIndex.Claim> reserveGroups(List<ScheduleItem> scheduleItems,
+                                                     Map<Long, GroupSnapshot> groups) {
+        Map<Long, WeeklyOccupancy> minutesByGroup = new LinkedHashMap<>();
+        Map<Long, ScheduleItem> firstItemByGroup = new LinkedHashMap<>();
+        for (ScheduleItem scheduleItem : scheduleItems) {
+            Long groupId = scheduleItem.getGroup().getId();
+            WeeklyOccupancy groupMinutes = minutesByGroup.computeIfAbsent(groupId, id -> new WeeklyOccupancy());
+            WeeklyOccupancy itemMinutes = WeeklyOccupancy.of(scheduleItem);
+            if (groupMinutes.intersects(itemMinutes)) {
+                throw new AlreadyExistsException("Group sessions overlap." +
+                        " Group ID: " + groupId +
+                        ", Day of week: " + DayOfWeekConverter.format(scheduleItem.getDayOfWeek()) +
                         ", Start time: " + scheduleItem.getStartTime() +
                         ", End time: " + scheduleItem.getEndTime());
             }
+            groupMinutes.add(itemMinutes);
+            firstItemByGroup.putIfAbsent(groupId, scheduleItem);
         }
 
-        List<ScheduleItem> savedScheduleItems = scheduleItemRepository.saveAll(scheduleItems);
-
-        for (ScheduleItem savedScheduleItem : savedScheduleItems) {
-            cacheConfig.putScheduleItem(savedScheduleItem.getId(), savedScheduleItem);
+        List<OccupancyIndex.Claim> claims = new ArrayList<>();
+        for (Map.Entry<Long, WeeklyOccupancy> entry : minutesByGroup.entrySet()) {
+            GroupSnapshot group = groups.get(entry.getKey());
+            OccupancyIndex.Members members = group != null
+                    ? OccupancyIndex.Members.of(group)
+                    : OccupancyIndex.Members.NONE;
+            OccupancyIndex.Claim claim = OccupancyIndex.Claim.reserve(members, entry.getValue());
+            OccupancyIndex.Person busyPerson = occupancyIndex.claim(claim);
+            if (busyPerson != null) {
+                claims.forEach(occupancyIndex::abandon);
+                throw busy(busyPerson, firstItemByGroup.get(entry.getKey()));
+            }
+            claims.add(claim);
         }
 
-        return savedScheduleItems;
+        return claims;
     }
 
     @Override
+    @Transactional
     public ScheduleItem updateScheduleItem(ScheduleItem scheduleItem) {
         if (
                 scheduleItem.getHall() == null ||
@@ -186,66 +387,115 @@ public class ScheduleItemServiceImpl implements ScheduleItemService {
                     "(hallId, groupId, dayOfWeek, startTime, endTime).");
         }
 
-        if (!isValidDayOfWeek(scheduleItem.getDayOfWeek())) {
-            throw new IncorrectDataException("Day of week is incorrect. Example: Monday");
-        }
-
-        List<ScheduleItem> existingScheduleItems = scheduleItemRepository
-                .findByDayOfWeekAndHall(scheduleItem.getDayOfWeek(), scheduleItem.getHall());
+        ScheduleItem existingScheduleItem = scheduleItemRepository.findById(scheduleItem.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("The schedule item does not exist." +
+                        " ID: " + scheduleItem.getId() +
+                        ", Group: " + scheduleItem.getGroup().getId() +
+                        ", Hall: " + scheduleItem.getHall().getId() +
+                        ", Day of week: " + DayOfWeekConverter.format(scheduleItem.getDayOfWeek()) +
+                        ", Start time: " + scheduleItem.getStartTime() +
+                        ", End time: " + scheduleItem.getEndTime()));
+        Long previousHallId = existingScheduleItem.getHall().getId();
+        DayOfWeek previousDayOfWeek = existingScheduleItem.getDayOfWeek();
+        ScheduleIndex.Key previousKey = new ScheduleIndex.Key(previousHallId, previousDayOfWeek);
+        GroupSnapshot previousGroup = groupService.findGroupById(existingScheduleItem.getGroup().getId());
+        OccupancyIndex.Members previousMembers = OccupancyIndex.Members.of(previousGroup);
+        WeeklyOccupancy previousMinutes = WeeklyOccupancy.of(existingScheduleItem);
+
+        GroupSnapshot group = groupService.findGroupById(scheduleItem.getGroup().getId());
+        HallSchedule schedule = scheduleIndex.schedule(scheduleItem.getHall(), scheduleItem.getDayOfWeek());
+        ScheduleItem updatedScheduleItem;
 
-        boolean isTimeBusy = existingScheduleItems.stream().anyMatch(currentScheduleItem ->
-                (currentScheduleItem.getStartTime().isBefore(scheduleItem.getEndTime()) &&
-                        currentScheduleItem.getEndTime().isAfter(scheduleItem.getStartTime()))
-        );
+        synchronized (schedule) {
+            checkAvailability(schedule, scheduleItem);
 
-        if (!scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(),
-                scheduleItem.getGroup(),
-                scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(),
-                scheduleItem.getEndTime()
-        ).isEmpty()) {
-            throw new AlreadyExistsException("Schedule item already exists." +
-                    " Group: " + scheduleItem.getGroup().getId() +
-                    ", Hall: " + scheduleItem.getHall().getId() +
-                    ", Day of week: " + scheduleItem.getDayOfWeek() +
-                    ", Start time: " + scheduleItem.getStartTime() +
-                    ", End time: " + scheduleItem.getEndTime());
-        }
-
-        if (isTimeBusy) {
-            throw new AlreadyExistsException("This time in this hall is busy." +
-                    " Group ID: " + scheduleItem.getGroup().getId() +
-                    ", Start time: " + scheduleItem.getStartTime() +
-                    ", End time: " + scheduleItem.getEndTime());
-        }
-
-        ScheduleItem updatedScheduleItem;
+            OccupancyIndex.Claim claim = new OccupancyIndex.Claim(previousMembers, previousMinutes,
+                    OccupancyIndex.Members.of(group), WeeklyOccupancy.of(scheduleItem));
+            OccupancyIndex.Person busyPerson = occupancyIndex.claim(claim);
+            if (busyPerson != null) {
+                throw busy(busyPerson, scheduleItem);
+            }
+            TransactionHooks.unlessCommitted(() -> {
+                occupancyIndex.abandon(claim);
+                scheduleIndex.forget(List.of(scheduleItem));
+            });
 
-        if (scheduleItemRepository.findById(scheduleItem.getId()).isPresent()) {
             updatedScheduleItem = scheduleItemRepository.save(scheduleItem);
-        } else {
-            throw new ResourceNotFoundException("The schedule item does not exist." +
-                    " ID: " + scheduleItem.getId() +
-                    ", Group: " + scheduleItem.getGroup().getId() +
-                    ", Hall: " + scheduleItem.getHall().getId() +
-                    ", Day of week: " + scheduleItem.getDayOfWeek() +
-                    ", Start time: " + scheduleItem.getStartTime() +
-                    ", End time: " + scheduleItem.getEndTime());
+            scheduleIndex.claim(updatedScheduleItem);
+            TransactionHooks.afterCommit(() -> occupancyIndex.settle(claim));
         }
 
-        cacheConfig.putScheduleItem(scheduleItem.getId(), updatedScheduleItem);
+        // The previous slot stays taken until the move has committed.
+        TransactionHooks.afterCommit(() -> {
+            if (!previousKey.equals(ScheduleIndex.Key.of(updatedScheduleItem))) {
+                scheduleIndex.remove(previousHallId, previousDayOfWeek, updatedScheduleItem.getId());
+            }
+            scheduleIndex.settle(updatedScheduleItem);
+            timetableReadModel.remove(previousHallId, updatedScheduleItem.getId());
+            timetableReadModel.put(updatedScheduleItem, group);
+            cacheConfig.putScheduleItem(updatedScheduleItem.getId(),
+                    ScheduleItemSnapshot.from(updatedScheduleItem));
+        });
+        eventPublisher.publishEvent(ScheduleChange.scheduleItem(ScheduleChange.Action.UPDATED,
+                        updatedScheduleItem.getId(), previousHallId, previousGroup)
+                .and(ScheduleChange.scheduleItem(ScheduleChange.Action.UPDATED,
+                        updatedScheduleItem.getId(), updatedScheduleItem.getHall().getId(), group)));
 
         return updatedScheduleItem;
     }
 
     @Override
+    @Transactional
     public void deleteScheduleItem(Long id) {
         ScheduleItem scheduleItem = scheduleItemRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule item not found. ID: " + id));
 
-        cacheConfig.removeScheduleItem(scheduleItem.getId());
+        ScheduleItemSnapshot snapshot = ScheduleItemSnapshot.from(scheduleItem);
+        GroupSnapshot group = groupService.findGroupById(scheduleItem.getGroup().getId());
 
         scheduleItemRepository.delete(scheduleItem);
+        TransactionHooks.afterCommit(() -> {
+            cacheConfig.deleteScheduleItem(snapshot);
+            scheduleIndex.remove(snapshot.hallId(), snapshot.dayOfWeek(), id);
+            timetableReadModel.remove(snapshot.hallId(), id);
+            occupancyIndex.release(OccupancyIndex.Members.of(group));
+        });
+        eventPublisher.publishEvent(ScheduleChange.scheduleItem(ScheduleChange.Action.DELETED,
+                id, snapshot.hallId(), group));
+    }
+
+    private void checkAvailability(HallSchedule schedule, ScheduleItem scheduleItem) {
+        checkDuplicate(schedule, scheduleItem);
+
+        if (schedule.isBusy(scheduleItem)) {
+            throw busy(scheduleItem);
+        }
+    }
+
+    private void checkDuplicate(HallSchedule schedule, ScheduleItem scheduleItem) {
+        if (schedule.hasDuplicate(scheduleItem)) {
+            throw new AlreadyExistsException("Schedule item already exists." +
+                    " Group: " + scheduleItem.getGroup().getId() +
+                    ", Hall: " + scheduleItem.getHall().getId() +
+                    ", Day of week: " + DayOfWeekConverter.format(scheduleItem.getDayOfWeek()) +
+                    ", Start time: " + scheduleItem.getStartTime() +
+                    ", End time: " + scheduleItem.getEndTime());
+        }
+    }
+
+    private static AlreadyExistsException busy(OccupancyIndex.Person person, ScheduleItem scheduleItem) {
+        return new AlreadyExistsException("This time is busy for the " + person.kind() + "." +
+                " " + StringUtils.capitalize(person.kind()) + " ID: " + person.id() +
+                ", Group ID: " + scheduleItem.getGroup().getId() +
+                ", Day of week: " + DayOfWeekConverter.format(scheduleItem.getDayOfWeek()) +
+                ", Start time: " + scheduleItem.getStartTime() +
+                ", End time: " + scheduleItem.getEndTime());
+    }
+
+    private static AlreadyExistsException busy(ScheduleItem scheduleItem) {
+        return new AlreadyExistsException("This time in this hall is busy." +
+                " Group ID: " + scheduleItem.getGroup().getId() +
+                ", Start time: " + scheduleItem.getStartTime() +
+                ", End time: " + scheduleItem.getEndTime());
     }
 }
@@ -3,81 +3,121 @@ package com.bootgussy.dancecenterservice.core.service.impl;
 import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Role;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
 import com.bootgussy.dancecenterservice.core.model.Student;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.AggregatedIds;
 import com.bootgussy.dancecenterservice.core.repository.RoleRepository;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
 import com.bootgussy.dancecenterservice.core.repository.UserRepository;
 import com.bootgussy.dancecenterservice.core.service.StudentService;
-import java.util.List;
 import java.util.Collections;
-
-import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class StudentServiceImpl implements StudentService {
+    private static final String STUDENT_ROLE = "STUDENT";
+
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final CacheConfig cacheConfig;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public StudentServiceImpl(StudentRepository studentRepository,
                               UserRepository userRepository,
                               RoleRepository roleRepository,
                               PasswordEncoder passwordEncoder,
-                              CacheConfig cacheConfig) {
+                              CacheConfig cacheConfig,
+                              ApplicationEventPublisher eventPublisher) {
         this.studentRepository = studentRepository;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.cacheConfig = cacheConfig;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public Student findStudentById(Long id) {
-        Student cachedStudent = cacheConfig.getStudent(id);
-        if (cachedStudent != null) {
-            return cachedStudent;
-        }
-
-        Student student = studentRepository.findById(id).orElse(null);
+    @Transactional(readOnly = true)
+    public StudentSnapshot findStudentById(Long id) {
+        StudentSnapshot student = cacheConfig.getStudent(id, this::loadStudent);
 
         if (student != null) {
-            cacheConfig.putStudent(id, student);
-
             return student;
         } else {
             throw new ResourceNotFoundException("Student not found. ID: " + id);
         }
     }
 
+    private StudentSnapshot loadStudent(Long id) {
+        return studentRepository.findRowById(id)
+                .map(StudentServiceImpl::toSnapshot)
+                .orElse(null);
+    }
+
     @Override
-    @Transactional
-    public List<Student> findAllStudents() {
-        // Sync any users who have the role but no entity
-        List<User> studentsWithRole = userRepository.findAll().stream()
-                .filter(u -> u.getRoles().stream().anyMatch(r -> r.getName().equals("STUDENT")))
+    @Transactional(readOnly = true)
+    public List<StudentSnapshot> findStudentsByIds(List<Long> ids) {
+        Map<Long, StudentSnapshot> students = cacheConfig.getStudents(ids, this::loadStudents);
+
+        return ids.stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
                 .toList();
-        
-        for (User user : studentsWithRole) {
-            if (studentRepository.findByUserId(user.getId()).isEmpty()) {
-                Student student = new Student();
-                student.setUser(user);
-                studentRepository.save(student);
-            }
-        }
-        
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getRoles().stream().anyMatch(r -> r.getName().equals("STUDENT")))
+    }
+
+    private Map<Long, StudentSnapshot> loadStudents(Set<Long> ids) {
+        return studentRepository.findRowsByIdIn(ids)
+                .stream()
+                .map(StudentServiceImpl::toSnapshot)
+                .collect(Collectors.toMap(StudentSnapshot::id, Function.identity()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StudentSnapshot> findAllStudents() {
+        return studentRepository.findAllRowsByRole(STUDENT_ROLE)
+                .stream()
+                .map(StudentServiceImpl::toSnapshot)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<StudentSnapshot> findStudentsPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        long afterId = KeysetPage.afterId(cursor);
+
+        List<StudentSnapshot> rows = studentRepository.findPageByRole(STUDENT_ROLE, afterId, limit + 1)
+                .stream()
+                .map(StudentServiceImpl::toSnapshot)
+                .toList();
+
+        return KeysetPage.of(rows, limit, StudentSnapshot::id);
+    }
+
+    private static StudentSnapshot toSnapshot(StudentRepository.StudentRow row) {
+        return new StudentSnapshot(row.getId(), row.getUserId(), row.getName(), row.getPhoneNumber(),
+                AggregatedIds.parse(row.getGroupIds()));
+    }
+
     @Override
     @Transactional
     public Student createStudent(Student student) {
@@ -100,7 +140,7 @@ public class StudentServiceImpl implements StudentService {
         });
 
         // Ensure STUDENT role exists
-        Role studentRole = roleRepository.findByName("STUDENT")
+        Role studentRole = roleRepository.findByName(STUDENT_ROLE)
                 .orElseThrow(() -> new ResourceNotFoundException("Role STUDENT not found"));
         
         if (user.getRoles() == null) {
@@ -117,7 +157,7 @@ public class StudentServiceImpl implements StudentService {
         }
 
         Student savedStudent = studentRepository.save(student);
-        cacheConfig.putStudent(savedStudent.getId(), savedStudent);
+        cacheConfig.putStudent(savedStudent.getId(), StudentSnapshot.from(savedStudent));
 
         return savedStudent;
     }
@@ -137,7 +177,7 @@ public class StudentServiceImpl implements StudentService {
         }
 
         Student updated = studentRepository.save(existingStudent);
-        cacheConfig.putStudent(updated.getId(), updated);
+        cacheConfig.putStudent(updated.getId(), StudentSnapshot.from(updated));
 
         return updated;
     }
@@ -150,30 +190,44 @@ public class StudentServiceImpl implements StudentService {
 
         User user = student.getUser();
         if (user != null) {
-            Role studentRole = roleRepository.findByName("STUDENT").orElse(null);
+            Role studentRole = roleRepository.findByName(STUDENT_ROLE).orElse(null);
             if (studentRole != null && user.getRoles() != null) {
                 user.getRoles().remove(studentRole);
                 userRepository.save(user);
             }
         }
 
-        cacheConfig.removeStudent(student.getId());
+        StudentSnapshot snapshot = StudentSnapshot.from(student);
+        List<ScheduleChange> changes = leftGroups(student);
         studentRepository.delete(student);
+        TransactionHooks.afterCommit(() -> cacheConfig.deleteStudent(snapshot));
+        changes.forEach(eventPublisher::publishEvent);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Student findStudentByUserId(Long userId) {
-        return studentRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-                    if (user.getRoles().stream().anyMatch(r -> r.getName().equals("STUDENT"))) {
-                        Student s = new Student();
-                        s.setUser(user);
-                        return studentRepository.save(s);
-                    }
-                    throw new ResourceNotFoundException("Student entity not found and user doesn't have Student role");
-                });
+        return studentRepository.findDashboardByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found. User ID: " + userId));
+    }
+
+    // The delete takes the student out of every group; the changes still name
+    // the student so their subscribers hear about it.
+    private static List<ScheduleChange> leftGroups(Student student) {
+        if (student.getGroups() == null) {
+            return List.of();
+        }
+
+        return student.getGroups().stream()
+                .map(group -> ScheduleChange.group(ScheduleChange.Action.UPDATED, group.getId(),
+                        group.getTrainer() != null ? group.getTrainer().getId() : null,
+                        studentIdsOf(group)))
+                .toList();
+    }
+
+    private static List<Long> studentIdsOf(Group group) {
+        return group.getStudents() != null
+                ? group.getStudents().stream().map(Student::getId).toList()
+                : List.of();
     }
-}
\ No newline at end of file
+}
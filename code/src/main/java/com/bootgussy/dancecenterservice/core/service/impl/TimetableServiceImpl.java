@@ -0,0 +1,237 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.TimeWindow;
+import com.bootgussy.dancecenterservice.core.model.Timetable;
+import com.bootgussy.dancecenterservice.core.model.TimetableSession;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.GroupRepository;
+import com.bootgussy.dancecenterservice.core.repository.HallRepository;
+import com.bootgussy.dancecenterservice.core.schedule.HallSchedule;
+import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
+import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import com.bootgussy.dancecenterservice.core.service.TimetableService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TimetableServiceImpl implements TimetableService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimetableServiceImpl.class);
+
+    private final GroupService groupService;
+    private final HallService hallService;
+    private final ScheduleItemService scheduleItemService;
+    private final GroupRepository groupRepository;
+    private final HallRepository hallRepository;
+
+    @Autowired
+    public TimetableServiceImpl(GroupService groupService,
+                                HallService hallService,
+                                ScheduleItemService scheduleItemService,
+                                GroupRepository groupRepository,
+                                HallRepository hallRepository) {
+        this.groupService = groupService;
+        this.hallService = hallService;
+        this.scheduleItemService = scheduleItemService;
+        this.groupRepository = groupRepository;
+        this.hallRepository = hallRepository;
+    }
+
+    @Override
+    public Timetable solveTimetable(List<TimetableSession> sessions,
+                                    List<TimeWindow> windows,
+                                    int step,
+                                    Duration timeBudget,
+                                    int parallelism,
+                                    boolean commit) {
+        validate(sessions, windows, step, timeBudget, parallelism);
+        // More workers than processors only adds contention to a CPU-bound search.
+        int workers = Math.min(parallelism, Runtime.getRuntime().availableProcessors());
+
+        Map<Long, GroupSnapshot> groups = findGroups(sessions.stream().map(TimetableSession::groupId).toList());
+        checkHalls(sessions);
+        List<Long> allHallIds = sessions.stream().anyMatch(session -> session.hallIds().isEmpty())
+                ? hallService.findAllHalls().stream().map(HallSnapshot::id).toList()
+                : List.of();
+
+        TimetableSolver solver = new TimetableSolver();
+        occupyExistingItems(solver);
+
+        List<int[]> windowMinutes = windows.stream()
+                .map(window -> new int[] {
+                        ScheduleItem.minuteOfWeek(window.dayOfWeek(), window.startTime()),
+                        ScheduleItem.minuteOfWeek(window.dayOfWeek(), window.endTime())
+                })
+                .toList();
+
+        for (TimetableSession session : sessions) {
+            Map<Long, Integer> halls = new LinkedHashMap<>();
+            for (Long hallId : session.hallIds().isEmpty() ? allHallIds : session.hallIds()) {
+                halls.put(hallId, solver.resource("hall", hallId));
+            }
+            solver.addSessions(session.groupId(), session.sessionsPerWeek(), session.duration(),
+                    resourcesOf(solver, groups.get(session.groupId())), halls, windowMinutes, step);
+        }
+
+        long started = System.nanoTime();
+        TimetableSolver.Result result = solver.solve(workers, timeBudget);
+        long solveMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        LOGGER.info("Timetable solved: sessions={}, placed={}, complete={}, explored={}, parallelism={}, time={}ms",
+                sessions.stream().mapToInt(TimetableSession::sessionsPerWeek).sum(),
+                result.placements().size(), result.complete(), result.exploredStates(), workers, solveMillis);
+
+        List<ScheduleItem> scheduleItems = result.placements().stream()
+                .map(this::toScheduleItem)
+                .toList();
+        boolean committed = commit && result.complete() && !scheduleItems.isEmpty();
+        if (committed) {
+            scheduleItems = scheduleItemService.createMultipleScheduleItems(scheduleItems);
+        }
+
+        return new Timetable(
+                scheduleItems.stream().map(ScheduleItemSnapshot::from).toList(),
+                unscheduledGroupIds(sessions, result),
+                result.complete(),
+                committed,
+                solveMillis,
+                workers,
+                result.exploredStates());
+    }
+
+    private void validate(List<TimetableSession> sessions,
+                          List<TimeWindow> windows,
+                          int step,
+                          Duration timeBudget,
+                          int parallelism) {
+        if (sessions == null || sessions.isEmpty() || windows == null || windows.isEmpty()) {
+            throw new IncorrectDataException("Sessions and time windows must not be empty.");
+        }
+        if (step <= 0 || parallelism <= 0 || timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IncorrectDataException("Step, time budget and parallelism must be positive.");
+        }
+
+        Set<Long> groupIds = new LinkedHashSet<>();
+        for (TimetableSession session : sessions) {
+            if (session.groupId() == null || !groupIds.add(session.groupId())) {
+                throw new IncorrectDataException("Every session must name a different group.");
+            }
+            if (session.duration() <= 0 || session.sessionsPerWeek() <= 0 || session.sessionsPerWeek() > 7) {
+                throw new IncorrectDataException("Duration must be positive and a group can have" +
+                        " from 1 to 7 sessions per week. Group: " + session.groupId());
+            }
+        }
+
+        for (TimeWindow window : windows) {
+            if (window.dayOfWeek() == null || window.startTime() == null || window.endTime() == null
+                    || !window.startTime().isBefore(window.endTime())) {
+                throw new IncorrectDataException("Time window is incorrect. Start time must be before end time.");
+            }
+        }
+    }
+
+    private Map<Long, GroupSnapshot> findGroups(List<Long> groupIds) {
+        Map<Long, GroupSnapshot> groups = groupService.findGroupsByIds(groupIds).stream()
+                .collect(Collectors.toMap(GroupSnapshot::id, Function.identity()));
+
+        for (Long groupId : groupIds) {
+            if (!groups.containsKey(groupId)) {
+                throw new ResourceNotFoundException("Group not found. ID: " + groupId);
+            }
+        }
+
+        return groups;
+    }
+
+    private void checkHalls(List<TimetableSession> sessions) {
+        List<Long> hallIds = sessions.stream()
+                .flatMap(session -> session.hallIds().stream())
+                .distinct()
+                .toList();
+        Set<Long> found = hallService.findHallsByIds(hallIds).stream()
+                .map(HallSnapshot::id)
+                .collect(Collectors.toSet());
+
+        for (Long hallId : hallIds) {
+            if (!found.contains(hallId)) {
+                throw new ResourceNotFoundException("Hall not found. ID: " + hallId);
+            }
+        }
+    }
+
+    // The solver only adds sessions, so everything already scheduled keeps its
+    // hall, trainer and students busy.
+    private void occupyExistingItems(TimetableSolver solver) {
+        List<ScheduleItemSnapshot> existingItems = scheduleItemService.findAllScheduleItems();
+        Map<Long, GroupSnapshot> groups = groupService.findGroupsByIds(existingItems.stream()
+                        .map(ScheduleItemSnapshot::groupId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(GroupSnapshot::id, Function.identity()));
+
+        for (ScheduleItemSnapshot item : existingItems) {
+            List<Integer> resources = new ArrayList<>();
+            resources.add(solver.resource("hall", item.hallId()));
+            GroupSnapshot group = groups.get(item.groupId());
+            if (group != null) {
+                resources.addAll(resourcesOf(solver, group));
+            }
+            solver.occupy(resources,
+                    ScheduleItem.minuteOfWeek(item.dayOfWeek(), item.startTime()),
+                    ScheduleItem.minuteOfWeek(item.dayOfWeek(), item.endTime()));
+        }
+    }
+
+    private List<Integer> resourcesOf(TimetableSolver solver, GroupSnapshot group) {
+        List<Integer> resources = new ArrayList<>();
+        resources.add(solver.resource("group", group.id()));
+        if (group.trainerId() != null) {
+            resources.add(solver.resource("trainer", group.trainerId()));
+        }
+        for (Long studentId : group.studentIds()) {
+            resources.add(solver.resource("student", studentId));
+        }
+
+        return resources;
+    }
+
+    private ScheduleItem toScheduleItem(TimetableSolver.Placement placement) {
+        int startOfDay = ScheduleItem.startOfDay(placement.dayOfWeek());
+        return new ScheduleItem(null,
+                hallRepository.getReferenceById(placement.hallId()),
+                groupRepository.getReferenceById(placement.groupId()),
+                placement.dayOfWeek(),
+                HallSchedule.timeOf(placement.startMinute() - startOfDay),
+                HallSchedule.timeOf(placement.endMinute() - startOfDay));
+    }
+
+    private List<Long> unscheduledGroupIds(List<TimetableSession> sessions, TimetableSolver.Result result) {
+        Map<Long, Integer> placed = new HashMap<>();
+        for (TimetableSolver.Placement placement : result.placements()) {
+            placed.merge(placement.groupId(), 1, Integer::sum);
+        }
+
+        return sessions.stream()
+                .filter(session -> placed.getOrDefault(session.groupId(), 0) < session.sessionsPerWeek())
+                .map(TimetableSession::groupId)
+                .toList();
+    }
+}
@@ -0,0 +1,284 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Depth-first constraint search over sessions. Halls, trainers, students and
+// groups are resources with a minute-of-week occupancy bitset; a session fits
+// when its hall and every resource it needs are free for its whole length.
+// Choices are searched in parallel on a fork/join pool, splitting deeper levels
+// too while workers are short of queued branches, and every branch stops once a
+// solution is found or the budget runs out.
+public class TimetableSolver {
+    private static final int SURPLUS_BRANCHES = 3;
+    private static final int WEEK_MINUTES = 7 * ScheduleItem.MINUTES_PER_DAY;
+
+    private final Map<String, Integer> resourceIndexes = new HashMap<>();
+    private final List<BitSet> initialOccupancy = new ArrayList<>();
+    private final Map<Long, Integer> groupSlots = new HashMap<>();
+    private final List<Variable> variables = new ArrayList<>();
+
+    public int resource(String kind, Long id) {
+        return resourceIndexes.computeIfAbsent(kind + ":" + id, key -> {
+            initialOccupancy.add(new BitSet(WEEK_MINUTES));
+            return initialOccupancy.size() - 1;
+        });
+    }
+
+    public void occupy(List<Integer> resources, int startMinute, int endMinute) {
+        for (int resource : resources) {
+            initialOccupancy.get(resource).set(startMinute, endMinute);
+        }
+    }
+
+    public void addSessions(Long groupId,
+                            int sessionsPerWeek,
+                            int duration,
+                            List<Integer> resources,
+                            Map<Long, Integer> halls,
+                            List<int[]> windows,
+                            int step) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int[] window : windows) {
+            for (int start = window[0]; start + duration <= window[1]; start += step) {
+                for (Map.Entry<Long, Integer> hall : halls.entrySet()) {
+                    candidates.add(new Candidate(hall.getValue(), hall.getKey(),
+                            start / ScheduleItem.MINUTES_PER_DAY, start, start + duration));
+                }
+            }
+        }
+
+        int groupSlot = groupSlots.computeIfAbsent(groupId, id -> groupSlots.size());
+        int[] required = resources.stream().mapToInt(Integer::intValue).toArray();
+        for (int i = 0; i < sessionsPerWeek; i++) {
+            variables.add(new Variable(groupId, groupSlot, i, required, candidates));
+        }
+    }
+
+    public Result solve(int parallelism, Duration timeBudget) {
+        List<Variable> order = new ArrayList<>(variables);
+        order.sort(Comparator.comparingInt((Variable variable) -> variable.resources().length).reversed()
+                .thenComparingInt(variable -> variable.candidates().size())
+                .thenComparing(Variable::groupId)
+                .thenComparingInt(Variable::instance));
+
+        Search search = new Search(order, System.nanoTime() + timeBudget.toNanos());
+        State root = new State(initialOccupancy, groupSlots.size(), order.size());
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(search.new Branch(root, 0, -1));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return search.result();
+    }
+
+    public record Placement(Long groupId, Long hallId, DayOfWeek dayOfWeek, int startMinute, int endMinute) {
+    }
+
+    public record Result(List<Placement> placements, boolean complete, long exploredStates) {
+    }
+
+    private record Candidate(int hall, Long hallId, int day, int start, int end) {
+    }
+
+    private record Variable(Long groupId, int groupSlot, int instance, int[] resources, List<Candidate> candidates) {
+    }
+
+    private static final class State {
+        private final BitSet[] occupancy;
+        private final int[] groupDays;
+        private final int[] assignment;
+
+        private State(List<BitSet> occupancy, int groups, int variables) {
+            this.occupancy = occupancy.stream().map(bits -> (BitSet) bits.clone()).toArray(BitSet[]::new);
+            this.groupDays = new int[groups];
+            this.assignment = new int[variables];
+        }
+
+        private State(State other) {
+            this.occupancy = new BitSet[other.occupancy.length];
+            for (int i = 0; i < occupancy.length; i++) {
+                occupancy[i] = (BitSet) other.occupancy[i].clone();
+            }
+            this.groupDays = other.groupDays.clone();
+            this.assignment = other.assignment.clone();
+        }
+
+        private boolean isFree(int resource, int start, int end) {
+            int next = occupancy[resource].nextSetBit(start);
+            return next < 0 || next >= end;
+        }
+    }
+
+    private static final class Search {
+        private final List<Variable> order;
+        private final long deadline;
+        private final LongAdder explored = new LongAdder();
+        private final AtomicReference<int[]> solution = new AtomicReference<>();
+        private volatile int[] best = new int[0];
+
+        private Search(List<Variable> order, long deadline) {
+            this.order = order;
+            this.deadline = deadline;
+        }
+
+        private boolean stopped() {
+            return solution.get() != null || System.nanoTime() > deadline;
+        }
+
+        private boolean search(State state, int depth) {
+            if (depth == order.size()) {
+                solution.compareAndSet(null, state.assignment.clone());
+                return true;
+            }
+            if (stopped()) {
+                return false;
+            }
+            explored.increment();
+            recordProgress(state, depth);
+
+            Variable variable = order.get(depth);
+            List<Candidate> candidates = variable.candidates();
+            for (int i = firstCandidate(state, depth); i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                if (fits(state, variable, candidate)) {
+                    place(state, depth, variable, i, candidate, true);
+                    if (search(state, depth + 1)) {
+                        return true;
+                    }
+                    place(state, depth, variable, i, candidate, false);
+                }
+            }
+
+            return false;
+        }
+
+        // Sessions of one group are interchangeable, so each later session only
+        // takes candidates after the one chosen for the previous session.
+        private int firstCandidate(State state, int depth) {
+            Variable variable = order.get(depth);
+            if (depth > 0 && variable.instance() > 0 && order.get(depth - 1).groupId().equals(variable.groupId())) {
+                return state.assignment[depth - 1] + 1;
+            }
+
+            return 0;
+        }
+
+        private boolean fits(State state, Variable variable, Candidate candidate) {
+            if ((state.groupDays[variable.groupSlot()] & (1 << candidate.day())) != 0
+                    || !state.isFree(candidate.hall(), candidate.start(), candidate.end())) {
+                return false;
+            }
+
+            for (int resource : variable.resources()) {
+                if (!state.isFree(resource, candidate.start(), candidate.end())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void place(State state, int depth, Variable variable, int index, Candidate candidate, boolean placed) {
+            state.assignment[depth] = index;
+            state.groupDays[variable.groupSlot()] ^= 1 << candidate.day();
+            state.occupancy[candidate.hall()].set(candidate.start(), candidate.end(), placed);
+            for (int resource : variable.resources()) {
+                state.occupancy[resource].set(candidate.start(), candidate.end(), placed);
+            }
+        }
+
+        private void recordProgress(State state, int depth) {
+            if (depth > best.length) {
+                synchronized (this) {
+                    if (depth > best.length) {
+                        best = Arrays.copyOf(state.assignment, depth);
+                    }
+                }
+            }
+        }
+
+        private synchronized Result result() {
+            int[] assignment = solution.get();
+            boolean complete = assignment != null;
+            if (!complete) {
+                assignment = best;
+            }
+
+            List<Placement> placements = new ArrayList<>();
+            for (int depth = 0; depth < assignment.length; depth++) {
+                Variable variable = order.get(depth);
+                Candidate candidate = variable.candidates().get(assignment[depth]);
+                placements.add(new Placement(variable.groupId(), candidate.hallId(),
+                        DayOfWeek.of(candidate.day() + 1),
+                        candidate.start(), candidate.end()));
+            }
+
+            return new Result(placements, complete, explored.sum());
+        }
+
+        // A branch places its candidate on a copy of the parent state, then forks
+        // one branch per fitting choice of the next session, or searches on by
+        // itself once the pool already has enough branches queued.
+        private final class Branch extends RecursiveTask<Boolean> {
+            private final State state;
+            private final int depth;
+            private final int candidateIndex;
+
+            private Branch(State state, int depth, int candidateIndex) {
+                this.state = state;
+                this.depth = depth;
+                this.candidateIndex = candidateIndex;
+            }
+
+            @Override
+            protected Boolean compute() {
+                State current = state;
+                int next = depth;
+                if (candidateIndex >= 0) {
+                    if (stopped()) {
+                        return false;
+                    }
+                    Variable variable = order.get(depth);
+                    current = new State(state);
+                    place(current, depth, variable, candidateIndex, variable.candidates().get(candidateIndex), true);
+                    next = depth + 1;
+                }
+
+                if (next == order.size() || getSurplusQueuedTaskCount() > SURPLUS_BRANCHES) {
+                    return search(current, next);
+                }
+                if (stopped()) {
+                    return false;
+                }
+                explored.increment();
+                recordProgress(current, next);
+
+                Variable variable = order.get(next);
+                List<Branch> branches = new ArrayList<>();
+                for (int i = firstCandidate(current, next); i < variable.candidates().size(); i++) {
+                    if (fits(current, variable, variable.candidates().get(i))) {
+                        branches.add(new Branch(current, next, i));
+                    }
+                }
+
+                return invokeAll(branches).stream().anyMatch(Branch::join);
+            }
+        }
+    }
+}
@@ -3,82 +3,125 @@ package com.bootgussy.dancecenterservice.core.service.impl;
 import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Role;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.AggregatedIds;
 import com.bootgussy.dancecenterservice.core.repository.RoleRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
 import com.bootgussy.dancecenterservice.core.repository.UserRepository;
 import com.bootgussy.dancecenterservice.core.service.TrainerService;
-import java.util.List;
+import java.util.ArrayList;
 import java.util.Collections;
-
-import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class TrainerServiceImpl implements TrainerService {
+    private static final String TRAINER_ROLE = "TRAINER";
+    private static final String DEFAULT_DANCE_STYLE = "Not specified";
+
     private final TrainerRepository trainerRepository;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final CacheConfig cacheConfig;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TrainerServiceImpl(TrainerRepository trainerRepository,
                               UserRepository userRepository,
                               RoleRepository roleRepository,
                               PasswordEncoder passwordEncoder,
-                              CacheConfig cacheConfig) {
+                              CacheConfig cacheConfig,
+                              ApplicationEventPublisher eventPublisher) {
         this.trainerRepository = trainerRepository;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.cacheConfig = cacheConfig;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public Trainer findTrainerById(Long id) {
-        Trainer cachedTrainer = cacheConfig.getTrainer(id);
-        if (cachedTrainer != null) {
-            return cachedTrainer;
-        }
-
-        Trainer trainer = trainerRepository.findById(id).orElse(null);
+    @Transactional(readOnly = true)
+    public TrainerSnapshot findTrainerById(Long id) {
+        TrainerSnapshot trainer = cacheConfig.getTrainer(id, this::loadTrainer);
 
         if (trainer != null) {
-            cacheConfig.putTrainer(id, trainer);
-
             return trainer;
         } else {
             throw new ResourceNotFoundException("Trainer not found. ID: " + id);
         }
     }
 
+    private TrainerSnapshot loadTrainer(Long id) {
+        return trainerRepository.findRowById(id)
+                .map(TrainerServiceImpl::toSnapshot)
+                .orElse(null);
+    }
+
     @Override
-    @Transactional
-    public List<Trainer> findAllTrainers() {
-        // Sync any users who have the role but no entity
-        List<User> trainersWithRole = userRepository.findAll().stream()
-                .filter(u -> u.getRoles().stream().anyMatch(r -> r.getName().equals("TRAINER")))
+    @Transactional(readOnly = true)
+    public List<TrainerSnapshot> findTrainersByIds(List<Long> ids) {
+        Map<Long, TrainerSnapshot> trainers = cacheConfig.getTrainers(ids, this::loadTrainers);
+
+        return ids.stream()
+                .map(trainers::get)
+                .filter(Objects::nonNull)
                 .toList();
+    }
 
-        for (User user : trainersWithRole) {
-            if (trainerRepository.findByUserId(user.getId()).isEmpty()) {
-                Trainer trainer = new Trainer();
-                trainer.setUser(user);
-                trainer.setDanceStyle("Not specified");
-                trainerRepository.save(trainer);
-            }
-        }
+    private Map<Long, TrainerSnapshot> loadTrainers(Set<Long> ids) {
+        return trainerRepository.findRowsByIdIn(ids)
+                .stream()
+                .map(TrainerServiceImpl::toSnapshot)
+                .collect(Collectors.toMap(TrainerSnapshot::id, Function.identity()));
+    }
 
-        return trainerRepository.findAll().stream()
-                .filter(t -> t.getUser().getRoles().stream().anyMatch(r -> r.getName().equals("TRAINER")))
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainerSnapshot> findAllTrainers() {
+        return trainerRepository.findAllRowsByRole(TRAINER_ROLE)
+                .stream()
+                .map(TrainerServiceImpl::toSnapshot)
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<TrainerSnapshot> findTrainersPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        long afterId = KeysetPage.afterId(cursor);
+
+        List<TrainerSnapshot> rows = trainerRepository.findPageByRole(TRAINER_ROLE, afterId, limit + 1)
+                .stream()
+                .map(TrainerServiceImpl::toSnapshot)
+                .toList();
+
+        return KeysetPage.of(rows, limit, TrainerSnapshot::id);
+    }
+
+    private static TrainerSnapshot toSnapshot(TrainerRepository.TrainerRow row) {
+        return new TrainerSnapshot(row.getId(), row.getUserId(), row.getName(), row.getPhoneNumber(),
+                row.getDanceStyle(), AggregatedIds.parse(row.getGroupIds()));
+    }
+
     @Override
     @Transactional
     public Trainer createTrainer(Trainer trainer) {
@@ -101,7 +144,7 @@ public class TrainerServiceImpl implements TrainerService {
         });
 
         // Ensure TRAINER role exists
-        Role trainerRole = roleRepository.findByName("TRAINER")
+        Role trainerRole = roleRepository.findByName(TRAINER_ROLE)
                 .orElseThrow(() -> new ResourceNotFoundException("Role TRAINER not found"));
         
         if (user.getRoles() == null) {
@@ -118,7 +161,7 @@ public class TrainerServiceImpl implements TrainerService {
         }
 
         Trainer savedTrainer = trainerRepository.save(trainer);
-        cacheConfig.putTrainer(savedTrainer.getId(), savedTrainer);
+        cacheConfig.putTrainer(savedTrainer.getId(), TrainerSnapshot.from(savedTrainer));
 
         return savedTrainer;
     }
@@ -140,7 +183,7 @@ public class TrainerServiceImpl implements TrainerService {
         existingTrainer.setDanceStyle(trainer.getDanceStyle());
 
         Trainer updated = trainerRepository.save(existingTrainer);
-        cacheConfig.putTrainer(updated.getId(), updated);
+        cacheConfig.putTrainer(updated.getId(), TrainerSnapshot.from(updated));
         return updated;
     }
 
@@ -152,31 +195,46 @@ public class TrainerServiceImpl implements TrainerService {
 
         User user = trainer.getUser();
         if (user != null) {
-            Role trainerRole = roleRepository.findByName("TRAINER").orElse(null);
+            Role trainerRole = roleRepository.findByName(TRAINER_ROLE).orElse(null);
             if (trainerRole != null && user.getRoles() != null) {
                 user.getRoles().remove(trainerRole);
                 userRepository.save(user);
             }
         }
 
-        cacheConfig.removeTrainer(trainer.getId());
+        TrainerSnapshot snapshot = TrainerSnapshot.from(trainer);
+        List<ScheduleChange> changes = deletedSchedule(trainer);
         trainerRepository.delete(trainer);
+        TransactionHooks.afterCommit(() -> cacheConfig.deleteTrainer(snapshot));
+        changes.forEach(eventPublisher::publishEvent);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Trainer findTrainerByUserId(Long userId) {
-        return trainerRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    User user = userRepository.findById(userId)
-                            .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-                    if (user.getRoles().stream().anyMatch(r -> r.getName().equals("TRAINER"))) {
-                        Trainer t = new Trainer();
-                        t.setUser(user);
-                        t.setDanceStyle("Not specified");
-                        return trainerRepository.save(t);
-                    }
-                    throw new ResourceNotFoundException("Trainer entity not found and user doesn't have Trainer role");
-                });
+        return trainerRepository.findDashboardByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Trainer not found. User ID: " + userId));
+    }
+
+    // The delete cascades to the trainer's groups and their schedule items.
+    private static List<ScheduleChange> deletedSchedule(Trainer trainer) {
+        List<ScheduleChange> changes = new ArrayList<>();
+        if (trainer.getGroups() == null) {
+            return changes;
+        }
+
+        for (Group group : trainer.getGroups()) {
+            GroupSnapshot snapshot = GroupSnapshot.from(group);
+            changes.add(ScheduleChange.group(ScheduleChange.Action.DELETED, group.getId(),
+                    snapshot.trainerId(), snapshot.studentIds()));
+            if (group.getScheduleItems() != null) {
+                for (ScheduleItem scheduleItem : group.getScheduleItems()) {
+                    changes.add(ScheduleChange.scheduleItem(ScheduleChange.Action.DELETED, scheduleItem.getId(),
+                            scheduleItem.getHall().getId(), snapshot));
+                }
+            }
+        }
+
+        return changes;
     }
-}
\ No newline at end of file
+}
@@ -2,10 +2,13 @@ package com.bootgussy.dancecenterservice.core.service.impl;
 
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
 import com.bootgussy.dancecenterservice.core.model.Role;
 import com.bootgussy.dancecenterservice.core.model.Student;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
 import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.UserSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.AggregatedIds;
 import com.bootgussy.dancecenterservice.core.repository.RoleRepository;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
@@ -53,8 +56,51 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> findAllUsers() {
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<UserSnapshot> findAllUsers() {
+        return userRepository.findAllRows()
+                .stream()
+                .map(UserServiceImpl::toSnapshot)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<UserSnapshot> findUsersPage(int limit, String cursor) {
+        KeysetPage.checkLimit(limit);
+        long afterId = KeysetPage.afterId(cursor);
+
+        List<UserSnapshot> rows = userRepository.findPage(afterId, limit + 1)
+                .stream()
+                .map(UserServiceImpl::toSnapshot)
+                .toList();
+
+        return KeysetPage.of(rows, limit, UserSnapshot::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSnapshot findUserById(Long id) {
+        return userRepository.findRowById(id)
+                .map(UserServiceImpl::toSnapshot)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSnapshot findUserByPhoneNumber(String phoneNumber) {
+        return userRepository.findRowByPhoneNumber(phoneNumber)
+                .map(UserServiceImpl::toSnapshot)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with phone number: " + phoneNumber));
+    }
+
+    private static UserSnapshot toSnapshot(UserRepository.UserRow row) {
+        List<String> roleNames = row.getRoleNames() != null && !row.getRoleNames().isEmpty()
+                ? List.of(row.getRoleNames().split(","))
+                : List.of();
+
+        return new UserSnapshot(row.getId(), row.getName(), row.getPhoneNumber(),
+                AggregatedIds.parse(row.getRoleIds()), roleNames);
     }
 
     @Override
@@ -0,0 +1,122 @@
+package com.bootgussy.dancecenterservice.core.service.impl;
+
+import com.bootgussy.dancecenterservice.core.config.CacheConfig;
+import com.bootgussy.dancecenterservice.core.config.JwtUtils;
+import com.bootgussy.dancecenterservice.core.config.WarmUpProperties;
+import com.bootgussy.dancecenterservice.core.mapper.GroupMapper;
+import com.bootgussy.dancecenterservice.core.mapper.HallMapper;
+import com.bootgussy.dancecenterservice.core.mapper.ScheduleItemMapper;
+import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
+import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Runners finish before Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC,
+// so the readiness probe stays down until the caches and hot paths are warm.
+@Component
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private final WarmUpProperties warmUpProperties;
+    private final CacheConfig cacheConfig;
+    private final HallService hallService;
+    private final GroupService groupService;
+    private final ScheduleItemService scheduleItemService;
+    private final HallMapper hallMapper;
+    private final GroupMapper groupMapper;
+    private final ScheduleItemMapper scheduleItemMapper;
+    private final JwtUtils jwtUtils;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public WarmUpRunner(WarmUpProperties warmUpProperties,
+                        CacheConfig cacheConfig,
+                        HallService hallService,
+                        GroupService groupService,
+                        ScheduleItemService scheduleItemService,
+                        HallMapper hallMapper,
+                        GroupMapper groupMapper,
+                        ScheduleItemMapper scheduleItemMapper,
+                        JwtUtils jwtUtils,
+                        ObjectMapper objectMapper) {
+        this.warmUpProperties = warmUpProperties;
+        this.cacheConfig = cacheConfig;
+        this.hallService = hallService;
+        this.groupService = groupService;
+        this.scheduleItemService = scheduleItemService;
+        this.hallMapper = hallMapper;
+        this.groupMapper = groupMapper;
+        this.scheduleItemMapper = scheduleItemMapper;
+        this.jwtUtils = jwtUtils;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        try {
+            List<HallSnapshot> halls = hallService.findAllHalls();
+            halls.forEach(hall -> cacheConfig.cacheHall(hall.id(), hall));
+
+            List<GroupSnapshot> groups = groupService.findAllGroups();
+            groups.forEach(group -> cacheConfig.cacheGroup(group.id(), group));
+
+            List<ScheduleItemSnapshot> scheduleItems = scheduleItemService.findAllScheduleItems();
+            scheduleItems.forEach(scheduleItem -> cacheConfig.cacheScheduleItem(scheduleItem.id(), scheduleItem));
+
+            long loaded = System.nanoTime();
+            LOGGER.info("Cache warm-up loaded {} halls, {} groups, {} schedule items in {} ms",
+                    halls.size(), groups.size(), scheduleItems.size(), (loaded - start) / 1_000_000);
+
+            exerciseHotPaths(sample(halls), sample(groups), sample(scheduleItems));
+
+            LOGGER.info("Warm-up finished {} iterations in {} ms",
+                    warmUpProperties.getIterations(), (System.nanoTime() - loaded) / 1_000_000);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Warm-up aborted after {} ms", (System.nanoTime() - start) / 1_000_000, e);
+        }
+    }
+
+    private void exerciseHotPaths(List<HallSnapshot> halls,
+                                  List<GroupSnapshot> groups,
+                                  List<ScheduleItemSnapshot> scheduleItems) {
+        User user = new User();
+        user.setId(0L);
+        user.setRoles(List.of());
+
+        for (int i = 0; i < warmUpProperties.getIterations(); i++) {
+            try {
+                objectMapper.writeValueAsBytes(hallMapper.toSnapshotResponseDtoList(halls));
+                objectMapper.writeValueAsBytes(groupMapper.toSnapshotResponseDtoList(groups));
+                objectMapper.writeValueAsBytes(scheduleItemMapper.toSnapshotResponseDtoList(scheduleItems));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+
+            String token = jwtUtils.generateAccessToken(user);
+            if (jwtUtils.validateToken(token)) {
+                jwtUtils.getUserIdFromJwtToken(token);
+                jwtUtils.getRolesFromJwtToken(token);
+            }
+        }
+    }
+
+    private <T> List<T> sample(List<T> values) {
+        return values.subList(0, Math.min(values.size(), warmUpProperties.getSampleSize()));
+    }
+}
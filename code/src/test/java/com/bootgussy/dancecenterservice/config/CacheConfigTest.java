@@ -0,0 +1,274 @@
+package com.bootgussy.dancecenterservice.config;
+
+import com.bootgussy.dancecenterservice.api.dto.response.CacheStatsResponseDto;
+import com.bootgussy.dancecenterservice.core.config.CacheConfig;
+import com.bootgussy.dancecenterservice.core.config.CacheProperties;
+import com.bootgussy.dancecenterservice.core.config.InProcessSharedCacheTier;
+import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheConfigTest {
+    private CacheConfig nodeA;
+
+    private CacheConfig nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.Region sharedRegion = new CacheProperties.Region();
+        sharedRegion.setShared(true);
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getRegions().put("hall", sharedRegion);
+
+        InProcessSharedCacheTier sharedTier = new InProcessSharedCacheTier();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        nodeA = new CacheConfig(cacheProperties, sharedTier, objectMapper);
+        nodeB = new CacheConfig(cacheProperties, sharedTier, objectMapper);
+    }
+
+    @Test
+    void getHall_MissOnNearCache_ReadsSharedTier() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        nodeA.cacheHall(hall.id(), hall);
+
+        assertSame(hall, nodeB.getHall(hall.id()));
+    }
+
+    @Test
+    void putHall_UpdateOnOneNode_InvalidatesOtherNearCaches() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        nodeA.cacheHall(hall.id(), hall);
+        nodeB.getHall(hall.id());
+
+        HallSnapshot updatedHall = new HallSnapshot(1L, "Small Hall", 50, null);
+        nodeA.putHall(updatedHall.id(), updatedHall);
+
+        assertEquals("Small Hall", nodeB.getHall(hall.id()).name());
+    }
+
+    @Test
+    void removeHall_RemovesEntryFromEveryTier() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        nodeA.cacheHall(hall.id(), hall);
+        nodeB.getHall(hall.id());
+
+        nodeA.removeHall(hall.id());
+
+        assertNull(nodeA.getHall(hall.id()));
+        assertNull(nodeB.getHall(hall.id()));
+    }
+
+    @Test
+    void getHall_ConcurrentMisses_LoadOnce() throws Exception {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<HallSnapshot> first = executor.submit(() -> nodeA.getHall(hall.id(), id -> {
+                loads.incrementAndGet();
+                while (release.getCount() > 0) {
+                    Thread.onSpinWait();
+                }
+                return hall;
+            }));
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<HallSnapshot> second = executor.submit(() -> nodeA.getHall(hall.id(), id -> {
+                loads.incrementAndGet();
+                return hall;
+            }));
+            release.countDown();
+
+            assertSame(hall, first.get(5, TimeUnit.SECONDS));
+            assertSame(hall, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getHall_MissingId_CachesAbsence() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(nodeA.getHall(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(nodeA.getHall(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        nodeB.putHall(hall.id(), hall);
+
+        assertSame(hall, nodeA.getHall(hall.id(), id -> null));
+    }
+
+    @Test
+    void getHallList_UnchangedRegions_LoadsOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        List<HallSnapshot> halls = List.of(new HallSnapshot(1L, "Main Hall", 200, null));
+
+        nodeA.getHallList("findAllHalls", null, () -> {
+            loads.incrementAndGet();
+            return halls;
+        });
+        List<HallSnapshot> cachedHalls = nodeA.getHallList("findAllHalls", null, () -> {
+            loads.incrementAndGet();
+            return halls;
+        });
+
+        assertEquals(halls, cachedHalls);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getHallList_MutationOnOtherNode_ReloadsList() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.getHallList("findAllHalls", null, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        nodeB.removeScheduleItem(1L);
+        nodeA.getHallList("findAllHalls", null, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void deleteHall_CachedScheduleItems_EvictsThemOnEveryNode() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, List.of(5L));
+        ScheduleItemSnapshot scheduleItem = new ScheduleItemSnapshot(5L, 1L, 2L, DayOfWeek.MONDAY,
+                LocalTime.of(10, 0), LocalTime.of(11, 0));
+        nodeA.cacheHall(hall.id(), hall);
+        nodeB.cacheScheduleItem(scheduleItem.id(), scheduleItem);
+
+        nodeA.deleteHall(hall);
+
+        assertNull(nodeA.getScheduleItem(scheduleItem.id()));
+        assertNull(nodeB.getScheduleItem(scheduleItem.id()));
+    }
+
+    @Test
+    void deleteTrainer_CascadesThroughGroupsToScheduleItems() {
+        TrainerSnapshot trainer = new TrainerSnapshot(1L, 10L, "Anna", "+375291234567", "Ballet", List.of(2L));
+        GroupSnapshot group = new GroupSnapshot(2L, "Beginner", 1L, List.of(), List.of(5L));
+        ScheduleItemSnapshot scheduleItem = new ScheduleItemSnapshot(5L, 3L, 2L, DayOfWeek.MONDAY,
+                LocalTime.of(10, 0), LocalTime.of(11, 0));
+        nodeA.cacheGroup(group.id(), group);
+        nodeA.cacheScheduleItem(scheduleItem.id(), scheduleItem);
+
+        nodeA.deleteTrainer(trainer);
+
+        assertNull(nodeA.getGroup(group.id()));
+        assertNull(nodeA.getScheduleItem(scheduleItem.id()));
+    }
+
+    @Test
+    void putStudent_ChangedGroups_EvictsOnlyAffectedGroups() {
+        GroupSnapshot leftGroup = new GroupSnapshot(2L, "Beginner", 1L, List.of(7L), List.of());
+        GroupSnapshot keptGroup = new GroupSnapshot(3L, "Advanced", 1L, List.of(7L), List.of());
+        StudentSnapshot student = new StudentSnapshot(7L, 11L, "Ivan", "+375297654321", List.of(2L, 3L));
+        nodeA.cacheGroup(leftGroup.id(), leftGroup);
+        nodeA.cacheGroup(keptGroup.id(), keptGroup);
+        nodeA.cacheStudent(student.id(), student);
+
+        nodeA.putStudent(student.id(), new StudentSnapshot(7L, 11L, "Ivan", "+375297654321", List.of(3L)));
+
+        assertNull(nodeA.getGroup(leftGroup.id()));
+        assertSame(keptGroup, nodeA.getGroup(keptGroup.id()));
+    }
+
+    @Test
+    void putHall_RenamedHall_KeepsScheduleItems() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, List.of(5L));
+        ScheduleItemSnapshot scheduleItem = new ScheduleItemSnapshot(5L, 1L, 2L, DayOfWeek.MONDAY,
+                LocalTime.of(10, 0), LocalTime.of(11, 0));
+        nodeA.cacheHall(hall.id(), hall);
+        nodeA.cacheScheduleItem(scheduleItem.id(), scheduleItem);
+
+        nodeA.putHall(hall.id(), new HallSnapshot(1L, "Small Hall", 50, List.of(5L)));
+
+        assertSame(scheduleItem, nodeA.getScheduleItem(scheduleItem.id()));
+    }
+
+    @Test
+    void getStats_AfterLookups_CountsHitsMissesAndLoads() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+
+        nodeA.getHall(hall.id(), id -> hall);
+        nodeA.getHall(hall.id(), id -> hall);
+        CacheStatsResponseDto stats = nodeA.getStats("hall");
+
+        assertEquals(1L, stats.getHits());
+        assertEquals(1L, stats.getMisses());
+        assertEquals(1L, stats.getLoads());
+        assertEquals(1L, stats.getSize());
+    }
+
+    @Test
+    void clear_RegionOnOneNode_ClearsNearCachesOnEveryNode() {
+        HallSnapshot hall = new HallSnapshot(1L, "Main Hall", 200, null);
+        nodeA.getHall(hall.id(), id -> hall);
+        nodeB.getHall(hall.id(), id -> hall);
+
+        nodeA.clear("hall");
+
+        assertEquals(0L, nodeA.getStats("hall").getSize());
+        assertEquals(0L, nodeB.getStats("hall").getSize());
+    }
+
+    @Test
+    void resize_UnknownRegion_ThrowsException() {
+        assertThrows(ResourceNotFoundException.class, () -> nodeA.resize("unknown", 10));
+    }
+
+    @Test
+    void getHalls_PartlyCached_LoadsOnlyMissingIdsInOneCall() {
+        HallSnapshot cachedHall = new HallSnapshot(1L, "Main Hall", 200, null);
+        HallSnapshot loadedHall = new HallSnapshot(2L, "Small Hall", 50, null);
+        nodeA.cacheHall(cachedHall.id(), cachedHall);
+        List<Set<Long>> loads = new ArrayList<>();
+
+        Map<Long, HallSnapshot> halls = nodeA.getHalls(List.of(2L, 1L, 3L), ids -> {
+            loads.add(Set.copyOf(ids));
+            return Map.of(loadedHall.id(), loadedHall);
+        });
+
+        assertEquals(List.of(Set.of(2L, 3L)), loads);
+        assertEquals(Map.of(1L, cachedHall, 2L, loadedHall), halls);
+        assertSame(loadedHall, nodeA.getHall(loadedHall.id()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.bootgussy.dancecenterservice.config;
+
+import com.bootgussy.dancecenterservice.core.config.CacheProperties;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CachePropertiesTest {
+    @Test
+    void region_PartialOverride_InheritsOtherSettingsFromDefaults() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getDefaults().setMaxSize(5000L);
+        CacheProperties.Region hall = new CacheProperties.Region();
+        hall.setTtl(Duration.ofMinutes(1));
+        cacheProperties.getRegions().put("hall", hall);
+
+        CacheProperties.Region region = cacheProperties.region("hall");
+
+        assertEquals(Duration.ofMinutes(1), region.getTtl());
+        assertEquals(5000L, region.getMaxSize());
+        assertEquals(Duration.ofSeconds(30), region.getNegativeTtl());
+        assertEquals(CacheProperties.Storage.HEAP, region.getStorage());
+    }
+}
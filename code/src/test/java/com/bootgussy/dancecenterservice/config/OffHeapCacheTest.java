@@ -0,0 +1,55 @@
+package com.bootgussy.dancecenterservice.config;
+
+import com.bootgussy.dancecenterservice.core.config.OffHeapCache;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OffHeapCacheTest {
+    private OffHeapCache<Long, ScheduleItemSnapshot> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OffHeapCache<>(ScheduleItemSnapshot.class, new ObjectMapper().findAndRegisterModules(),
+                DataSize.ofBytes(1024), DataSize.ofBytes(256), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void get_AfterPut_ReturnsEqualSnapshot() {
+        ScheduleItemSnapshot scheduleItem = scheduleItem(1L);
+        cache.put(scheduleItem.id(), scheduleItem);
+
+        assertEquals(scheduleItem, cache.get(scheduleItem.id()));
+    }
+
+    @Test
+    void get_AfterRemove_ReturnsNull() {
+        cache.put(1L, scheduleItem(1L));
+
+        cache.remove(1L);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void put_RingWrapsAround_EvictsOldestSegment() {
+        for (long id = 1; id <= 64; id++) {
+            cache.put(id, scheduleItem(id));
+        }
+
+        assertNull(cache.get(1L));
+        assertNotNull(cache.get(64L));
+    }
+
+    private ScheduleItemSnapshot scheduleItem(Long id) {
+        return new ScheduleItemSnapshot(id, 1L, 2L, DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.bootgussy.dancecenterservice.mapper;
+
+import com.bootgussy.dancecenterservice.api.dto.response.GroupResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.ScheduleItemResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.StudentResponseDto;
+import com.bootgussy.dancecenterservice.api.dto.response.TrainerResponseDto;
+import com.bootgussy.dancecenterservice.core.mapper.GroupMapperImpl;
+import com.bootgussy.dancecenterservice.core.mapper.ScheduleItemMapper;
+import com.bootgussy.dancecenterservice.core.mapper.StudentMapper;
+import com.bootgussy.dancecenterservice.core.mapper.TrainerMapper;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
+import com.bootgussy.dancecenterservice.core.service.ScheduleItemService;
+import com.bootgussy.dancecenterservice.core.service.StudentService;
+import com.bootgussy.dancecenterservice.core.service.TrainerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupMapperTest {
+    @InjectMocks
+    private GroupMapperImpl groupMapper;
+
+    @Mock
+    private TrainerService trainerService;
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private ScheduleItemService scheduleItemService;
+
+    @Mock
+    private TrainerMapper trainerMapper;
+
+    @Mock
+    private StudentMapper studentMapper;
+
+    @Mock
+    private ScheduleItemMapper scheduleItemMapper;
+
+    private TrainerResponseDto trainer;
+
+    private StudentResponseDto student;
+
+    private ScheduleItemResponseDto scheduleItem;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        trainer = TrainerResponseDto.builder().id(1L).build();
+        student = StudentResponseDto.builder().id(2L).build();
+        scheduleItem = ScheduleItemResponseDto.builder().id(3L).build();
+
+        when(trainerMapper.toSnapshotResponseDtoList(anyList())).thenReturn(List.of(trainer));
+        when(studentMapper.toSnapshotResponseDtoList(anyList())).thenReturn(List.of(student));
+        when(scheduleItemMapper.toSnapshotResponseDtoList(anyList(), any())).thenReturn(List.of(scheduleItem));
+    }
+
+    @Test
+    void toSnapshotResponseDtoList_LooksUpEachAssociationOnce() {
+        List<GroupSnapshot> groups = List.of(
+                new GroupSnapshot(10L, "Beg", 1L, List.of(2L), List.of(3L)),
+                new GroupSnapshot(11L, "Pro", 1L, List.of(2L), List.of()),
+                new GroupSnapshot(12L, "Mid", 1L, List.of(), List.of()));
+
+        List<GroupResponseDto> mapped = groupMapper.toSnapshotResponseDtoList(groups);
+
+        assertEquals(List.of(10L, 11L, 12L), mapped.stream().map(GroupResponseDto::getId).toList());
+        assertSame(trainer, mapped.get(2).getTrainer());
+        assertEquals(List.of(student), mapped.get(1).getStudents());
+        assertEquals(List.of(scheduleItem), mapped.get(0).getScheduleItems());
+        assertEquals(List.of(), mapped.get(1).getScheduleItems());
+        verify(trainerService, times(1)).findTrainersByIds(List.of(1L));
+        verify(studentService, times(1)).findStudentsByIds(List.of(2L));
+        verify(scheduleItemService, times(1)).findScheduleItemsByIds(List.of(3L));
+    }
+
+    @Test
+    void toSnapshotResponseDtoList_ScheduleItemsGetShallowGroups() {
+        GroupSnapshot group = new GroupSnapshot(10L, "Beg", 1L, List.of(2L), List.of(3L));
+        List<ScheduleItemSnapshot> items = List.of(new ScheduleItemSnapshot(3L, 5L, 10L, DayOfWeek.MONDAY,
+                LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        when(scheduleItemService.findScheduleItemsByIds(List.of(3L))).thenReturn(items);
+        ArgumentCaptor<Map<Long, GroupResponseDto>> groups = ArgumentCaptor.captor();
+
+        groupMapper.toSnapshotResponseDtoList(List.of(group));
+
+        verify(scheduleItemMapper).toSnapshotResponseDtoList(eq(items), groups.capture());
+        GroupResponseDto shallowGroup = groups.getValue().get(10L);
+        assertSame(trainer, shallowGroup.getTrainer());
+        assertEquals(List.of(student), shallowGroup.getStudents());
+        assertNull(shallowGroup.getScheduleItems());
+    }
+}
@@ -0,0 +1,53 @@
+package com.bootgussy.dancecenterservice.model;
+
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import com.bootgussy.dancecenterservice.core.model.DayOfWeekConverter;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DayOfWeekConverterTest {
+    @Test
+    void parse_ValidDays_ReturnsDay() {
+        assertEquals(DayOfWeek.MONDAY, DayOfWeekConverter.parse("Monday"));
+        assertEquals(DayOfWeek.TUESDAY, DayOfWeekConverter.parse("Tuesday"));
+        assertEquals(DayOfWeek.WEDNESDAY, DayOfWeekConverter.parse("Wednesday"));
+        assertEquals(DayOfWeek.THURSDAY, DayOfWeekConverter.parse("Thursday"));
+        assertEquals(DayOfWeek.FRIDAY, DayOfWeekConverter.parse("Friday"));
+        assertEquals(DayOfWeek.SATURDAY, DayOfWeekConverter.parse("Saturday"));
+        assertEquals(DayOfWeek.SUNDAY, DayOfWeekConverter.parse("Sunday"));
+        assertNull(DayOfWeekConverter.parse(null));
+    }
+
+    @Test
+    void parse_InvalidDays_ThrowsException() {
+        for (String dayOfWeek : new String[] {"Funday", "Holiday", "", "MONDAY"}) {
+            IncorrectDataException exception = assertThrows(IncorrectDataException.class,
+                    () -> DayOfWeekConverter.parse(dayOfWeek));
+
+            assertEquals("Day of week is incorrect. Example: Monday", exception.getMessage());
+        }
+    }
+
+    @Test
+    void format_ReturnsStoredName() {
+        assertEquals("Wednesday", DayOfWeekConverter.format(DayOfWeek.WEDNESDAY));
+        assertNull(DayOfWeekConverter.format(null));
+    }
+
+    @Test
+    void minuteOfWeek_CountsFromMondayMidnight() {
+        assertEquals(600, ScheduleItem.minuteOfWeek(DayOfWeek.MONDAY, LocalTime.of(10, 0)));
+        assertEquals(6 * 1440 + 23 * 60 + 59, ScheduleItem.minuteOfWeek(DayOfWeek.SUNDAY, LocalTime.of(23, 59)));
+
+        ScheduleItem scheduleItem = new ScheduleItem(null, null, null, DayOfWeek.TUESDAY,
+                LocalTime.of(9, 30), LocalTime.of(10, 45));
+
+        assertEquals(1440 + 570, scheduleItem.getStartMinute());
+        assertEquals(1440 + 645, scheduleItem.getEndMinute());
+    }
+}
@@ -0,0 +1,39 @@
+package com.bootgussy.dancecenterservice.model;
+
+import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetPageTest {
+    @Test
+    void of_ExtraRow_ReturnsCursorAfterLastItem() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(3L, 8L, 12L), 2, Function.identity());
+
+        assertEquals(List.of(3L, 8L), page.items());
+        assertEquals(8L, KeysetPage.afterId(page.nextCursor()));
+    }
+
+    @Test
+    void of_NoExtraRow_ReturnsLastPage() {
+        KeysetPage<Long> page = KeysetPage.of(List.of(3L, 8L), 2, Function.identity());
+
+        assertEquals(List.of(3L, 8L), page.items());
+        assertNull(page.nextCursor());
+        assertEquals(0L, KeysetPage.afterId(null));
+    }
+
+    @Test
+    void afterId_MalformedCursor_ThrowsException() {
+        for (String cursor : new String[] {"abc", "!!", KeysetPage.cursorAfter(1L).substring(1)}) {
+            IncorrectDataException exception = assertThrows(IncorrectDataException.class,
+                    () -> KeysetPage.afterId(cursor));
+            assertEquals("Incorrect cursor: " + cursor, exception.getMessage());
+        }
+        assertThrows(IncorrectDataException.class, () -> KeysetPage.checkLimit(KeysetPage.MAX_LIMIT + 1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.CacheProperties;
+import com.bootgussy.dancecenterservice.core.config.InProcessSharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.CalendarFeed;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.schedule.CalendarFeedCache;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleChangeFeed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalendarFeedCacheTest {
+    private static final OccupancyIndex.Person TRAINER = new OccupancyIndex.Person(OccupancyIndex.TRAINER, 7L);
+
+    private static final OccupancyIndex.Person STUDENT = new OccupancyIndex.Person(OccupancyIndex.STUDENT, 5L);
+
+    private InProcessSharedCacheTier sharedCacheTier;
+
+    private ScheduleChangeFeed scheduleChangeFeed;
+
+    private CalendarFeedCache calendarFeedCache;
+
+    private ScheduleItem scheduleItem;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheTier = new InProcessSharedCacheTier();
+        scheduleChangeFeed = new ScheduleChangeFeed(sharedCacheTier, new ObjectMapper().findAndRegisterModules(),
+                Runnable::run);
+        calendarFeedCache = new CalendarFeedCache(scheduleChangeFeed, sharedCacheTier, new CacheProperties());
+        scheduleItem = new ScheduleItem(3L, new Hall(1L, "Main Hall", 200, null),
+                new Group(2L, "Beg", null, null, null), DayOfWeek.WEDNESDAY,
+                LocalTime.of(18, 0), LocalTime.of(19, 30));
+    }
+
+    @Test
+    void of_RendersWeeklyEventsWithStableEtag() {
+        CalendarFeed feed = CalendarFeed.of("Anna", List.of(scheduleItem), Map.of(1L, "Main Hall"));
+        String body = new String(feed.body(), StandardCharsets.UTF_8);
+
+        assertTrue(body.contains("DTSTART:20240103T180000\r\nDTEND:20240103T193000\r\nRRULE:FREQ=WEEKLY;BYDAY=WE\r\n"));
+        assertTrue(body.contains("LOCATION:Main Hall\r\n"));
+        assertEquals(feed.etag(), CalendarFeed.of("Anna", List.of(scheduleItem), Map.of(1L, "Main Hall")).etag());
+    }
+
+    @Test
+    void get_CachedFeed_DoesNotReload() {
+        AtomicInteger loads = new AtomicInteger();
+        CalendarFeed first = calendarFeedCache.get(TRAINER, () -> load(loads));
+
+        assertSame(first, calendarFeedCache.get(TRAINER, () -> load(loads)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AfterChangeNamingOwner_Reloads() {
+        AtomicInteger loads = new AtomicInteger();
+        calendarFeedCache.get(TRAINER, () -> load(loads));
+        calendarFeedCache.get(STUDENT, () -> load(loads));
+
+        scheduleChangeFeed.onChange(ScheduleChange.group(ScheduleChange.Action.UPDATED, 2L, 7L, List.of()));
+        calendarFeedCache.get(TRAINER, () -> load(loads));
+        calendarFeedCache.get(STUDENT, () -> load(loads));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_AfterOwnerDeleted_Reloads() {
+        AtomicInteger loads = new AtomicInteger();
+        calendarFeedCache.get(STUDENT, () -> load(loads));
+
+        sharedCacheTier.publishInvalidation("node", OccupancyIndex.STUDENT, "5");
+        calendarFeedCache.get(STUDENT, () -> load(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private CalendarFeed load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return CalendarFeed.of("Anna", List.of(scheduleItem), Map.of());
+    }
+}
@@ -0,0 +1,138 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.schedule.HallSchedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HallScheduleTest {
+    private HallSchedule schedule;
+
+    private Hall hall;
+
+    private Group group;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new HallSchedule();
+        hall = new Hall(1L, "Main Hall", 200, null);
+        group = new Group(1L, "Beg", null, null, null);
+    }
+
+    @Test
+    void isBusy_FindsOverlapBehindShorterSlots() {
+        schedule.add(item(1L, 8, 0, 12, 0));
+        schedule.add(item(2L, 11, 0, 11, 30));
+
+        assertTrue(schedule.isBusy(item(null, 11, 45, 12, 30)));
+        assertFalse(schedule.isBusy(item(null, 12, 0, 13, 0)));
+        assertFalse(schedule.isBusy(item(null, 7, 0, 8, 0)));
+    }
+
+    @Test
+    void isBusy_IgnoresExcludedItem() {
+        schedule.add(item(1L, 10, 0, 11, 0));
+
+        assertFalse(schedule.isBusy(item(1L, 10, 30, 11, 30)));
+        assertTrue(schedule.isBusy(item(2L, 10, 30, 11, 30)));
+    }
+
+    @Test
+    void hasDuplicate_MatchesSameGroupAndTime() {
+        schedule.add(item(1L, 10, 0, 11, 0));
+
+        assertTrue(schedule.hasDuplicate(item(null, 10, 0, 11, 0)));
+        assertFalse(schedule.hasDuplicate(item(null, 10, 0, 11, 30)));
+        assertFalse(schedule.hasDuplicate(item(1L, 10, 0, 11, 0)));
+    }
+
+    @Test
+    void reload_KeepsClaimsOfUncommittedWrites() {
+        schedule.claim(item(2L, 12, 0, 13, 0));
+        schedule.invalidate();
+
+        assertTrue(schedule.reload(schedule.version(), List.of(item(1L, 10, 0, 11, 0))));
+
+        assertTrue(schedule.isCurrent());
+        assertTrue(schedule.isBusy(item(null, 10, 30, 10, 45)));
+        assertTrue(schedule.isBusy(item(null, 12, 30, 12, 45)));
+    }
+
+    @Test
+    void reload_RejectsRowsReadBeforeLocalWrite() {
+        schedule.invalidate();
+        HallSchedule.Version version = schedule.version();
+        schedule.claim(item(2L, 12, 0, 13, 0));
+        schedule.settle(2L);
+
+        assertFalse(schedule.reload(version, List.of()));
+        assertFalse(schedule.isCurrent());
+        assertTrue(schedule.isBusy(item(null, 12, 30, 12, 45)));
+    }
+
+    @Test
+    void findConflict_DetectsOverlapWithinBatch() {
+        schedule.add(item(1L, 8, 0, 9, 0));
+        ScheduleItem first = item(null, 10, 0, 12, 0);
+        ScheduleItem second = item(null, 11, 0, 11, 30);
+
+        assertEquals(second, schedule.findConflict(List.of(second, first)));
+        assertNull(schedule.findConflict(List.of(first, item(null, 9, 0, 10, 0))));
+    }
+
+    @Test
+    void findConflict_DetectsExistingSlotInsideCandidate() {
+        schedule.add(item(1L, 11, 0, 11, 30));
+        ScheduleItem candidate = item(null, 10, 0, 12, 0);
+
+        assertEquals(candidate, schedule.findConflict(List.of(candidate)));
+    }
+
+    @Test
+    void findGaps_ReturnsFreeRangesOfRequiredLength() {
+        schedule.add(item(1L, 8, 0, 12, 0));
+        schedule.add(item(2L, 9, 0, 10, 0));
+        schedule.add(item(3L, 13, 0, 14, 30));
+        schedule.add(item(4L, 15, 0, 16, 0));
+
+        List<HallSchedule.Gap> gaps = schedule.findGaps(10 * 60, 18 * 60, 60);
+
+        assertEquals(List.of(
+                new HallSchedule.Gap(12 * 60, 13 * 60),
+                new HallSchedule.Gap(16 * 60, 18 * 60)
+        ), gaps);
+    }
+
+    @Test
+    void add_ExistingId_MovesSlot() {
+        schedule.add(item(1L, 10, 0, 11, 0));
+        schedule.add(item(1L, 14, 0, 15, 0));
+
+        assertEquals(1, schedule.slots().size());
+        assertFalse(schedule.isBusy(item(null, 10, 0, 11, 0)));
+        assertTrue(schedule.isBusy(item(null, 14, 30, 16, 0)));
+    }
+
+    @Test
+    void remove_FreesSlot() {
+        schedule.add(item(1L, 10, 0, 11, 0));
+
+        assertTrue(schedule.remove(1L));
+        assertFalse(schedule.remove(1L));
+        assertFalse(schedule.isBusy(item(null, 10, 0, 11, 0)));
+    }
+
+    private ScheduleItem item(Long id, int startHour, int startMinute, int endHour, int endMinute) {
+        return new ScheduleItem(id, hall, group, DayOfWeek.MONDAY,
+                LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+}
@@ -0,0 +1,83 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.InProcessSharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleChangeFeed;
+import com.bootgussy.dancecenterservice.core.schedule.WeeklyOccupancy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OccupancyIndexTest {
+    private static final OccupancyIndex.Person TRAINER = new OccupancyIndex.Person(OccupancyIndex.TRAINER, 7L);
+    private static final OccupancyIndex.Members MEMBERS = OccupancyIndex.Members.of(7L, List.of());
+
+    private ScheduleItemRepository scheduleItemRepository;
+    private InProcessSharedCacheTier sharedCacheTier;
+    private ScheduleChangeFeed scheduleChangeFeed;
+    private OccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        scheduleItemRepository = mock(ScheduleItemRepository.class);
+        sharedCacheTier = new InProcessSharedCacheTier();
+        scheduleChangeFeed = new ScheduleChangeFeed(sharedCacheTier,
+                new ObjectMapper().findAndRegisterModules(), Runnable::run);
+        occupancyIndex = new OccupancyIndex(scheduleItemRepository, sharedCacheTier, scheduleChangeFeed);
+    }
+
+    @Test
+    void claim_KeepsUncommittedClaimAcrossReload() {
+        when(scheduleItemRepository.findMinuteRangesByTrainers(any())).thenReturn(List.of());
+        assertNull(occupancyIndex.claim(OccupancyIndex.Claim.reserve(MEMBERS, minutes(600, 660))));
+
+        sharedCacheTier.publishInvalidation("other-node", OccupancyIndex.TRAINER, "7");
+
+        assertEquals(TRAINER, occupancyIndex.claim(OccupancyIndex.Claim.reserve(MEMBERS, minutes(630, 690))));
+    }
+
+    @Test
+    void abandon_GivesMinutesBack() {
+        when(scheduleItemRepository.findMinuteRangesByTrainers(any())).thenReturn(List.of());
+        OccupancyIndex.Claim claim = OccupancyIndex.Claim.reserve(MEMBERS, minutes(600, 660));
+        occupancyIndex.claim(claim);
+
+        occupancyIndex.abandon(claim);
+
+        assertNull(occupancyIndex.claim(OccupancyIndex.Claim.reserve(MEMBERS, minutes(630, 690))));
+    }
+
+    @Test
+    void onChange_DeletedGroupFreesItsPeople() {
+        List<ScheduleItemRepository.MinuteRange> ranges = List.of(range(600, 660));
+        when(scheduleItemRepository.findMinuteRangesByTrainers(any())).thenReturn(ranges);
+        assertEquals(TRAINER, occupancyIndex.claim(OccupancyIndex.Claim.reserve(MEMBERS, minutes(630, 690))));
+
+        when(scheduleItemRepository.findMinuteRangesByTrainers(any())).thenReturn(List.of());
+        scheduleChangeFeed.onChange(ScheduleChange.group(ScheduleChange.Action.DELETED, 3L, 7L, List.of()));
+
+        assertNull(occupancyIndex.claim(OccupancyIndex.Claim.reserve(MEMBERS, minutes(630, 690))));
+    }
+
+    private static WeeklyOccupancy minutes(int start, int end) {
+        WeeklyOccupancy minutes = new WeeklyOccupancy();
+        minutes.set(start, end);
+        return minutes;
+    }
+
+    private static ScheduleItemRepository.MinuteRange range(int start, int end) {
+        ScheduleItemRepository.MinuteRange range = mock(ScheduleItemRepository.MinuteRange.class);
+        when(range.getOwnerId()).thenReturn(7L);
+        when(range.getStartMinute()).thenReturn(start);
+        when(range.getEndMinute()).thenReturn(end);
+        return range;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.InProcessSharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleChangeFeed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleChangeFeedTest {
+    @Test
+    void filter_RequiresEveryGivenField() {
+        ScheduleChange change = ScheduleChange.group(ScheduleChange.Action.UPDATED, 3L, 7L, List.of(11L, 12L));
+
+        assertTrue(new ScheduleChangeFeed.Filter(null, null, null, null).matches(change));
+        assertTrue(new ScheduleChangeFeed.Filter(null, 3L, 7L, 12L).matches(change));
+        assertFalse(new ScheduleChangeFeed.Filter(null, 3L, 8L, null).matches(change));
+        assertFalse(new ScheduleChangeFeed.Filter(1L, null, null, null).matches(change));
+    }
+
+    @Test
+    void filter_MatchesEitherSideOfUpdate() {
+        ScheduleChange change = ScheduleChange.group(ScheduleChange.Action.UPDATED, 3L, 7L, List.of(11L))
+                .and(ScheduleChange.group(ScheduleChange.Action.UPDATED, 3L, 8L, List.of(12L)));
+
+        assertTrue(new ScheduleChangeFeed.Filter(null, null, 7L, null).matches(change));
+        assertTrue(new ScheduleChangeFeed.Filter(null, null, 8L, 11L).matches(change));
+    }
+
+    @Test
+    void onChange_PublishesOnOwnTopicInsteadOfInvalidationChannel() {
+        InProcessSharedCacheTier sharedCacheTier = new InProcessSharedCacheTier();
+        List<String> invalidatedRegions = new ArrayList<>();
+        sharedCacheTier.subscribe((origin, region, key) -> invalidatedRegions.add(region));
+        ScheduleChangeFeed feed = new ScheduleChangeFeed(sharedCacheTier,
+                new ObjectMapper().findAndRegisterModules(), Runnable::run);
+        List<ScheduleChange> heard = new ArrayList<>();
+        feed.listen(heard::add);
+        ScheduleChange change = ScheduleChange.hall(ScheduleChange.Action.DELETED, 4L);
+
+        feed.onChange(change);
+
+        assertEquals(List.of(change), heard);
+        assertTrue(invalidatedRegions.isEmpty());
+    }
+}
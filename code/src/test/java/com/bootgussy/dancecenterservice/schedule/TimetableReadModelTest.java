@@ -0,0 +1,109 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.config.InProcessSharedCacheTier;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import com.bootgussy.dancecenterservice.core.schedule.TimetableReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimetableReadModelTest {
+    private ScheduleItemRepository scheduleItemRepository;
+
+    private InProcessSharedCacheTier sharedCacheTier;
+
+    private TimetableReadModel readModel;
+
+    private Hall hall;
+
+    private Group group;
+
+    private HallSnapshot hallSnapshot;
+
+    private GroupSnapshot groupSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        scheduleItemRepository = mock(ScheduleItemRepository.class);
+        sharedCacheTier = new InProcessSharedCacheTier();
+        readModel = new TimetableReadModel(scheduleItemRepository, sharedCacheTier);
+        hall = new Hall(1L, "Main Hall", 200, null);
+        group = new Group(1L, "Beg", null, null, null);
+        hallSnapshot = HallSnapshot.from(hall);
+        groupSnapshot = GroupSnapshot.from(group);
+    }
+
+    @Test
+    void timetables_LoadsHallOnceAndOrdersEntries() {
+        when(scheduleItemRepository.findAllWithGroupByHallIdIn(any())).thenReturn(List.of(
+                item(2L, DayOfWeek.TUESDAY, 10), item(1L, DayOfWeek.MONDAY, 12)));
+
+        readModel.timetables(List.of(hallSnapshot));
+        HallTimetable timetable = readModel.timetables(List.of(hallSnapshot)).get(0);
+
+        assertEquals("Main Hall", timetable.hallName());
+        assertEquals(List.of(1L, 2L), timetable.entries().stream().map(HallTimetable.Entry::id).toList());
+        verify(scheduleItemRepository, times(1)).findAllWithGroupByHallIdIn(any());
+    }
+
+    @Test
+    void putAndRemove_PatchLoadedHall() {
+        when(scheduleItemRepository.findAllWithGroupByHallIdIn(any())).thenReturn(List.of(
+                item(1L, DayOfWeek.MONDAY, 12)));
+        readModel.timetables(List.of(hallSnapshot));
+
+        readModel.put(item(3L, DayOfWeek.MONDAY, 9), groupSnapshot);
+        readModel.put(item(1L, DayOfWeek.FRIDAY, 12), groupSnapshot);
+        readModel.remove(1L, 3L);
+
+        HallTimetable timetable = readModel.timetables(List.of(hallSnapshot)).get(0);
+        assertEquals(1, timetable.entries().size());
+        assertEquals(DayOfWeek.FRIDAY, timetable.entries().get(0).dayOfWeek());
+        verify(scheduleItemRepository, times(1)).findAllWithGroupByHallIdIn(any());
+    }
+
+    @Test
+    void groupInvalidation_ReloadsHallsWithGroup() {
+        when(scheduleItemRepository.findAllWithGroupByHallIdIn(any())).thenReturn(List.of(
+                item(1L, DayOfWeek.MONDAY, 12)));
+        readModel.timetables(List.of(hallSnapshot));
+
+        sharedCacheTier.publishInvalidation("other", "group", "1");
+        readModel.timetables(List.of(hallSnapshot));
+
+        verify(scheduleItemRepository, times(2)).findAllWithGroupByHallIdIn(any());
+    }
+
+    @Test
+    void put_DuringLoad_DropsLoadedHall() {
+        List<ScheduleItem> rows = List.of(item(1L, DayOfWeek.MONDAY, 12));
+        ScheduleItem created = item(3L, DayOfWeek.MONDAY, 9);
+        when(scheduleItemRepository.findAllWithGroupByHallIdIn(any())).thenAnswer(invocation -> {
+            readModel.put(created, groupSnapshot);
+            return rows;
+        });
+
+        readModel.timetables(List.of(hallSnapshot));
+        readModel.timetables(List.of(hallSnapshot));
+
+        verify(scheduleItemRepository, times(2)).findAllWithGroupByHallIdIn(any());
+    }
+
+    private ScheduleItem item(Long id, DayOfWeek dayOfWeek, int hour) {
+        return new ScheduleItem(id, hall, group, dayOfWeek, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+    }
+}
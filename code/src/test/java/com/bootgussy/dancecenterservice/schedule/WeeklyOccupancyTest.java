@@ -0,0 +1,67 @@
+package com.bootgussy.dancecenterservice.schedule;
+
+import com.bootgussy.dancecenterservice.core.schedule.WeeklyOccupancy;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeeklyOccupancyTest {
+    @Test
+    void intersects_RangesAcrossWordBoundaries() {
+        WeeklyOccupancy busy = occupancy(60, 130);
+
+        assertTrue(busy.intersects(occupancy(129, 200)));
+        assertTrue(busy.intersects(occupancy(0, 61)));
+        assertFalse(busy.intersects(occupancy(130, 200)));
+        assertFalse(busy.intersects(occupancy(0, 60)));
+    }
+
+    @Test
+    void intersects_LastMinuteOfWeek() {
+        WeeklyOccupancy busy = occupancy(WeeklyOccupancy.MINUTES_PER_WEEK - 1, WeeklyOccupancy.MINUTES_PER_WEEK);
+
+        assertTrue(busy.intersects(occupancy(WeeklyOccupancy.MINUTES_PER_WEEK - 30, WeeklyOccupancy.MINUTES_PER_WEEK)));
+        assertFalse(busy.intersects(occupancy(0, WeeklyOccupancy.MINUTES_PER_WEEK - 1)));
+    }
+
+    @Test
+    void intersects_IgnoresGivenMinutes() {
+        WeeklyOccupancy busy = occupancy(600, 660);
+
+        assertFalse(busy.intersects(occupancy(630, 690), occupancy(600, 660)));
+        assertTrue(busy.intersects(occupancy(630, 690), occupancy(600, 640)));
+    }
+
+    @Test
+    void remove_FreesOnlyGivenMinutes() {
+        WeeklyOccupancy busy = occupancy(600, 660);
+        busy.add(occupancy(700, 760));
+
+        busy.remove(occupancy(600, 660));
+
+        assertFalse(busy.intersects(occupancy(600, 660)));
+        assertTrue(busy.intersects(occupancy(700, 701)));
+        busy.remove(occupancy(700, 760));
+        assertTrue(busy.isEmpty());
+    }
+
+    @Test
+    void remove_OverlappingSessions_KeepsSharedMinutesBusy() {
+        WeeklyOccupancy busy = occupancy(600, 660);
+        busy.add(occupancy(630, 700));
+        assertTrue(busy.intersects(occupancy(640, 650), occupancy(600, 660)));
+
+        busy.remove(occupancy(600, 660));
+
+        assertFalse(busy.intersects(occupancy(600, 630)));
+        assertTrue(busy.intersects(occupancy(640, 650)));
+        busy.remove(occupancy(630, 700));
+        assertTrue(busy.isEmpty());
+    }
+
+    private static WeeklyOccupancy occupancy(int start, int end) {
+        WeeklyOccupancy occupancy = new WeeklyOccupancy();
+        occupancy.set(start, end);
+        return occupancy;
+    }
+}
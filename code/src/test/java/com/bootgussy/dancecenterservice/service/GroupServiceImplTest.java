@@ -6,19 +6,27 @@ import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException
 import com.bootgussy.dancecenterservice.core.model.Group;
 import com.bootgussy.dancecenterservice.core.model.Student;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.GroupRepository;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
 import com.bootgussy.dancecenterservice.core.service.impl.GroupServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class GroupServiceImplTest {
@@ -38,6 +46,12 @@ class GroupServiceImplTest {
     @Mock
     private CacheConfig cacheConfig;
 
+    @Mock
+    private OccupancyIndex occupancyIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Group group;
     private Group group2;
     private Trainer trainer;
@@ -46,28 +60,28 @@ class GroupServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        trainer = new Trainer(1L, "Trainer Name",  null, null, null);
-        student = new Student(1L, "Student Name", null, null);
+        trainer = new Trainer(1L, "Ballet", null, new User(1L, "Trainer Name", null, null, null));
+        student = new Student(1L, null, new User(2L, "Student Name", null, null, null));
         group = new Group(1L, "Beginner", trainer, Collections.singletonList(student), null);
         group2 = new Group(2L, "Intermediate", trainer, Collections.singletonList(student), null);
     }
 
     @Test
     void findGroupById_GroupExists_ReturnsGroup() {
-        when(cacheConfig.getGroup(1L)).thenReturn(null);
-        when(groupRepository.findById(1L)).thenReturn(Optional.of(group));
+        loadGroupsThroughCache();
+        GroupRepository.GroupRow row = row(group);
+        when(groupRepository.findRowById(1L)).thenReturn(Optional.of(row));
 
-        Group foundGroup = groupService.findGroupById(1L);
+        GroupSnapshot foundGroup = groupService.findGroupById(1L);
 
         assertNotNull(foundGroup);
-        assertEquals(group.getId(), foundGroup.getId());
-        verify(cacheConfig).putGroup(1L, group);
+        assertEquals(GroupSnapshot.from(group), foundGroup);
     }
 
     @Test
     void findGroupById_GroupNotFound_ThrowsException() {
-        when(cacheConfig.getGroup(1L)).thenReturn(null);
-        when(groupRepository.findById(1L)).thenReturn(Optional.empty());
+        loadGroupsThroughCache();
+        when(groupRepository.findRowById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             groupService.findGroupById(1L);
@@ -78,45 +92,48 @@ class GroupServiceImplTest {
 
     @Test
     void findGroupById_GroupInCache_ReturnsGroupFromCache() {
-        when(cacheConfig.getGroup(1L)).thenReturn(group);
+        when(cacheConfig.getGroup(eq(1L), any())).thenReturn(GroupSnapshot.from(group));
 
-        Group foundGroup = groupService.findGroupById(1L);
+        GroupSnapshot foundGroup = groupService.findGroupById(1L);
 
         assertNotNull(foundGroup);
-        assertEquals(group.getId(), foundGroup.getId());
-        verify(groupRepository, never()).findById(1L);
+        assertEquals(group.getId(), foundGroup.id());
+        verify(groupRepository, never()).findRowById(1L);
     }
 
     @Test
     void findAllGroups_ReturnsAllGroups() {
-        List<Group> groups = Arrays.asList(group, group2);
-        when(groupRepository.findAll()).thenReturn(groups);
+        loadGroupListsThroughCache();
+        List<GroupRepository.GroupRow> rows = Arrays.asList(row(group), row(group2));
+        when(groupRepository.findAllRows()).thenReturn(rows);
 
-        List<Group> foundGroups = groupService.findAllGroups();
+        List<GroupSnapshot> foundGroups = groupService.findAllGroups();
 
         assertNotNull(foundGroups);
         assertEquals(2, foundGroups.size());
-        assertEquals(groups, foundGroups);
+        assertEquals(List.of(GroupSnapshot.from(group), GroupSnapshot.from(group2)), foundGroups);
     }
 
     @Test
     void findAllGroupsByDanceStyle_ReturnsFilteredGroups() {
+        loadGroupListsThroughCache();
         String danceStyle = "Ballet";
-        List<Group> groups = Arrays.asList(group);
-        when(groupRepository.findAllByDanceStyle(danceStyle)).thenReturn(groups);
-        List<Group> foundGroups = groupService.findAllGroupsByDanceStyle(danceStyle);
+        List<GroupRepository.GroupRow> rows = Arrays.asList(row(group));
+        when(groupRepository.findRowsByDanceStyle(danceStyle)).thenReturn(rows);
+        List<GroupSnapshot> foundGroups = groupService.findAllGroupsByDanceStyle(danceStyle);
 
         assertNotNull(foundGroups);
         assertEquals(1, foundGroups.size());
-        assertEquals(groups, foundGroups);
+        assertEquals(List.of(GroupSnapshot.from(group)), foundGroups);
     }
 
     @Test
     void findAllGroupsByDanceStyle_NoGroupsFound_ReturnsEmptyList() {
+        loadGroupListsThroughCache();
         String danceStyle = "Hip Hop";
-        when(groupRepository.findAllByDanceStyle(danceStyle)).thenReturn(Arrays.asList());
+        when(groupRepository.findRowsByDanceStyle(danceStyle)).thenReturn(Arrays.asList());
 
-        List<Group> foundGroups = groupService.findAllGroupsByDanceStyle(danceStyle);
+        List<GroupSnapshot> foundGroups = groupService.findAllGroupsByDanceStyle(danceStyle);
 
         assertNotNull(foundGroups);
         assertTrue(foundGroups.isEmpty());
@@ -133,12 +150,12 @@ class GroupServiceImplTest {
 
         assertNotNull(createdGroup);
         assertEquals(group.getId(), createdGroup.getId());
-        verify(cacheConfig).putGroup(group.getId(), createdGroup);
+        verify(cacheConfig).putGroup(group.getId(), GroupSnapshot.from(createdGroup));
     }
 
     @Test
     void createGroup_TrainerNotFound_ThrowsException() {
-        group.setTrainer(new Trainer(2L, "Trainer Name", null, null, null));
+        group.setTrainer(new Trainer(2L, "Ballet", null, new User(3L, "Trainer Name", null, null, null)));
         group.setStudents(new ArrayList<>());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -150,7 +167,7 @@ class GroupServiceImplTest {
 
     @Test
     void createGroup_StudentNotFound_ThrowsException() {
-        group.setStudents(Collections.singletonList(new Student(2L, "Invalid Student", null, null)));
+        group.setStudents(Collections.singletonList(new Student(2L, null, null)));
 
         when(trainerRepository.findById(1L)).thenReturn(Optional.of(trainer));
         when(studentRepository.existsById(2L)).thenReturn(false);
@@ -189,6 +206,7 @@ class GroupServiceImplTest {
     @Test
     void updateGroup_ValidGroup_UpdatesGroup() {
         when(groupRepository.findById(group.getId())).thenReturn(Optional.of(group));
+        when(cacheConfig.getGroup(eq(group.getId()), any())).thenReturn(GroupSnapshot.from(group));
         when(studentRepository.existsById(student.getId())).thenReturn(true);
         when(groupRepository.findByTrainerAndDifficulty(trainer, "Beginner")).thenReturn(Optional.empty());
         when(groupRepository.save(group)).thenReturn(group);
@@ -197,7 +215,7 @@ class GroupServiceImplTest {
 
         assertNotNull(updatedGroup);
         assertEquals(group.getId(), updatedGroup.getId());
-        verify(cacheConfig).putGroup(group.getId(), updatedGroup);
+        verify(cacheConfig).removeGroup(group.getId());
     }
 
     @Test
@@ -256,7 +274,7 @@ class GroupServiceImplTest {
         groupService.deleteGroup(1L);
 
         verify(groupRepository).delete(group);
-        verify(cacheConfig).removeGroup(1L);
+        verify(cacheConfig).deleteGroup(GroupSnapshot.from(group));
     }
 
     @Test
@@ -269,4 +287,26 @@ class GroupServiceImplTest {
 
         assertEquals("Group not found. ID: 1", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    private void loadGroupsThroughCache() {
+        when(cacheConfig.getGroup(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, GroupSnapshot>>getArgument(1).apply(invocation.getArgument(0)));
+    }
+
+    private void loadGroupListsThroughCache() {
+        when(cacheConfig.getGroupList(any(), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<List<GroupSnapshot>>>getArgument(2).get());
+    }
+
+    private static GroupRepository.GroupRow row(Group group) {
+        GroupRepository.GroupRow row = mock(GroupRepository.GroupRow.class);
+        when(row.getId()).thenReturn(group.getId());
+        when(row.getDifficulty()).thenReturn(group.getDifficulty());
+        when(row.getTrainerId()).thenReturn(group.getTrainer().getId());
+        when(row.getStudentIds()).thenReturn(group.getStudents().stream()
+                .map(student -> student.getId().toString())
+                .reduce((a, b) -> a + "," + b)
+                .orElse(null));
+        return row;
+    }
+}
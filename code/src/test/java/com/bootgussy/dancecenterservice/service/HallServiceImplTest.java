@@ -4,16 +4,29 @@ import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.KeysetPage;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.HallRepository;
 import com.bootgussy.dancecenterservice.core.service.impl.HallServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +40,9 @@ class HallServiceImplTest {
     @Mock
     private CacheConfig cacheConfig;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Hall hall;
 
     @BeforeEach
@@ -37,19 +53,21 @@ class HallServiceImplTest {
 
     @Test
     void findHallById_ExistingHall_ReturnsHall() {
-        when(cacheConfig.getHall(hall.getId())).thenReturn(null);
+        when(cacheConfig.getHall(eq(hall.getId()), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, HallSnapshot>>getArgument(1).apply(hall.getId()));
         when(hallRepository.findById(hall.getId())).thenReturn(Optional.of(hall));
 
-        Hall foundHall = hallService.findHallById(hall.getId());
+        HallSnapshot foundHall = hallService.findHallById(hall.getId());
 
         assertNotNull(foundHall);
-        assertEquals(hall.getId(), foundHall.getId());
-        verify(cacheConfig).putHall(hall.getId(), hall);
+        assertEquals(hall.getId(), foundHall.id());
+        assertEquals(HallSnapshot.from(hall), foundHall);
     }
 
     @Test
     void findHallById_NonExistingHall_ThrowsException() {
-        when(cacheConfig.getHall(hall.getId())).thenReturn(null);
+        when(cacheConfig.getHall(eq(hall.getId()), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, HallSnapshot>>getArgument(1).apply(hall.getId()));
         when(hallRepository.findById(hall.getId())).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
@@ -60,15 +78,45 @@ class HallServiceImplTest {
         assertEquals("Hall not found. ID: 1", exception.getMessage());
     }
 
+    @Test
+    void findHallsByIds_ReturnsHallsInRequestOrder() {
+        Hall otherHall = new Hall(2L, "Small Hall", 50, null);
+        when(cacheConfig.getHalls(eq(List.of(2L, 3L, 1L)), any())).thenAnswer(invocation ->
+                invocation.<Function<Set<Long>, Map<Long, HallSnapshot>>>getArgument(1).apply(Set.of(1L, 2L, 3L)));
+        when(hallRepository.findAllWithScheduleItemsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(List.of(hall, otherHall));
+
+        List<HallSnapshot> halls = hallService.findHallsByIds(List.of(2L, 3L, 1L));
+
+        assertEquals(List.of(HallSnapshot.from(otherHall), HallSnapshot.from(hall)), halls);
+    }
+
+    @Test
+    void findHallsPage_MoreRows_ReturnsPageWithCursor() {
+        Hall otherHall = new Hall(2L, "Small Hall", 50, null);
+        when(hallRepository.findIdsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(cacheConfig.getHalls(eq(List.of(1L)), any())).thenReturn(Map.of(1L, HallSnapshot.from(hall)));
+        when(cacheConfig.getHalls(eq(List.of(2L)), any())).thenReturn(Map.of(2L, HallSnapshot.from(otherHall)));
+        when(hallRepository.findIdsAfter(eq(1L), any(Limit.class))).thenReturn(List.of(2L));
+
+        KeysetPage<HallSnapshot> firstPage = hallService.findHallsPage(1, null);
+        KeysetPage<HallSnapshot> lastPage = hallService.findHallsPage(1, firstPage.nextCursor());
+
+        assertEquals(List.of(HallSnapshot.from(hall)), firstPage.items());
+        assertEquals(List.of(HallSnapshot.from(otherHall)), lastPage.items());
+        assertNull(lastPage.nextCursor());
+    }
+
     @Test
     void findAllHalls_ReturnsAllHalls() {
+        when(cacheConfig.getHallList(eq("findAllHalls"), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<List<HallSnapshot>>>getArgument(2).get());
         when(hallRepository.findAll()).thenReturn(Collections.singletonList(hall));
 
         var halls = hallService.findAllHalls();
 
         assertNotNull(halls);
         assertEquals(1, halls.size());
-        assertEquals(hall, halls.get(0));
+        assertEquals(HallSnapshot.from(hall), halls.get(0));
     }
 
     @Test
@@ -80,7 +128,7 @@ class HallServiceImplTest {
 
         assertNotNull(createdHall);
         assertEquals(hall.getId(), createdHall.getId());
-        verify(cacheConfig).putHall(hall.getId(), createdHall);
+        verify(cacheConfig).putHall(hall.getId(), HallSnapshot.from(createdHall));
     }
 
     @Test
@@ -126,7 +174,7 @@ class HallServiceImplTest {
 
         assertNotNull(updatedHall);
         assertEquals(hall.getId(), updatedHall.getId());
-        verify(cacheConfig).putHall(hall.getId(), updatedHall);
+        verify(cacheConfig).removeHall(hall.getId());
     }
 
     @Test
@@ -160,7 +208,20 @@ class HallServiceImplTest {
         hallService.deleteHall(hall.getId());
 
         verify(hallRepository).delete(hall);
-        verify(cacheConfig).removeHall(hall.getId());
+        verify(cacheConfig).deleteHall(HallSnapshot.from(hall));
+    }
+
+    @Test
+    void deleteHall_ValidId_PublishesChange() {
+        when(hallRepository.findById(hall.getId())).thenReturn(Optional.of(hall));
+        ArgumentCaptor<ScheduleChange> change = ArgumentCaptor.forClass(ScheduleChange.class);
+
+        hallService.deleteHall(hall.getId());
+
+        verify(eventPublisher).publishEvent(change.capture());
+        assertEquals(ScheduleChange.Type.HALL, change.getValue().type());
+        assertEquals(ScheduleChange.Action.DELETED, change.getValue().action());
+        assertEquals(Set.of(hall.getId()), change.getValue().hallIds());
     }
 
     @Test
@@ -0,0 +1,61 @@
+package com.bootgussy.dancecenterservice.service;
+
+import com.bootgussy.dancecenterservice.core.config.ReconciliationProperties;
+import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
+import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.service.impl.ProfileReconciliationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfileReconciliationJobTest {
+    private StudentRepository studentRepository;
+
+    private TrainerRepository trainerRepository;
+
+    private PlatformTransactionManager transactionManager;
+
+    private ProfileReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        trainerRepository = mock(TrainerRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        ReconciliationProperties properties = new ReconciliationProperties();
+        properties.setChunkSize(2);
+        job = new ProfileReconciliationJob(properties, studentRepository, trainerRepository, transactionManager);
+    }
+
+    @Test
+    void reconcile_InsertsMissingProfilesChunkByChunk() {
+        when(studentRepository.insertMissingForRole("STUDENT", 2)).thenReturn(2, 2, 1);
+        when(trainerRepository.insertMissingForRole("TRAINER", "Not specified", 2)).thenReturn(0);
+        when(studentRepository.countWithoutRole("STUDENT")).thenReturn(3L);
+
+        job.reconcile();
+
+        verify(studentRepository, times(3)).insertMissingForRole("STUDENT", 2);
+        verify(transactionManager, times(4)).commit(null);
+        assertEquals(5, job.getStats().getStudentsCreated());
+        assertEquals(0, job.getStats().getTrainersCreated());
+        assertEquals(3, job.getStats().getStudentsWithoutRole());
+        assertEquals(1, job.getStats().getRuns());
+    }
+
+    @Test
+    void reconcile_DatabaseError_RecordsFailure() {
+        when(studentRepository.insertMissingForRole("STUDENT", 2)).thenThrow(new QueryTimeoutException("timeout"));
+
+        job.reconcile();
+
+        assertEquals(1, job.getStats().getFailures());
+        assertEquals(1, job.getStats().getRuns());
+    }
+}
@@ -4,26 +4,47 @@ import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.IncorrectDataException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.FreeSlot;
 import com.bootgussy.dancecenterservice.core.model.Group;
 import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.HallTimetable;
 import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
+import com.bootgussy.dancecenterservice.core.model.SessionOccurrence;
+import com.bootgussy.dancecenterservice.core.model.snapshot.GroupSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.HallSnapshot;
+import com.bootgussy.dancecenterservice.core.model.snapshot.ScheduleItemSnapshot;
 import com.bootgussy.dancecenterservice.core.repository.ScheduleItemRepository;
+import com.bootgussy.dancecenterservice.core.schedule.HallSchedule;
+import com.bootgussy.dancecenterservice.core.schedule.OccupancyIndex;
+import com.bootgussy.dancecenterservice.core.schedule.ScheduleIndex;
+import com.bootgussy.dancecenterservice.core.schedule.TimetableReadModel;
+import com.bootgussy.dancecenterservice.core.service.GroupService;
+import com.bootgussy.dancecenterservice.core.service.HallService;
 import com.bootgussy.dancecenterservice.core.service.impl.ScheduleItemServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +58,26 @@ class ScheduleItemServiceImplTest {
     @Mock
     private CacheConfig cacheConfig;
 
+    @Mock
+    private ScheduleIndex scheduleIndex;
+
+    @Mock
+    private HallService hallService;
+
+    @Mock
+    private OccupancyIndex occupancyIndex;
+
+    @Mock
+    private GroupService groupService;
+
+    @Mock
+    private TimetableReadModel timetableReadModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HallSchedule hallSchedule;
+
     private ScheduleItem scheduleItem;
 
     private Hall hall;
@@ -48,26 +89,35 @@ class ScheduleItemServiceImplTest {
         MockitoAnnotations.openMocks(this);
         hall = new Hall(1L, "Main Hall", 200, null);
         group = new Group(1L, "Beg", null, null, null);
-        scheduleItem = new ScheduleItem(1L, hall, group, "Monday",
+        scheduleItem = new ScheduleItem(1L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 0), LocalTime.of(11, 0));
+        hallSchedule = new HallSchedule();
+        when(scheduleIndex.schedule(any(), any())).thenReturn(hallSchedule);
+        when(scheduleIndex.schedules(any())).thenReturn(Map.of(new ScheduleIndex.Key(1L, DayOfWeek.MONDAY), hallSchedule));
+        GroupSnapshot groupSnapshot = new GroupSnapshot(1L, "Beg", 7L, List.of(5L), List.of());
+        when(groupService.findGroupById(1L)).thenReturn(groupSnapshot);
+        when(groupService.findGroupsByIds(List.of(1L))).thenReturn(List.of(groupSnapshot));
     }
 
     @Test
     void findScheduleItemById_ExistingItem_ReturnsItem() {
-        when(cacheConfig.getScheduleItem(scheduleItem.getId())).thenReturn(null);
-        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.of(scheduleItem));
+        when(cacheConfig.getScheduleItem(eq(scheduleItem.getId()), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, ScheduleItemSnapshot>>getArgument(1).apply(scheduleItem.getId()));
+        when(scheduleItemRepository.findSnapshotById(scheduleItem.getId()))
+                .thenReturn(Optional.of(ScheduleItemSnapshot.from(scheduleItem)));
 
-        ScheduleItem foundItem = scheduleItemService.findScheduleItemById(scheduleItem.getId());
+        ScheduleItemSnapshot foundItem = scheduleItemService.findScheduleItemById(scheduleItem.getId());
 
         assertNotNull(foundItem);
-        assertEquals(scheduleItem.getId(), foundItem.getId());
-        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), scheduleItem);
+        assertEquals(scheduleItem.getId(), foundItem.id());
+        assertEquals(ScheduleItemSnapshot.from(scheduleItem), foundItem);
     }
 
     @Test
     void findScheduleItemById_NonExistingItem_ThrowsException() {
-        when(cacheConfig.getScheduleItem(scheduleItem.getId())).thenReturn(null);
-        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.empty());
+        when(cacheConfig.getScheduleItem(eq(scheduleItem.getId()), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, ScheduleItemSnapshot>>getArgument(1).apply(scheduleItem.getId()));
+        when(scheduleItemRepository.findSnapshotById(scheduleItem.getId())).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -79,45 +129,120 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void findAllScheduleItems_ReturnsAllItems() {
-        when(scheduleItemRepository.findAll()).thenReturn(Collections.singletonList(scheduleItem));
+        when(cacheConfig.getScheduleItemList(eq("findAllScheduleItems"), any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<List<ScheduleItemSnapshot>>>getArgument(2).get());
+        when(scheduleItemRepository.findAllSnapshots())
+                .thenReturn(Collections.singletonList(ScheduleItemSnapshot.from(scheduleItem)));
 
-        List<ScheduleItem> items = scheduleItemService.findAllScheduleItems();
+        List<ScheduleItemSnapshot> items = scheduleItemService.findAllScheduleItems();
 
         assertNotNull(items);
         assertEquals(1, items.size());
-        assertEquals(scheduleItem, items.get(0));
+        assertEquals(ScheduleItemSnapshot.from(scheduleItem), items.get(0));
+    }
+
+    @Test
+    void findFreeSlots_ReturnsGapsForRequestedHallsAndDays() {
+        hallSchedule.add(scheduleItem);
+        when(hallService.findHallsByIds(List.of(1L)))
+                .thenReturn(List.of(new HallSnapshot(1L, "Main Hall", 200, List.of())));
+        when(scheduleIndex.schedulesFor(List.of(new ScheduleIndex.Key(1L, DayOfWeek.MONDAY))))
+                .thenReturn(Map.of(new ScheduleIndex.Key(1L, DayOfWeek.MONDAY), hallSchedule));
+
+        List<FreeSlot> freeSlots = scheduleItemService.findFreeSlots(45, LocalTime.of(9, 0), LocalTime.of(12, 0),
+                List.of(DayOfWeek.MONDAY), List.of(1L));
+
+        assertEquals(List.of(
+                new FreeSlot(1L, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0)),
+                new FreeSlot(1L, DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(12, 0))
+        ), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_NoEnd_RunsToEndOfDay() {
+        hallSchedule.add(scheduleItem);
+        when(hallService.findHallsByIds(List.of(1L)))
+                .thenReturn(List.of(new HallSnapshot(1L, "Main Hall", 200, List.of())));
+        when(scheduleIndex.schedulesFor(List.of(new ScheduleIndex.Key(1L, DayOfWeek.MONDAY))))
+                .thenReturn(Map.of(new ScheduleIndex.Key(1L, DayOfWeek.MONDAY), hallSchedule));
+
+        List<FreeSlot> freeSlots = scheduleItemService.findFreeSlots(60, LocalTime.of(11, 0), null,
+                List.of(DayOfWeek.MONDAY), List.of(1L));
+
+        assertEquals(List.of(new FreeSlot(1L, DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.MAX)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_EmptyWindow_ThrowsException() {
+        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () -> {
+            scheduleItemService.findFreeSlots(30, LocalTime.of(12, 0), LocalTime.of(9, 0), null, null);
+        });
+
+        assertEquals("Duration must be positive and the time window must not be empty.", exception.getMessage());
     }
 
     @Test
     void createScheduleItem_ValidItem_CreatesItem() {
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(), scheduleItem.getGroup(), scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(), scheduleItem.getEndTime())).thenReturn(Collections.emptyList());
         when(scheduleItemRepository.save(scheduleItem)).thenReturn(scheduleItem);
 
         ScheduleItem createdItem = scheduleItemService.createScheduleItem(scheduleItem);
 
         assertNotNull(createdItem);
         assertEquals(scheduleItem.getId(), createdItem.getId());
-        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), createdItem);
+        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), ScheduleItemSnapshot.from(createdItem));
+        verify(timetableReadModel).put(eq(createdItem), any());
     }
 
     @Test
-    void createScheduleItem_InvalidDayOfWeek_ThrowsException() {
-        scheduleItem.setDayOfWeek("Invalid Day");
+    void findHallTimetables_ReadsRequestedHallsFromReadModel() {
+        List<HallSnapshot> halls = List.of(HallSnapshot.from(hall));
+        List<HallTimetable> timetables = List.of(new HallTimetable(1L, "Main Hall", List.of()));
+        when(hallService.findHallsByIds(List.of(1L))).thenReturn(halls);
+        when(timetableReadModel.timetables(halls)).thenReturn(timetables);
 
-        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () -> {
-            scheduleItemService.createScheduleItem(scheduleItem);
-        });
+        assertEquals(timetables, scheduleItemService.findHallTimetables(List.of(1L)));
+    }
+
+    @Test
+    void expandOccurrences_GeneratesEachWeekdayInRange() {
+        ScheduleItem wednesdayItem = new ScheduleItem(2L, hall, group, DayOfWeek.WEDNESDAY,
+                LocalTime.of(18, 0), LocalTime.of(19, 30));
+        when(scheduleItemRepository.findAllWithGroupMatching(1L, null, null, null))
+                .thenReturn(List.of(scheduleItem, wednesdayItem));
 
-        assertEquals("Day of week is incorrect. Example: Monday", exception.getMessage());
+        List<SessionOccurrence> occurrences = scheduleItemService.expandOccurrences(
+                LocalDate.of(2025, 9, 3), LocalDate.of(2025, 9, 15), 1L, null, null, null).toList();
+
+        assertEquals(List.of(LocalDate.of(2025, 9, 3), LocalDate.of(2025, 9, 8),
+                        LocalDate.of(2025, 9, 10), LocalDate.of(2025, 9, 15)),
+                occurrences.stream().map(SessionOccurrence::date).toList());
+        assertEquals(new SessionOccurrence(2L, 1L, 1L, null, LocalDate.of(2025, 9, 3),
+                LocalTime.of(18, 0), LocalTime.of(19, 30)), occurrences.get(0));
+    }
+
+    @Test
+    void expandOccurrences_RangeTooLong_ThrowsException() {
+        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () ->
+                scheduleItemService.expandOccurrences(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2),
+                        null, null, null, null));
+
+        assertEquals("Date range must not exceed 366 days. From: 2025-01-01, To: 2026-01-02",
+                exception.getMessage());
+    }
+
+    @Test
+    void expandOccurrences_EndBeforeStart_ThrowsException() {
+        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () ->
+                scheduleItemService.expandOccurrences(LocalDate.of(2025, 9, 15), LocalDate.of(2025, 9, 1),
+                        null, null, null, null));
+
+        assertEquals("Incorrect date range. From: 2025-09-15, To: 2025-09-01", exception.getMessage());
     }
 
     @Test
     void createScheduleItem_ItemAlreadyExists_ThrowsException() {
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(), scheduleItem.getGroup(), scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(), scheduleItem.getEndTime())).thenReturn(List.of(scheduleItem));
+        hallSchedule.add(new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
+                LocalTime.of(10, 0), LocalTime.of(11, 0)));
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.createScheduleItem(scheduleItem);
@@ -172,13 +297,9 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void createScheduleItem_OverlappingTime_ThrowsException() {
-        ScheduleItem conflictingItem = new ScheduleItem(2L, hall, group, "Monday",
+        ScheduleItem conflictingItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 30), LocalTime.of(11, 30));
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(), scheduleItem.getGroup(), scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(), scheduleItem.getEndTime())).thenReturn(Collections.emptyList());
-        when(scheduleItemRepository.findByDayOfWeekAndHall(scheduleItem.getDayOfWeek(), scheduleItem.getHall()))
-                .thenReturn(List.of(conflictingItem)); // Существующий элемент с наложением
+        hallSchedule.add(conflictingItem);
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.createScheduleItem(scheduleItem);
@@ -189,11 +310,9 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void createScheduleItem_DuplicateTimeInBusyHall_ThrowsException() {
-        ScheduleItem busyItem = new ScheduleItem(2L, hall, group, "Monday",
+        ScheduleItem busyItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 0), LocalTime.of(11, 0));
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                hall, group, "Monday", LocalTime.of(10, 0), LocalTime.of(11, 0)))
-                .thenReturn(List.of(busyItem)); // Зал уже занят в это время
+        hallSchedule.add(busyItem);
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.createScheduleItem(scheduleItem);
@@ -225,9 +344,6 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void createScheduleItem_ValidTimeRange_Success() {
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(), scheduleItem.getGroup(), scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(), scheduleItem.getEndTime())).thenReturn(Collections.emptyList());
         when(scheduleItemRepository.save(scheduleItem)).thenReturn(scheduleItem);
 
         ScheduleItem createdItem = scheduleItemService.createScheduleItem(scheduleItem);
@@ -239,32 +355,67 @@ class ScheduleItemServiceImplTest {
     @Test
     void createMultipleScheduleItems_ValidItems_CreatesItems() {
         List<ScheduleItem> items = List.of(scheduleItem);
-        when(scheduleItemRepository.saveAll(items)).thenReturn(items);
+        when(scheduleItemRepository.insertAll(items)).thenReturn(items);
 
         List<ScheduleItem> createdItems = scheduleItemService.createMultipleScheduleItems(items);
 
         assertNotNull(createdItems);
         assertEquals(1, createdItems.size());
         assertEquals(scheduleItem, createdItems.get(0));
-        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), createdItems.get(0));
+        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), ScheduleItemSnapshot.from(createdItems.get(0)));
     }
 
     @Test
-    void createMultipleScheduleItems_InvalidDayOfWeek_ThrowsException() {
-        ScheduleItem invalidItem = new ScheduleItem(2L, hall, group, "Invalid Day",
-                LocalTime.of(10, 0), LocalTime.of(11, 0));
-        List<ScheduleItem> items = List.of(scheduleItem, invalidItem);
+    void createMultipleScheduleItems_RolledBack_DropsClaimsAndSkipsCaches() {
+        List<ScheduleItem> items = List.of(scheduleItem);
+        when(scheduleItemRepository.insertAll(items)).thenReturn(items);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduleItemService.createMultipleScheduleItems(items);
 
-        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () -> {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(scheduleIndex).forget(items);
+        verify(scheduleIndex, never()).settleAll(any());
+        verify(occupancyIndex).abandon(argThat(claim -> claim.to().equals(OccupancyIndex.Members.of(7L, List.of(5L)))));
+        verify(occupancyIndex, never()).settle(any());
+        verify(timetableReadModel, never()).putAll(any(), any());
+        verify(cacheConfig, never()).putScheduleItem(any(), any());
+    }
+
+    @Test
+    void createScheduleItem_TrainerBusy_ThrowsException() {
+        when(occupancyIndex.claim(any())).thenReturn(new OccupancyIndex.Person(OccupancyIndex.TRAINER, 7L));
+
+        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
+            scheduleItemService.createScheduleItem(scheduleItem);
+        });
+
+        assertEquals("This time is busy for the trainer. Trainer ID: 7, Group ID: 1, Day of week: Monday, Start time: 10:00, End time: 11:00", exception.getMessage());
+        verify(scheduleItemRepository, never()).save(any());
+    }
+
+    @Test
+    void createMultipleScheduleItems_StudentBusy_ThrowsException() {
+        when(occupancyIndex.claim(any())).thenReturn(new OccupancyIndex.Person(OccupancyIndex.STUDENT, 5L));
+        List<ScheduleItem> items = List.of(scheduleItem);
+
+        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.createMultipleScheduleItems(items);
         });
 
-        assertEquals("Day of week is incorrect. Example: Monday", exception.getMessage());
+        assertEquals("This time is busy for the student. Student ID: 5, Group ID: 1, Day of week: Monday, Start time: 10:00, End time: 11:00", exception.getMessage());
+        verify(scheduleItemRepository, never()).insertAll(any());
     }
 
     @Test
     void createMultipleScheduleItems_NullEndTime_ThrowsException() {
-        ScheduleItem invalidItem = new ScheduleItem(2L, hall, group, "Monday",
+        ScheduleItem invalidItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 0), null);
         List<ScheduleItem> items = List.of(scheduleItem, invalidItem);
 
@@ -277,19 +428,15 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void createMultipleScheduleItems_ValidItemsWithOverlap_ThrowsException() {
-        ScheduleItem overlappingItem = new ScheduleItem(2L, hall, group, "Monday",
+        ScheduleItem overlappingItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 30), LocalTime.of(11, 30));
         List<ScheduleItem> items = List.of(scheduleItem, overlappingItem);
 
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                hall, group, "Monday", LocalTime.of(10, 30), LocalTime.of(11, 30)))
-                .thenReturn(List.of(overlappingItem)); // Перекрытие времени
-
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.createMultipleScheduleItems(items);
         });
 
-        assertEquals("Schedule item already exists. Group: 1, Hall: 1, Day of week: Monday, Start time: 10:30, End time: 11:30", exception.getMessage());
+        assertEquals("This time in this hall is busy. Group ID: 1, Start time: 10:30, End time: 11:30", exception.getMessage());
     }
 
     @Test
@@ -301,39 +448,40 @@ class ScheduleItemServiceImplTest {
 
         assertNotNull(updatedItem);
         assertEquals(scheduleItem.getId(), updatedItem.getId());
-        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), updatedItem);
+        verify(cacheConfig).putScheduleItem(scheduleItem.getId(), ScheduleItemSnapshot.from(updatedItem));
     }
 
     @Test
-    void updateScheduleItem_ItemNotFound_ThrowsException() {
-        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.empty());
+    void updateScheduleItem_UnchangedTime_IgnoresItself() {
+        hallSchedule.add(scheduleItem);
+        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.of(scheduleItem));
+        when(scheduleItemRepository.save(scheduleItem)).thenReturn(scheduleItem);
 
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
-            scheduleItemService.updateScheduleItem(scheduleItem);
-        });
+        ScheduleItem updatedItem = scheduleItemService.updateScheduleItem(scheduleItem);
 
-        assertEquals("The schedule item does not exist. ID: 1, Group: 1, Hall: 1, Day of week: Monday, Start time: 10:00, End time: 11:00", exception.getMessage());
+        assertEquals(scheduleItem.getId(), updatedItem.getId());
+        verify(scheduleIndex, never()).remove(hall.getId(), DayOfWeek.MONDAY, scheduleItem.getId());
+        verify(scheduleIndex).claim(updatedItem);
+        verify(scheduleIndex).settle(updatedItem);
     }
 
     @Test
-    void updateScheduleItem_InvalidDayOfWeek_ThrowsException() {
-        scheduleItem.setDayOfWeek("Invalid Day");
-        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.of(scheduleItem));
+    void updateScheduleItem_ItemNotFound_ThrowsException() {
+        when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.empty());
 
-        IncorrectDataException exception = assertThrows(IncorrectDataException.class, () -> {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             scheduleItemService.updateScheduleItem(scheduleItem);
         });
 
-        assertEquals("Day of week is incorrect. Example: Monday", exception.getMessage());
+        assertEquals("The schedule item does not exist. ID: 1, Group: 1, Hall: 1, Day of week: Monday, Start time: 10:00, End time: 11:00", exception.getMessage());
     }
 
     @Test
     void updateScheduleItem_TimeBusy_ThrowsException() {
-        ScheduleItem existingItem = new ScheduleItem(2L, hall, group, "Monday",
+        ScheduleItem existingItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY,
                 LocalTime.of(10, 30), LocalTime.of(11, 30));
         when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.of(scheduleItem));
-        when(scheduleItemRepository.findByDayOfWeekAndHall(scheduleItem.getDayOfWeek(), scheduleItem.getHall()))
-                .thenReturn(List.of(existingItem));
+        hallSchedule.add(existingItem);
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             scheduleItemService.updateScheduleItem(scheduleItem);
@@ -382,7 +530,7 @@ class ScheduleItemServiceImplTest {
         scheduleItemService.deleteScheduleItem(scheduleItem.getId());
 
         verify(scheduleItemRepository).delete(scheduleItem);
-        verify(cacheConfig).removeScheduleItem(scheduleItem.getId());
+        verify(cacheConfig).deleteScheduleItem(ScheduleItemSnapshot.from(scheduleItem));
     }
 
     @Test
@@ -397,39 +545,17 @@ class ScheduleItemServiceImplTest {
         assertEquals("Schedule item not found. ID: 1", exception.getMessage());
     }
 
-    @Test
-    void isValidDayOfWeek_ValidDays_ReturnsTrue() {
-        assertTrue(scheduleItemService.isValidDayOfWeek("Monday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Tuesday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Wednesday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Thursday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Friday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Saturday"));
-        assertTrue(scheduleItemService.isValidDayOfWeek("Sunday"));
-    }
-
-    @Test
-    void isValidDayOfWeek_InvalidDays_ReturnsFalse() {
-        assertFalse(scheduleItemService.isValidDayOfWeek("Funday"));
-        assertFalse(scheduleItemService.isValidDayOfWeek("Holiday"));
-        assertFalse(scheduleItemService.isValidDayOfWeek(null));
-        assertFalse(scheduleItemService.isValidDayOfWeek(""));
-    }
-
     @Test
     void deleteScheduleItem_ValidId_CachesRemoval() {
         when(scheduleItemRepository.findById(scheduleItem.getId())).thenReturn(Optional.of(scheduleItem));
 
         scheduleItemService.deleteScheduleItem(scheduleItem.getId());
 
-        verify(cacheConfig).removeScheduleItem(scheduleItem.getId());
+        verify(cacheConfig).deleteScheduleItem(ScheduleItemSnapshot.from(scheduleItem));
     }
 
     @Test
     void createScheduleItem_SuccessWithValidData() {
-        when(scheduleItemRepository.findByHallAndGroupAndDayOfWeekAndStartTimeAndEndTime(
-                scheduleItem.getHall(), scheduleItem.getGroup(), scheduleItem.getDayOfWeek(),
-                scheduleItem.getStartTime(), scheduleItem.getEndTime())).thenReturn(Collections.emptyList());
         when(scheduleItemRepository.save(scheduleItem)).thenReturn(scheduleItem);
 
         ScheduleItem createdItem = scheduleItemService.createScheduleItem(scheduleItem);
@@ -452,7 +578,7 @@ class ScheduleItemServiceImplTest {
     @Test
     void createMultipleScheduleItems_ValidData_Success() {
         List<ScheduleItem> items = List.of(scheduleItem);
-        when(scheduleItemRepository.saveAll(items)).thenReturn(items);
+        when(scheduleItemRepository.insertAll(items)).thenReturn(items);
 
         List<ScheduleItem> createdItems = scheduleItemService.createMultipleScheduleItems(items);
 
@@ -474,7 +600,7 @@ class ScheduleItemServiceImplTest {
 
     @Test
     void createMultipleScheduleItems_SomeNullFields_ThrowsException() {
-        ScheduleItem invalidItem = new ScheduleItem(2L, hall, group, "Monday", LocalTime.of(10, 0), null);
+        ScheduleItem invalidItem = new ScheduleItem(2L, hall, group, DayOfWeek.MONDAY, LocalTime.of(10, 0), null);
         List<ScheduleItem> items = List.of(scheduleItem, invalidItem);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
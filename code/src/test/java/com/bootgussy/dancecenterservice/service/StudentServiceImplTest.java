@@ -3,59 +3,96 @@ package com.bootgussy.dancecenterservice.service;
 import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Role;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
 import com.bootgussy.dancecenterservice.core.model.Student;
+import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.StudentSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.RoleRepository;
 import com.bootgussy.dancecenterservice.core.repository.StudentRepository;
+import com.bootgussy.dancecenterservice.core.repository.UserRepository;
 import com.bootgussy.dancecenterservice.core.service.impl.StudentServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import java.util.Collections;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import static org.junit.jupiter.api.Assertions.*;
+import java.util.Set;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class StudentServiceImplTest {
-
     @InjectMocks
     private StudentServiceImpl studentService;
 
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @Mock
     private CacheConfig cacheConfig;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Role studentRole;
+
     private Student student;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        student = new Student(1L, "Olya", "1234", null);
+        studentRole = new Role(2L, "STUDENT", null);
+        User user = new User(3L, "Olya", "secret", "1234", new ArrayList<>(List.of(studentRole)));
+        student = new Student(1L, null, user);
     }
 
     @Test
     void findStudentById_ExistingStudent_ReturnsStudent() {
-        when(cacheConfig.getStudent(student.getId())).thenReturn(null);
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
+        StudentRepository.StudentRow row = row();
+        when(cacheConfig.getStudent(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, StudentSnapshot>>getArgument(1).apply(1L));
+        when(studentRepository.findRowById(1L)).thenReturn(Optional.of(row));
 
-        Student foundStudent = studentService.findStudentById(student.getId());
+        StudentSnapshot foundStudent = studentService.findStudentById(1L);
 
-        assertNotNull(foundStudent);
-        assertEquals(student.getId(), foundStudent.getId());
-        verify(cacheConfig).putStudent(student.getId(), student);
+        assertEquals(new StudentSnapshot(1L, 3L, "Olya", "1234", List.of(4L)), foundStudent);
     }
 
     @Test
     void findStudentById_NonExistingStudent_ThrowsException() {
-        when(cacheConfig.getStudent(student.getId())).thenReturn(null);
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.empty());
+        when(cacheConfig.getStudent(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, StudentSnapshot>>getArgument(1).apply(1L));
+        when(studentRepository.findRowById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> studentService.findStudentById(student.getId())
+                () -> studentService.findStudentById(1L)
         );
 
         assertEquals("Student not found. ID: 1", exception.getMessage());
@@ -63,119 +100,122 @@ class StudentServiceImplTest {
 
     @Test
     void findAllStudents_ReturnsAllStudents() {
-        when(studentRepository.findAll()).thenReturn(Collections.singletonList(student));
+        StudentRepository.StudentRow row = row();
+        when(studentRepository.findAllRowsByRole("STUDENT")).thenReturn(List.of(row));
 
-        var students = studentService.findAllStudents();
+        List<StudentSnapshot> students = studentService.findAllStudents();
 
-        assertNotNull(students);
         assertEquals(1, students.size());
-        assertEquals(student, students.get(0));
+        assertEquals(1L, students.get(0).id());
+        assertEquals("Olya", students.get(0).name());
     }
 
     @Test
     void createStudent_ValidStudent_CreatesStudent() {
-        when(studentRepository.findByNameAndPhoneNumber(student.getName(), student.getPhoneNumber()))
-                .thenReturn(Collections.emptyList());
+        when(userRepository.findByPhoneNumber("1234")).thenReturn(Optional.empty());
+        when(roleRepository.findByName("STUDENT")).thenReturn(Optional.of(studentRole));
+        when(passwordEncoder.encode("secret")).thenReturn("encoded");
+        when(studentRepository.findByUserId(any())).thenReturn(Optional.empty());
         when(studentRepository.save(student)).thenReturn(student);
 
         Student createdStudent = studentService.createStudent(student);
 
         assertNotNull(createdStudent);
-        assertEquals(student.getId(), createdStudent.getId());
-        verify(cacheConfig).putStudent(student.getId(), createdStudent);
+        assertEquals("encoded", createdStudent.getUser().getPassword());
+        assertEquals(List.of(studentRole), createdStudent.getUser().getRoles());
+        verify(cacheConfig).putStudent(1L, StudentSnapshot.from(createdStudent));
     }
 
     @Test
     void createStudent_StudentAlreadyExists_ThrowsException() {
-        when(studentRepository.findByNameAndPhoneNumber(student.getName(), student.getPhoneNumber()))
-                .thenReturn(Collections.singletonList(student));
+        when(userRepository.findByPhoneNumber("1234")).thenReturn(Optional.of(student.getUser()));
+        when(roleRepository.findByName("STUDENT")).thenReturn(Optional.of(studentRole));
+        when(studentRepository.findByUserId(3L)).thenReturn(Optional.of(student));
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             studentService.createStudent(student);
         });
 
-        assertEquals("Student already exists. Name: Olya, Phone number: 1234", exception.getMessage());
+        assertEquals("Student record already exists for this user.", exception.getMessage());
+        verify(studentRepository, never()).save(any());
     }
 
     @Test
-    void createStudent_NullName_ThrowsException() {
-        student.setName(null);
+    void createStudent_NullUser_ThrowsException() {
+        student.setUser(null);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             studentService.createStudent(student);
         });
 
-        assertEquals("Incorrect JSON. All fields must be filled (name, phoneNumber).", exception.getMessage());
-    }
-
-    @Test
-    void createStudent_NullPhoneNumber_ThrowsException() {
-        student.setPhoneNumber(null);
-
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
-            studentService.createStudent(student);
-        });
-
-        assertEquals("Incorrect JSON. All fields must be filled (name, phoneNumber).", exception.getMessage());
+        assertEquals("User data is missing in Student object", exception.getMessage());
     }
 
     @Test
     void updateStudent_ValidStudent_UpdatesStudent() {
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
-        when(studentRepository.findByNameAndPhoneNumber(student.getName(), student.getPhoneNumber()))
-                .thenReturn(Collections.emptyList());
+        Student changed = new Student(1L, null, new User(3L, "Olga", "new", "4321", null));
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(passwordEncoder.encode("new")).thenReturn("encoded");
         when(studentRepository.save(student)).thenReturn(student);
 
-        Student updatedStudent = studentService.updateStudent(student);
+        Student updatedStudent = studentService.updateStudent(changed);
 
-        assertNotNull(updatedStudent);
-        assertEquals(student.getId(), updatedStudent.getId());
-        verify(cacheConfig).putStudent(student.getId(), updatedStudent);
+        assertEquals("Olga", updatedStudent.getUser().getName());
+        assertEquals("4321", updatedStudent.getUser().getPhoneNumber());
+        assertEquals("encoded", updatedStudent.getUser().getPassword());
+        verify(cacheConfig).putStudent(1L, StudentSnapshot.from(updatedStudent));
     }
 
     @Test
     void updateStudent_StudentNotFound_ThrowsException() {
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.empty());
+        when(studentRepository.findById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             studentService.updateStudent(student);
         });
 
-        assertEquals("The student does not exist. ID: 1, Name: Olya, Phone number: 1234", exception.getMessage());
-    }
-
-    @Test
-    void updateStudent_StudentAlreadyExists_ThrowsException() {
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
-        when(studentRepository.findByNameAndPhoneNumber(student.getName(), student.getPhoneNumber()))
-                .thenReturn(Collections.singletonList(student));
-
-        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
-            studentService.updateStudent(student);
-        });
-
-        assertEquals("Student already exists. Name: Olya, Phone number: 1234", exception.getMessage());
+        assertEquals("Student not found. ID: 1", exception.getMessage());
     }
 
     @Test
-    void deleteStudent_ValidId_DeletesStudent() {
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.of(student));
+    void deleteStudent_ValidId_DeletesStudentAndReportsGroups() {
+        Trainer trainer = new Trainer(7L, "Electro", null, null);
+        Group group = new Group(4L, "Beg", trainer, new ArrayList<>(List.of(student)), null);
+        student.setGroups(List.of(group));
+        StudentSnapshot snapshot = StudentSnapshot.from(student);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(roleRepository.findByName("STUDENT")).thenReturn(Optional.of(studentRole));
 
-        studentService.deleteStudent(student.getId());
+        studentService.deleteStudent(1L);
 
         verify(studentRepository).delete(student);
-        verify(cacheConfig).removeStudent(student.getId());
+        verify(cacheConfig).deleteStudent(snapshot);
+        assertFalse(student.getUser().getRoles().contains(studentRole));
+        verify(eventPublisher).publishEvent(argThat((ScheduleChange change) ->
+                change.type() == ScheduleChange.Type.GROUP
+                        && change.id().equals(4L)
+                        && change.trainerIds().equals(Set.of(7L))
+                        && change.studentIds().equals(Set.of(1L))));
     }
 
     @Test
     void deleteStudent_NonExistingId_ThrowsException() {
-        when(studentRepository.findById(student.getId())).thenReturn(Optional.empty());
+        when(studentRepository.findById(1L)).thenReturn(Optional.empty());
 
-        ResourceNotFoundException exception = assertThrows(
-                ResourceNotFoundException.class,
-                () -> studentService.deleteStudent(student.getId())
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> studentService.deleteStudent(1L)
         );
 
         assertEquals("Student not found. ID: 1", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    private static StudentRepository.StudentRow row() {
+        StudentRepository.StudentRow row = mock(StudentRepository.StudentRow.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getUserId()).thenReturn(3L);
+        when(row.getName()).thenReturn("Olya");
+        when(row.getPhoneNumber()).thenReturn("1234");
+        when(row.getGroupIds()).thenReturn("4");
+        return row;
+    }
+}
@@ -0,0 +1,111 @@
+package com.bootgussy.dancecenterservice.service;
+
+import com.bootgussy.dancecenterservice.core.service.impl.TimetableSolver;
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimetableSolverTest {
+    private static final int MONDAY = 0;
+    private static final int TUESDAY = 24 * 60;
+
+    @Test
+    void solve_SharedTrainerAndHall_PlacesSessionsWithoutOverlap() {
+        TimetableSolver solver = new TimetableSolver();
+        Map<Long, Integer> halls = Map.of(1L, solver.resource("hall", 1L));
+        List<int[]> windows = List.of(window(MONDAY, 10, 12));
+        solver.addSessions(1L, 1, 60, resources(solver, 1L, 7L, 100L), halls, windows, 30);
+        solver.addSessions(2L, 1, 60, resources(solver, 2L, 7L, 200L), halls, windows, 30);
+
+        TimetableSolver.Result result = solver.solve(2, Duration.ofSeconds(5));
+
+        assertTrue(result.complete());
+        assertEquals(2, result.placements().size());
+        assertNotOverlapping(result.placements());
+    }
+
+    @Test
+    void solve_SharedStudent_UsesDifferentTimesInDifferentHalls() {
+        TimetableSolver solver = new TimetableSolver();
+        Map<Long, Integer> firstHall = Map.of(1L, solver.resource("hall", 1L));
+        Map<Long, Integer> secondHall = Map.of(2L, solver.resource("hall", 2L));
+        List<int[]> windows = List.of(window(MONDAY, 10, 12));
+        solver.addSessions(1L, 1, 60, resources(solver, 1L, 7L, 100L), firstHall, windows, 60);
+        solver.addSessions(2L, 1, 60, resources(solver, 2L, 8L, 100L), secondHall, windows, 60);
+
+        TimetableSolver.Result result = solver.solve(2, Duration.ofSeconds(5));
+
+        assertTrue(result.complete());
+        assertNotEquals(result.placements().get(0).startMinute(), result.placements().get(1).startMinute());
+    }
+
+    @Test
+    void solve_SeveralSessionsOfGroup_UsesDistinctDays() {
+        TimetableSolver solver = new TimetableSolver();
+        Map<Long, Integer> halls = Map.of(1L, solver.resource("hall", 1L));
+        solver.addSessions(1L, 2, 60, resources(solver, 1L, 7L, 100L), halls,
+                List.of(window(MONDAY, 10, 14), window(TUESDAY, 10, 14)), 60);
+
+        TimetableSolver.Result result = solver.solve(4, Duration.ofSeconds(5));
+
+        assertTrue(result.complete());
+        assertEquals(List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), result.placements().stream()
+                .map(TimetableSolver.Placement::dayOfWeek)
+                .sorted()
+                .toList());
+    }
+
+    @Test
+    void solve_OccupiedHall_SkipsExistingItems() {
+        TimetableSolver solver = new TimetableSolver();
+        int hall = solver.resource("hall", 1L);
+        solver.occupy(List.of(hall), 10 * 60, 11 * 60);
+        solver.addSessions(1L, 1, 60, resources(solver, 1L, 7L, 100L), Map.of(1L, hall),
+                List.of(window(MONDAY, 10, 12)), 30);
+
+        TimetableSolver.Result result = solver.solve(1, Duration.ofSeconds(5));
+
+        assertTrue(result.complete());
+        assertEquals(11 * 60, result.placements().get(0).startMinute());
+    }
+
+    @Test
+    void solve_NotEnoughRoom_ReturnsIncompleteResult() {
+        TimetableSolver solver = new TimetableSolver();
+        Map<Long, Integer> halls = Map.of(1L, solver.resource("hall", 1L));
+        List<int[]> windows = List.of(window(MONDAY, 10, 11));
+        IntStream.rangeClosed(1, 3).forEach(group -> solver.addSessions((long) group, 1, 60,
+                resources(solver, (long) group, (long) group, (long) group), halls, windows, 30));
+
+        TimetableSolver.Result result = solver.solve(2, Duration.ofSeconds(5));
+
+        assertFalse(result.complete());
+        assertEquals(1, result.placements().size());
+    }
+
+    private static List<Integer> resources(TimetableSolver solver, Long groupId, Long trainerId, Long studentId) {
+        return List.of(solver.resource("group", groupId),
+                solver.resource("trainer", trainerId),
+                solver.resource("student", studentId));
+    }
+
+    private static int[] window(int startOfDay, int fromHour, int toHour) {
+        return new int[] {startOfDay + fromHour * 60, startOfDay + toHour * 60};
+    }
+
+    private static void assertNotOverlapping(List<TimetableSolver.Placement> placements) {
+        List<TimetableSolver.Placement> sorted = new ArrayList<>(placements);
+        sorted.sort((first, second) -> Integer.compare(first.startMinute(), second.startMinute()));
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i - 1).endMinute() <= sorted.get(i).startMinute());
+        }
+    }
+}
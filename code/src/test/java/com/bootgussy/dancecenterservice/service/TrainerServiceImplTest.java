@@ -3,59 +3,99 @@ package com.bootgussy.dancecenterservice.service;
 import com.bootgussy.dancecenterservice.core.config.CacheConfig;
 import com.bootgussy.dancecenterservice.core.exception.AlreadyExistsException;
 import com.bootgussy.dancecenterservice.core.exception.ResourceNotFoundException;
+import com.bootgussy.dancecenterservice.core.model.Group;
+import com.bootgussy.dancecenterservice.core.model.Hall;
+import com.bootgussy.dancecenterservice.core.model.Role;
+import com.bootgussy.dancecenterservice.core.model.ScheduleChange;
+import com.bootgussy.dancecenterservice.core.model.ScheduleItem;
 import com.bootgussy.dancecenterservice.core.model.Trainer;
+import com.bootgussy.dancecenterservice.core.model.User;
+import com.bootgussy.dancecenterservice.core.model.snapshot.TrainerSnapshot;
+import com.bootgussy.dancecenterservice.core.repository.RoleRepository;
 import com.bootgussy.dancecenterservice.core.repository.TrainerRepository;
+import com.bootgussy.dancecenterservice.core.repository.UserRepository;
 import com.bootgussy.dancecenterservice.core.service.impl.TrainerServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import java.util.Collections;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import static org.junit.jupiter.api.Assertions.*;
+import java.util.function.Function;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TrainerServiceImplTest {
-
     @InjectMocks
     private TrainerServiceImpl trainerService;
 
     @Mock
     private TrainerRepository trainerRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @Mock
     private CacheConfig cacheConfig;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Role trainerRole;
+
     private Trainer trainer;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        trainer = new Trainer(1L, "Valera", "1234", "Electro", null);
+        trainerRole = new Role(2L, "TRAINER", null);
+        User user = new User(3L, "Valera", "secret", "1234", new ArrayList<>(List.of(trainerRole)));
+        trainer = new Trainer(1L, "Electro", null, user);
     }
 
     @Test
     void findTrainerById_ExistingTrainer_ReturnsTrainer() {
-        when(cacheConfig.getTrainer(trainer.getId())).thenReturn(null);
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.of(trainer));
+        TrainerRepository.TrainerRow row = row();
+        when(cacheConfig.getTrainer(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, TrainerSnapshot>>getArgument(1).apply(1L));
+        when(trainerRepository.findRowById(1L)).thenReturn(Optional.of(row));
 
-        Trainer foundTrainer = trainerService.findTrainerById(trainer.getId());
+        TrainerSnapshot foundTrainer = trainerService.findTrainerById(1L);
 
-        assertNotNull(foundTrainer);
-        assertEquals(trainer.getId(), foundTrainer.getId());
-        verify(cacheConfig).putTrainer(trainer.getId(), trainer);
+        assertEquals(new TrainerSnapshot(1L, 3L, "Valera", "1234", "Electro", List.of(4L, 5L)), foundTrainer);
     }
 
     @Test
     void findTrainerById_NonExistingTrainer_ThrowsException() {
-        when(cacheConfig.getTrainer(trainer.getId())).thenReturn(null);
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.empty());
+        when(cacheConfig.getTrainer(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<Long, TrainerSnapshot>>getArgument(1).apply(1L));
+        when(trainerRepository.findRowById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> trainerService.findTrainerById(trainer.getId())
+                () -> trainerService.findTrainerById(1L)
         );
 
         assertEquals("Trainer not found. ID: 1", exception.getMessage());
@@ -63,133 +103,138 @@ class TrainerServiceImplTest {
 
     @Test
     void findAllTrainers_ReturnsAllTrainers() {
-        when(trainerRepository.findAll()).thenReturn(Collections.singletonList(trainer));
+        TrainerRepository.TrainerRow row = row();
+        when(trainerRepository.findAllRowsByRole("TRAINER")).thenReturn(List.of(row));
 
-        var trainers = trainerService.findAllTrainers();
+        List<TrainerSnapshot> trainers = trainerService.findAllTrainers();
 
-        assertNotNull(trainers);
         assertEquals(1, trainers.size());
-        assertEquals(trainer, trainers.get(0));
+        assertEquals(1L, trainers.get(0).id());
+        assertEquals("Valera", trainers.get(0).name());
     }
 
     @Test
     void createTrainer_ValidTrainer_CreatesTrainer() {
-        when(trainerRepository.findByNameAndPhoneNumberAndDanceStyle(
-                trainer.getName(), trainer.getPhoneNumber(), trainer.getDanceStyle()))
-                .thenReturn(Collections.emptyList());
+        when(userRepository.findByPhoneNumber("1234")).thenReturn(Optional.empty());
+        when(roleRepository.findByName("TRAINER")).thenReturn(Optional.of(trainerRole));
+        when(passwordEncoder.encode("secret")).thenReturn("encoded");
+        when(trainerRepository.findByUserId(any())).thenReturn(Optional.empty());
         when(trainerRepository.save(trainer)).thenReturn(trainer);
 
         Trainer createdTrainer = trainerService.createTrainer(trainer);
 
         assertNotNull(createdTrainer);
-        assertEquals(trainer.getId(), createdTrainer.getId());
-        verify(cacheConfig).putTrainer(trainer.getId(), createdTrainer);
+        assertEquals("encoded", createdTrainer.getUser().getPassword());
+        assertEquals(List.of(trainerRole), createdTrainer.getUser().getRoles());
+        verify(cacheConfig).putTrainer(1L, TrainerSnapshot.from(createdTrainer));
     }
 
     @Test
     void createTrainer_TrainerAlreadyExists_ThrowsException() {
-        when(trainerRepository.findByNameAndPhoneNumberAndDanceStyle(
-                trainer.getName(), trainer.getPhoneNumber(), trainer.getDanceStyle()))
-                .thenReturn(Collections.singletonList(trainer));
+        when(userRepository.findByPhoneNumber("1234")).thenReturn(Optional.of(trainer.getUser()));
+        when(roleRepository.findByName("TRAINER")).thenReturn(Optional.of(trainerRole));
+        when(trainerRepository.findByUserId(3L)).thenReturn(Optional.of(trainer));
 
         AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
             trainerService.createTrainer(trainer);
         });
 
-        assertEquals("Trainer already exists. Name: Valera, Phone number: 1234, Dance style: Electro", exception.getMessage());
-    }
-
-    @Test
-    void createTrainer_NullName_ThrowsException() {
-        trainer.setName(null);
-
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
-            trainerService.createTrainer(trainer);
-        });
-
-        assertEquals("Incorrect JSON. All fields must be filled (name, phoneNumber, danceStyle).", exception.getMessage());
+        assertEquals("Trainer record already exists for this user.", exception.getMessage());
+        verify(trainerRepository, never()).save(any());
     }
 
     @Test
-    void createTrainer_NullPhoneNumber_ThrowsException() {
-        trainer.setPhoneNumber(null);
+    void createTrainer_NullDanceStyle_ThrowsException() {
+        trainer.setDanceStyle(null);
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             trainerService.createTrainer(trainer);
         });
 
-        assertEquals("Incorrect JSON. All fields must be filled (name, phoneNumber, danceStyle).", exception.getMessage());
+        assertEquals("Incorrect data: User information and dance style are required.", exception.getMessage());
     }
 
     @Test
-    void createTrainer_NullDanceStyle_ThrowsException() {
-        trainer.setDanceStyle(null);
+    void createTrainer_MissingRole_ThrowsException() {
+        when(userRepository.findByPhoneNumber("1234")).thenReturn(Optional.empty());
+        when(roleRepository.findByName("TRAINER")).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             trainerService.createTrainer(trainer);
         });
 
-        assertEquals("Incorrect JSON. All fields must be filled (name, phoneNumber, danceStyle).", exception.getMessage());
+        assertEquals("Role TRAINER not found", exception.getMessage());
     }
 
     @Test
     void updateTrainer_ValidTrainer_UpdatesTrainer() {
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.of(trainer));
-        when(trainerRepository.findByNameAndPhoneNumberAndDanceStyle(
-                trainer.getName(), trainer.getPhoneNumber(), trainer.getDanceStyle()))
-                .thenReturn(Collections.emptyList());
+        User changedUser = new User(3L, "Valerii", "", "4321", null);
+        Trainer changed = new Trainer(1L, "Hip-hop", null, changedUser);
+        when(trainerRepository.findById(1L)).thenReturn(Optional.of(trainer));
         when(trainerRepository.save(trainer)).thenReturn(trainer);
 
-        Trainer updatedTrainer = trainerService.updateTrainer(trainer);
+        Trainer updatedTrainer = trainerService.updateTrainer(changed);
 
-        assertNotNull(updatedTrainer);
-        assertEquals(trainer.getId(), updatedTrainer.getId());
-        verify(cacheConfig).putTrainer(trainer.getId(), updatedTrainer);
+        assertEquals("Valerii", updatedTrainer.getUser().getName());
+        assertEquals("4321", updatedTrainer.getUser().getPhoneNumber());
+        assertEquals("secret", updatedTrainer.getUser().getPassword());
+        assertEquals("Hip-hop", updatedTrainer.getDanceStyle());
+        verify(cacheConfig).putTrainer(1L, TrainerSnapshot.from(updatedTrainer));
     }
 
     @Test
     void updateTrainer_TrainerNotFound_ThrowsException() {
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.empty());
+        when(trainerRepository.findById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             trainerService.updateTrainer(trainer);
         });
 
-        assertEquals("The trainer does not exist. ID: 1, Name: Valera, Phone number: 1234, Dance style: Electro", exception.getMessage());
-    }
-
-    @Test
-    void updateTrainer_TrainerAlreadyExists_ThrowsException() {
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.of(trainer));
-        when(trainerRepository.findByNameAndPhoneNumberAndDanceStyle(
-                trainer.getName(), trainer.getPhoneNumber(), trainer.getDanceStyle()))
-                .thenReturn(Collections.singletonList(trainer));
-
-        AlreadyExistsException exception = assertThrows(AlreadyExistsException.class, () -> {
-            trainerService.updateTrainer(trainer);
-        });
-
-        assertEquals("Trainer already exists. Name: Valera, Phone number: 1234, Dance style: Electro", exception.getMessage());
+        assertEquals("Trainer not found with ID: 1", exception.getMessage());
     }
 
     @Test
-    void deleteTrainer_ValidId_DeletesTrainer() {
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.of(trainer));
+    void deleteTrainer_ValidId_DeletesTrainerAndReportsCascade() {
+        Group group = new Group(4L, "Beg", trainer, List.of(), null);
+        group.setScheduleItems(List.of(new ScheduleItem(6L, new Hall(7L, "Main Hall", 200, null), group,
+                DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        trainer.setGroups(List.of(group));
+        TrainerSnapshot snapshot = TrainerSnapshot.from(trainer);
+        when(trainerRepository.findById(1L)).thenReturn(Optional.of(trainer));
+        when(roleRepository.findByName("TRAINER")).thenReturn(Optional.of(trainerRole));
 
-        trainerService.deleteTrainer(trainer.getId());
+        trainerService.deleteTrainer(1L);
 
         verify(trainerRepository).delete(trainer);
-        verify(cacheConfig).removeTrainer(trainer.getId());
+        verify(cacheConfig).deleteTrainer(snapshot);
+        assertFalse(trainer.getUser().getRoles().contains(trainerRole));
+        ArgumentCaptor<ScheduleChange> changes = ArgumentCaptor.forClass(ScheduleChange.class);
+        verify(eventPublisher, times(2)).publishEvent(changes.capture());
+        assertEquals(List.of(ScheduleChange.Type.GROUP, ScheduleChange.Type.SCHEDULE_ITEM),
+                changes.getAllValues().stream().map(ScheduleChange::type).toList());
+        assertEquals(List.of(4L, 6L), changes.getAllValues().stream().map(ScheduleChange::id).toList());
+        changes.getAllValues().forEach(change -> assertEquals(ScheduleChange.Action.DELETED, change.action()));
     }
 
     @Test
     void deleteTrainer_NonExistingId_ThrowsException() {
-        when(trainerRepository.findById(trainer.getId())).thenReturn(Optional.empty());
+        when(trainerRepository.findById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> trainerService.deleteTrainer(trainer.getId())
+                () -> trainerService.deleteTrainer(1L)
         );
 
         assertEquals("Trainer not found. ID: 1", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    private static TrainerRepository.TrainerRow row() {
+        TrainerRepository.TrainerRow row = mock(TrainerRepository.TrainerRow.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getUserId()).thenReturn(3L);
+        when(row.getName()).thenReturn("Valera");
+        when(row.getPhoneNumber()).thenReturn("1234");
+        when(row.getDanceStyle()).thenReturn("Electro");
+        when(row.getGroupIds()).thenReturn("4,5");
+        return row;
+    }
+}